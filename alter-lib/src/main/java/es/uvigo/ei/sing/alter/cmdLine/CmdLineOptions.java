@@ -18,13 +18,17 @@
 package es.uvigo.ei.sing.alter.cmdLine;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import org.kohsuke.args4j.Option;
 
 /**
  * Defines the options to be processed by args4j when ALTER is executed
- * from the command line. Java annotations are used.
+ * from the command line. Java annotations are used. Several outputs can be
+ * written from the same input repeating "-o", "-op" and "-of" (and "-oo" if
+ * they are not for the same operating system).
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.3
  */
 public class CmdLineOptions
 {
@@ -82,28 +86,37 @@ public class CmdLineOptions
     aliases = "--collapseLimit")
     int limit = 0;
     /**
-     * Output file.
+     * Number of threads used when reading, collapsing and writing (default is 1).
+     * "-ct" and "--collapseThreads" are kept as deprecated aliases.
      */
-    @Option(name = "-o", usage = "Output file.", required = true, aliases = "--output")
-    File out;
+    @Option(name = "-t", usage = "Number of threads used when reading, collapsing and writing (default is 1).",
+    aliases = {"--threads", "-ct", "--collapseThreads"})
+    int threads = 1;
     /**
-     * Output operating system (Linux, MacOS or Windows).
+     * Output files.
      */
-    @Option(name = "-oo", usage = "Output operating system (Linux, MacOS or Windows).",
+    @Option(name = "-o", usage = "Output file (repeat -o, -op and -of to write several outputs).",
+    required = true, aliases = "--output")
+    List<File> out = new ArrayList<File>();
+    /**
+     * Output operating systems (Linux, MacOS or Windows), one for all the
+     * outputs or one per output.
+     */
+    @Option(name = "-oo", usage = "Output operating system (Linux, MacOS or Windows), once for all the outputs or once per output.",
     required = true, aliases = "--outputOS")
-    String outOS;
+    List<String> outOS = new ArrayList<String>();
     /**
      * Output program (jModelTest, MrBayes, PAML, PAUP, PhyML, ProtTest, RAxML, TCS, CodABC, BioEdit, MEGA, dnaSP, Se-Al, Mesquite, SplitsTree, Clustal, MAFFT, MUSCLE, PROBCONS, TCoffee, Gblocks, SeaView, trimAl or GENERAL).
      */
     @Option(name = "-op", usage = "Output program (jModelTest, MrBayes, PAML, PAUP, PhyML, ProtTest, RAxML, TCS, CodABC, BioEdit, MEGA, dnaSP, Se-Al, Mesquite, SplitsTree, Clustal, MAFFT, MUSCLE, PROBCONS, TCoffee, Gblocks, SeaView, trimAl or GENERAL)",
     required = true, aliases = "--outputProgram")
-    String outProgram;
+    List<String> outProgram = new ArrayList<String>();
     /**
-     * Output format (ALN, FASTA, GDE, MEGA, MSF, NEXUS, PHYLIP or PIR).
+     * Output formats (ALN, FASTA, GDE, MEGA, MSF, NEXUS, PHYLIP or PIR).
      */
     @Option(name = "-of", usage = "Output format (ALN, FASTA, GDE, MEGA, MSF, NEXUS, PHYLIP or PIR).",
     required = true, aliases = "--outputFormat")
-    String outFormat;
+    List<String> outFormat = new ArrayList<String>();
     /**
      * Lower case output.
      */
@@ -17,11 +17,11 @@
 
 package es.uvigo.ei.sing.alter.cmdLine;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,12 +31,16 @@ import org.kohsuke.args4j.CmdLineParser;
 import es.uvigo.ei.sing.alter.converter.Converter;
 import es.uvigo.ei.sing.alter.converter.DefaultFactory;
 import es.uvigo.ei.sing.alter.converter.Factory;
+import es.uvigo.ei.sing.alter.converter.FanOutConverter;
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.reader.InputException;
+import es.uvigo.ei.sing.alter.reader.Reader;
+import es.uvigo.ei.sing.alter.writer.Writer;
 
 /**
  * Main class to execute ALTER from the command line.
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.3
  */
 public class Convert
 {
@@ -78,65 +82,73 @@ public class Convert
                 parser.printUsage(System.err);
                 return;
             }
-
-            //Load input file
-            StringBuffer in = new StringBuffer();
-            try
-            {
-                BufferedReader br = new BufferedReader(new FileReader(opts.in));
-                String s;
-                while ((s = br.readLine()) != null)
-                    in.append(s + "\r\n");
-                br.close();
-            }
-
-            catch (FileNotFoundException ex)
-            {
-                logger.log(Level.SEVERE, "Input file " + opts.in + " not found.");
-                return;
-            }
-            catch (IOException ex)
+            if (opts.outProgram.size() != opts.out.size() || opts.outFormat.size() != opts.out.size()
+                    || (opts.outOS.size() != 1 && opts.outOS.size() != opts.out.size()))
             {
-                logger.log(Level.SEVERE, "Failure reading input file " + opts.in + ":\r\n" + ex.getMessage());
+                System.err.println("Output program and format required for every output file.");
+                parser.printUsage(System.err);
                 return;
             }
-            //Get converter and convert
-            Factory factory = new DefaultFactory();
-            Converter converter;
-            String out = "";
 
+            Factory factory = new DefaultFactory();
             try
             {
-                converter = factory.getConverter(opts.inOS, opts.inProgram, opts.inFormat, opts.autodetect,
-                        opts.collapse, opts.gaps, opts.missing, opts.limit,
-                        opts.outOS, opts.outProgram, opts.outFormat, opts.lowerCase,
-                        opts.residueNumbers, opts.sequential, opts.match, logger.getName());
-                out = converter.convert(in.toString());
+                //Get converter and convert to the output file
+                if (opts.out.size() == 1)
+                {
+                    Converter converter = factory.getConverter(opts.inOS, opts.inProgram, opts.inFormat, opts.autodetect,
+                            opts.collapse, opts.gaps, opts.missing, opts.limit, opts.threads,
+                            opts.outOS.get(0), opts.outProgram.get(0), opts.outFormat.get(0), opts.lowerCase,
+                            opts.residueNumbers, opts.sequential, opts.match, logger.getName());
+                    converter.convert(opts.in.toPath(), opts.out.get(0).toPath());
+                }
+                //Parse the input once and write every output file
+                else
+                {
+                    Reader reader = factory.getReader(opts.inOS, opts.inProgram, opts.inFormat, opts.autodetect,
+                            logger.getName());
+                    reader.setThreads(opts.threads);
+                    List<Writer> writers = new ArrayList<Writer>(opts.out.size());
+                    List<Path> out = new ArrayList<Path>(opts.out.size());
+                    for (int i = 0; i < opts.out.size(); i++)
+                    {
+                        String os = opts.outOS.get(opts.outOS.size() == 1 ? 0 : i);
+                        writers.add(factory.getWriter(os, opts.outProgram.get(i), opts.outFormat.get(i),
+                                opts.lowerCase, opts.residueNumbers, opts.sequential, opts.match, logger.getName()));
+                        out.add(opts.out.get(i).toPath());
+                    }
+                    FanOutConverter converter = new FanOutConverter(reader, writers,
+                            opts.collapse, opts.gaps, opts.missing, opts.limit, opts.threads, logger.getName());
+                    converter.convert(opts.in.toPath(), out);
+                }
             }
             catch (UnsupportedOperationException ex)
             {
                 logger.log(Level.SEVERE, ex.getMessage());
-                return;
             }
             catch (ParseException ex)
             {
                 logger.log(Level.SEVERE, "Failure parsing source file:\r\n" + ex.getMessage());
-                return;
             }
-
-            //Output to file
-            try
+            catch (InputException ex)
             {
-                FileWriter fw = new FileWriter(opts.out);
-                fw.write(out);
-                fw.close();
+                if (ex.getCause() instanceof NoSuchFileException)
+                    logger.log(Level.SEVERE, "Input file " + opts.in + " not found.");
+                else
+                    logger.log(Level.SEVERE, "Failure reading input file " + opts.in + ":\r\n" + ex.getMessage());
             }
             catch (IOException ex)
             {
+                //The readers throw InputExceptions, so the rest come from the output
                 logger.log(Level.SEVERE, "Failure writing output file:\r\n" + ex.getMessage());
                 System.err.println(ex.getMessage());
+                //Other output files that could not be written either
+                for (Throwable other : ex.getSuppressed())
+                {
+                    logger.log(Level.SEVERE, "Failure writing output file:\r\n" + other.getMessage());
+                    System.err.println(other.getMessage());
+                }
             }
-
         }
     }
 }
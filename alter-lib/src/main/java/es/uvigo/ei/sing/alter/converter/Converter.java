@@ -17,12 +17,16 @@
 
 package es.uvigo.ei.sing.alter.converter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
 import es.uvigo.ei.sing.alter.parser.ParseException;
 
 /**
- * Defines the only method needed to implement a converter.
+ * Defines the methods needed to implement a converter.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.4
  */
 public interface Converter
 {
@@ -33,4 +37,35 @@ public interface Converter
      * @throws ParseException If an error occurs while parsing the input string.
      */
     public String convert(String in) throws ParseException;
+
+    /**
+     * Takes as input a stream of UTF-8 text and returns a converted string.
+     * The stream is read until its end, but it is not closed.
+     * @param in Input stream.
+     * @return Converted string.
+     * @throws ParseException If an error occurs while parsing the input stream.
+     * @throws IOException If the input stream cannot be read.
+     */
+    public String convert(InputStream in) throws ParseException, IOException;
+
+    /**
+     * Takes as input a file and returns a converted string.
+     * @param in Input file.
+     * @return Converted string.
+     * @throws ParseException If an error occurs while parsing the input file.
+     * @throws IOException If the input file cannot be read.
+     */
+    public String convert(Path in) throws ParseException, IOException;
+
+    /**
+     * Takes as input a file and writes the converted MSA to an output file in
+     * UTF-8, as it is formatted. The output file is only created once the
+     * input has been parsed.
+     * @param in Input file.
+     * @param out Output file.
+     * @throws ParseException If an error occurs while parsing the input file.
+     * @throws IOException If the input file cannot be read or the output file
+     * cannot be written.
+     */
+    public void convert(Path in, Path out) throws ParseException, IOException;
 }
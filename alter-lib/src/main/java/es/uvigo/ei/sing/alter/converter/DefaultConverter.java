@@ -17,6 +17,12 @@
 
 package es.uvigo.ei.sing.alter.converter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,7 +34,7 @@ import es.uvigo.ei.sing.alter.writer.Writer;
 /**
  * Implements the default converter.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.5
  */
 public class DefaultConverter implements Converter
 {
@@ -48,6 +54,11 @@ public class DefaultConverter implements Converter
      * Connection limit (sequences differing at <= l sites will be collapsed) (default is l=0).
      */
     private int limit;
+    /**
+     * Number of threads used when collapsing (default is 1). Readers and
+     * writers have their own number of threads.
+     */
+    private int threads;
     /**
      * Logger to register information messages.
      */
@@ -72,6 +83,22 @@ public class DefaultConverter implements Converter
      * @param logger Name of the logger to instantiate.
      */
     public DefaultConverter(Reader reader, Writer writer, boolean collapse, boolean gapsAsMissing, boolean countMissing, int limit, String logger)
+    {
+        this(reader, writer, collapse, gapsAsMissing, countMissing, limit, 1, logger);
+    }
+
+    /**
+     * Class constructor
+     * @param reader Reader to parse the input MSA.
+     * @param writer Writer to output the converted MSA.
+     * @param collapse Collapse sequences to haplotypes.
+     * @param gapsAsMissing Treat gaps as missing characters when collapsing.
+     * @param countMissing Count missing characters as differences when collapsing.
+     * @param limit Connection limit (sequences differing at <= l sites will be collapsed) (default is l=0).
+     * @param threads Number of threads used when collapsing (default is 1).
+     * @param logger Name of the logger to instantiate.
+     */
+    public DefaultConverter(Reader reader, Writer writer, boolean collapse, boolean gapsAsMissing, boolean countMissing, int limit, int threads, String logger)
     {
         this.reader = reader;
         this.writer = writer;
@@ -79,6 +106,7 @@ public class DefaultConverter implements Converter
         this.gapsAsMissing = gapsAsMissing;
         this.countMissing = countMissing;
         this.limit = limit;
+        this.threads = threads;
         this.logger = Logger.getLogger(logger);
     }
 
@@ -90,13 +118,78 @@ public class DefaultConverter implements Converter
      */
     public String convert(String in) throws ParseException
     {
-        MSA msa = reader.read(in);
+        try (MSA msa = reader.read(in))
+        {
+            return writer.write(collapse(msa));
+        }
+    }
+
+    /**
+     * Takes as input a stream of UTF-8 text and returns a converted string.
+     * The stream is read until its end, but it is not closed.
+     * @param in Input stream.
+     * @return Converted string.
+     * @throws ParseException If an error occurs while parsing the input stream.
+     * @throws IOException If the input stream cannot be read.
+     */
+    public String convert(InputStream in) throws ParseException, IOException
+    {
+        try (MSA msa = reader.read(in))
+        {
+            return writer.write(collapse(msa));
+        }
+    }
+
+    /**
+     * Takes as input a file and returns a converted string.
+     * @param in Input file.
+     * @return Converted string.
+     * @throws ParseException If an error occurs while parsing the input file.
+     * @throws IOException If the input file cannot be read.
+     */
+    public String convert(Path in) throws ParseException, IOException
+    {
+        try (MSA msa = reader.read(in))
+        {
+            return writer.write(collapse(msa));
+        }
+    }
+
+    /**
+     * Takes as input a file and writes the converted MSA to an output file in
+     * UTF-8, as it is formatted. The output file is only created once the
+     * input has been parsed.
+     * @param in Input file.
+     * @param out Output file.
+     * @throws ParseException If an error occurs while parsing the input file.
+     * @throws IOException If the input file cannot be read or the output file
+     * cannot be written.
+     */
+    public void convert(Path in, Path out) throws ParseException, IOException
+    {
+        try (MSA msa = reader.read(in))
+        {
+            MSA collapsed = collapse(msa);
+            try (OutputStream os = Files.newOutputStream(out))
+            {
+                writer.write(collapsed, os, StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    /**
+     * Collapses a parsed MSA to haplotypes, if enabled.
+     * @param msa Parsed MSA.
+     * @return Collapsed MSA, or the parsed one if collapsing is disabled.
+     */
+    private MSA collapse(MSA msa)
+    {
         if (collapse)
         {
             logger.log(Level.INFO,"*** haplotype collapse begin ***");
-            msa = msa.collapse(gapsAsMissing, countMissing, limit, logger.getName());
+            msa = msa.collapse(gapsAsMissing, countMissing, limit, threads, logger.getName());
             logger.log(Level.INFO,"*** haplotype collapse end ***");
         }
-        return writer.write(msa);
+        return msa;
     }
 }
@@ -23,7 +23,7 @@ import es.uvigo.ei.sing.alter.writer.Writer;
 /**
  * Defines the methods needed to implement a converter factory.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 public interface Factory
 {
@@ -56,6 +56,35 @@ public interface Factory
             String logger)
             throws UnsupportedOperationException;
 
+    /**
+     * Returns an adequate converter for the specified options.
+     * @param inO Input operating system.
+     * @param inP Input program.
+     * @param inF Input format.
+     * @param autodetect Format autodetection.
+     * @param collapse Collapse sequences to haplotypes.
+     * @param gapsAsMissing Treat gaps as missing data when collapsing.
+     * @param countMissing Count missing data as differences when collapsing.
+     * @param limit Connection limit (sequences differing at <= l sites will be collapsed).
+     * @param threads Number of threads used when reading, collapsing and writing.
+     * @param outO Output operating system.
+     * @param outP Output program.
+     * @param outF Output format.
+     * @param lowerCase Lower case output.
+     * @param resNumbers Output residue numbers (only ALN format).
+     * @param sequential Sequential output (only NEXUS and PHYLIP formats).
+     * @param match Output match characters.
+     * @param logger Name of the logger to instantiate.
+     * @return Adequate converter for the specified options.
+     * @throws UnsupportedOperationException If the options combination is not possible.
+     */
+    public Converter getConverter(String inO, String inP, String inF, boolean autodetect,
+            boolean collapse, boolean gapsAsMissing, boolean countMissing, int limit, int threads,
+            String outO, String outP, String outF,
+            boolean lowerCase, boolean resNumbers, boolean sequential, boolean match,
+            String logger)
+            throws UnsupportedOperationException;
+
     /**
      * Returns an adequate reader for the specified input options.
      * @param inO Input operating system.
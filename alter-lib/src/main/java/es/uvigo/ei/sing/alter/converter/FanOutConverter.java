@@ -0,0 +1,315 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.converter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.reader.Reader;
+import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.writer.Writer;
+
+/**
+ * Converter with several outputs. The input MSA is parsed and collapsed only
+ * once and then it is written by every writer, for instance to get the input
+ * files of several programs in a single run. With several threads, the
+ * outputs are written concurrently.
+ * @author Daniel Gomez Blanco
+ * @version 1.2
+ */
+public class FanOutConverter
+{
+    /**
+     * Collapse sequences to haplotypes.
+     */
+    private boolean collapse;
+    /**
+     * Treat gaps as missing characters when collapsing.
+     */
+    private boolean gapsAsMissing;
+    /**
+     * Count missing characters as differences when collapsing.
+     */
+    private boolean countMissing;
+    /**
+     * Connection limit (sequences differing at <= l sites will be collapsed) (default is l=0).
+     */
+    private int limit;
+    /**
+     * Number of threads used when collapsing and writing the outputs.
+     */
+    private int threads;
+    /**
+     * Logger to register information messages.
+     */
+    private Logger logger;
+    /**
+     * Reader to parse the input MSA.
+     */
+    private Reader reader;
+    /**
+     * Writers to output the converted MSA.
+     */
+    private List<Writer> writers;
+
+    /**
+     * Class constructor
+     * @param reader Reader to parse the input MSA.
+     * @param writers Writers to output the converted MSA.
+     * @param collapse Collapse sequences to haplotypes.
+     * @param gapsAsMissing Treat gaps as missing characters when collapsing.
+     * @param countMissing Count missing characters as differences when collapsing.
+     * @param limit Connection limit (sequences differing at <= l sites will be collapsed) (default is l=0).
+     * @param threads Number of threads used when collapsing and writing the
+     * outputs (a single thread is used if lower than 2).
+     * @param logger Name of the logger to instantiate.
+     */
+    public FanOutConverter(Reader reader, List<Writer> writers, boolean collapse, boolean gapsAsMissing, boolean countMissing, int limit, int threads, String logger)
+    {
+        this.reader = reader;
+        this.writers = new ArrayList<Writer>(writers);
+        this.collapse = collapse;
+        this.gapsAsMissing = gapsAsMissing;
+        this.countMissing = countMissing;
+        this.limit = limit;
+        this.threads = threads;
+        this.logger = Logger.getLogger(logger);
+    }
+
+    /**
+     * Takes as input a string and returns the strings converted by every
+     * writer.
+     * @param in Input string.
+     * @return Converted strings, in the same order as the writers.
+     * @throws ParseException If an error occurs while parsing the input string.
+     */
+    public List<String> convert(String in) throws ParseException
+    {
+        try (MSA parsed = reader.read(in))
+        {
+            return write(collapse(parsed));
+        }
+    }
+
+    /**
+     * Returns the strings converted by every writer.
+     * @param msa MSA to write.
+     * @return Converted strings, in the same order as the writers.
+     */
+    private List<String> write(final MSA msa)
+    {
+        List<Callable<String>> tasks = new ArrayList<Callable<String>>(writers.size());
+        for (final Writer writer : writers)
+        {
+            tasks.add(new Callable<String>()
+            {
+                @Override
+                public String call()
+                {
+                    return writer.write(msa);
+                }
+            });
+        }
+
+        try
+        {
+            return invoke(tasks);
+        }
+        catch (IOException ex)
+        {
+            //Writing to a string never throws IOException
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Takes as input a file and writes the converted MSA to an output file per
+     * writer in UTF-8, as it is formatted. The output files are only created
+     * once the input has been parsed, and all of them are written even if
+     * any other fails.
+     * @param in Input file.
+     * @param out Output files, in the same order as the writers.
+     * @throws ParseException If an error occurs while parsing the input file.
+     * @throws IOException If the input file cannot be read or any output file
+     * cannot be written (the first error is thrown).
+     * @throws IllegalArgumentException If the number of output files and
+     * writers are not equal.
+     */
+    public void convert(Path in, List<Path> out) throws ParseException, IOException
+    {
+        if (out.size() != writers.size())
+            throw new IllegalArgumentException("An output file is required for every writer.");
+
+        try (MSA parsed = reader.read(in))
+        {
+            write(collapse(parsed), out);
+        }
+    }
+
+    /**
+     * Writes an MSA to an output file per writer.
+     * @param msa MSA to write.
+     * @param out Output files, in the same order as the writers.
+     * @throws IOException If any output file cannot be written (the first
+     * error is thrown).
+     */
+    private void write(final MSA msa, List<Path> out) throws IOException
+    {
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(writers.size());
+        for (int i = 0; i < writers.size(); i++)
+        {
+            final Writer writer = writers.get(i);
+            final Path file = out.get(i);
+            tasks.add(new Callable<Void>()
+            {
+                @Override
+                public Void call() throws IOException
+                {
+                    try (OutputStream os = Files.newOutputStream(file))
+                    {
+                        writer.write(msa, os, StandardCharsets.UTF_8);
+                    }
+                    return null;
+                }
+            });
+        }
+        invoke(tasks);
+    }
+
+    /**
+     * Collapses a parsed MSA to haplotypes, if enabled.
+     * @param msa Parsed MSA.
+     * @return Collapsed MSA, or the parsed one if collapsing is disabled.
+     */
+    private MSA collapse(MSA msa)
+    {
+        if (collapse)
+        {
+            logger.log(Level.INFO,"*** haplotype collapse begin ***");
+            msa = msa.collapse(gapsAsMissing, countMissing, limit, threads, logger.getName());
+            logger.log(Level.INFO,"*** haplotype collapse end ***");
+        }
+        return msa;
+    }
+
+    /**
+     * Runs the tasks that write the outputs, concurrently if several threads
+     * are used. Every task is run even if any other fails.
+     * @param tasks Tasks to run, one per writer.
+     * @return Results of the tasks, in the same order.
+     * @throws IOException First error thrown by the tasks (the others are
+     * added to it as suppressed), or if the current thread is interrupted.
+     */
+    private <T> List<T> invoke(List<Callable<T>> tasks) throws IOException
+    {
+        List<T> results = new ArrayList<T>(tasks.size());
+        Throwable error = null;
+
+        if (threads < 2 || tasks.size() < 2)
+        {
+            for (Callable<T> task : tasks)
+            {
+                try
+                {
+                    results.add(task.call());
+                }
+                catch (Exception ex)
+                {
+                    error = suppress(error, ex);
+                }
+            }
+        }
+        else
+        {
+            ForkJoinPool pool = new ForkJoinPool(Math.min(threads, tasks.size()));
+            try
+            {
+                for (Future<T> result : pool.invokeAll(tasks))
+                {
+                    try
+                    {
+                        results.add(result.get());
+                    }
+                    catch (ExecutionException ex)
+                    {
+                        error = suppress(error, cause(ex));
+                    }
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing the outputs.");
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+
+        if (error instanceof IOException)
+            throw (IOException) error;
+        if (error instanceof RuntimeException)
+            throw (RuntimeException) error;
+        if (error instanceof Error)
+            throw (Error) error;
+        if (error != null)
+            throw new IllegalStateException(error);
+        return results;
+    }
+
+    /**
+     * Returns the error thrown by a parallel task. The pool wraps checked
+     * exceptions in runtime exceptions, which are removed.
+     * @param ex Exception thrown when getting the result of the task.
+     * @return Error thrown by the task.
+     */
+    private static Throwable cause(ExecutionException ex)
+    {
+        Throwable cause = ex.getCause();
+        while (cause.getClass() == RuntimeException.class && cause.getCause() != null)
+            cause = cause.getCause();
+        return cause;
+    }
+
+    /**
+     * Keeps the first error of the tasks and adds the rest to it.
+     * @param first First error so far (null if there is none).
+     * @param next New error.
+     * @return First error.
+     */
+    private static Throwable suppress(Throwable first, Throwable next)
+    {
+        if (first == null)
+            return next;
+        first.addSuppressed(next);
+        return first;
+    }
+}
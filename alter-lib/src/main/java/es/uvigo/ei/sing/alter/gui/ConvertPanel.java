@@ -107,6 +107,15 @@ public class ConvertPanel extends javax.swing.JPanel
     {
         return collapseMissing.isSelected();
     }
+
+    /**
+     * Returns the number of threads used to collapse.
+     * @return Number of threads used to collapse.
+     */
+    public int getCollapseThreads()
+    {
+        return ((Integer) collapseThreads.getModel().getValue()).intValue();
+    }
     /**
      * Returns the selected output operating system.
      * @return Selected output operating system.
@@ -202,6 +211,8 @@ public class ConvertPanel extends javax.swing.JPanel
         collapseLimit = new javax.swing.JSpinner();
         collapseLimitLabel = new javax.swing.JLabel();
         collapseMissing = new javax.swing.JCheckBox();
+        collapseThreads = new javax.swing.JSpinner();
+        collapseThreadsLabel = new javax.swing.JLabel();
 
         setName("Convert MSA"); // NOI18N
 
@@ -378,6 +389,12 @@ public class ConvertPanel extends javax.swing.JPanel
         collapseMissing.setText("Count missing data as differences");
         collapseMissing.setEnabled(false);
 
+        collapseThreads.setModel(new javax.swing.SpinnerNumberModel(Integer.valueOf(Runtime.getRuntime().availableProcessors()), Integer.valueOf(1), null, Integer.valueOf(1)));
+        collapseThreads.setEnabled(false);
+
+        collapseThreadsLabel.setText("Threads");
+        collapseThreadsLabel.setEnabled(false);
+
         javax.swing.GroupLayout collapsePanelLayout = new javax.swing.GroupLayout(collapsePanel);
         collapsePanel.setLayout(collapsePanelLayout);
         collapsePanelLayout.setHorizontalGroup(
@@ -390,8 +407,12 @@ public class ConvertPanel extends javax.swing.JPanel
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
                         .addComponent(collapseLimitLabel)
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
-                        .addComponent(collapseLimit, javax.swing.GroupLayout.DEFAULT_SIZE, 125, Short.MAX_VALUE)
-                        .addGap(93, 93, 93))
+                        .addComponent(collapseLimit, javax.swing.GroupLayout.DEFAULT_SIZE, 60, Short.MAX_VALUE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                        .addComponent(collapseThreadsLabel)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(collapseThreads, javax.swing.GroupLayout.DEFAULT_SIZE, 60, Short.MAX_VALUE)
+                        .addGap(35, 35, 35))
                     .addGroup(collapsePanelLayout.createSequentialGroup()
                         .addComponent(collapseGaps)
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
@@ -404,7 +425,9 @@ public class ConvertPanel extends javax.swing.JPanel
                 .addGroup(collapsePanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
                     .addComponent(collapse)
                     .addComponent(collapseLimitLabel)
-                    .addComponent(collapseLimit, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                    .addComponent(collapseLimit, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(collapseThreadsLabel)
+                    .addComponent(collapseThreads, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                 .addGroup(collapsePanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
                     .addComponent(collapseGaps)
@@ -710,6 +733,8 @@ public class ConvertPanel extends javax.swing.JPanel
                     collapseLimit.setEnabled(true);
                     collapseGaps.setEnabled(true);
                     collapseMissing.setEnabled(true);
+                    collapseThreadsLabel.setEnabled(true);
+                    collapseThreads.setEnabled(true);
                 }
                 else
                 {
@@ -717,6 +742,8 @@ public class ConvertPanel extends javax.swing.JPanel
                     collapseLimit.setEnabled(false);
                     collapseGaps.setEnabled(false);
                     collapseMissing.setEnabled(false);
+                    collapseThreadsLabel.setEnabled(false);
+                    collapseThreads.setEnabled(false);
                 }
             }
         });
@@ -768,6 +795,8 @@ public class ConvertPanel extends javax.swing.JPanel
     private javax.swing.JLabel collapseLimitLabel;
     private javax.swing.JCheckBox collapseMissing;
     private javax.swing.JPanel collapsePanel;
+    private javax.swing.JSpinner collapseThreads;
+    private javax.swing.JLabel collapseThreadsLabel;
     private javax.swing.JCheckBox inputAutodetect;
     private javax.swing.JComboBox inputFormat;
     private javax.swing.JLabel inputFormatLabel;
@@ -1029,6 +1029,7 @@ public class MainFrame extends javax.swing.JFrame
                 boolean gaps = convertPanel.getCollapseGaps();
                 boolean missing = convertPanel.getCollapseMissing();
                 int limit = convertPanel.getCollapseLimit();
+                int threads = convertPanel.getCollapseThreads();
                 String out = "";
                 String outO = convertPanel.getOutputOS();
                 String outP = convertPanel.getOutputProgram();
@@ -1045,7 +1046,7 @@ public class MainFrame extends javax.swing.JFrame
                 try
                 {
                     converter = factory.getConverter(inO, inP, inF, autodetect,
-                            collapse, gaps, missing, limit,
+                            collapse, gaps, missing, limit, threads,
                             outO, outP, outF, lower, numbers, sequential, match, logger.getName());
                     out = converter.convert(in);
                 }
@@ -1,1123 +0,0 @@
-/* Generated By:JavaCC: Do not edit this line. AutodetectionParserTokenManager.java */
-package es.uvigo.ei.sing.alter.parser;
-import java.io.StringReader;
-
-/** Token Manager. */
-public class AutodetectionParserTokenManager implements AutodetectionParserConstants
-{
-
-  /** Debug output. */
-  public  java.io.PrintStream debugStream = System.out;
-  /** Set debug output. */
-  public  void setDebugStream(java.io.PrintStream ds) { debugStream = ds; }
-private final int jjStopStringLiteralDfa_0(int pos, long active0)
-{
-   switch (pos)
-   {
-      case 0:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            jjmatchedKind = 5;
-            return -1;
-         }
-         if ((active0 & 0x4e00L) != 0L)
-         {
-            jjmatchedKind = 3;
-            return -1;
-         }
-         return -1;
-      case 1:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0x4e00L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 2:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0x4e00L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 3:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0x4e00L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 4:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0x4e00L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 5:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0x4e00L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 6:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0xa00L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 7:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         if ((active0 & 0x800L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 3;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 8:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 9:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 10:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 11:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 12:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 13:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 14:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 15:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 16:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 17:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 18:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 19:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 20:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      case 21:
-         if ((active0 & 0x18000L) != 0L)
-         {
-            if (jjmatchedPos == 0)
-            {
-               jjmatchedKind = 5;
-               jjmatchedPos = 0;
-            }
-            return -1;
-         }
-         return -1;
-      default :
-         return -1;
-   }
-}
-private final int jjStartNfa_0(int pos, long active0)
-{
-   return jjMoveNfa_0(jjStopStringLiteralDfa_0(pos, active0), pos + 1);
-}
-private int jjStopAtPos(int pos, int kind)
-{
-   jjmatchedKind = kind;
-   jjmatchedPos = pos;
-   return pos + 1;
-}
-private int jjMoveStringLiteralDfa0_0()
-{
-   switch(curChar)
-   {
-      case 33:
-         return jjMoveStringLiteralDfa1_0(0x18000L);
-      case 35:
-         jjmatchedKind = 6;
-         return jjMoveStringLiteralDfa1_0(0x100L);
-      case 37:
-         return jjStopAtPos(0, 7);
-      case 59:
-         return jjStopAtPos(0, 13);
-      case 62:
-         return jjStopAtPos(0, 12);
-      case 67:
-         return jjMoveStringLiteralDfa1_0(0x200L);
-      case 77:
-         return jjMoveStringLiteralDfa1_0(0x400L);
-      case 80:
-         return jjMoveStringLiteralDfa1_0(0x4800L);
-      default :
-         return jjMoveNfa_0(0, 0);
-   }
-}
-private int jjMoveStringLiteralDfa1_0(long active0)
-{
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(0, active0);
-      return 1;
-   }
-   switch(curChar)
-   {
-      case 33:
-         return jjMoveStringLiteralDfa2_0(active0, 0x18000L);
-      case 76:
-         return jjMoveStringLiteralDfa2_0(active0, 0x200L);
-      case 78:
-         return jjMoveStringLiteralDfa2_0(active0, 0x100L);
-      case 82:
-         return jjMoveStringLiteralDfa2_0(active0, 0x800L);
-      case 85:
-         return jjMoveStringLiteralDfa2_0(active0, 0x400L);
-      case 105:
-         return jjMoveStringLiteralDfa2_0(active0, 0x4000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(0, active0);
-}
-private int jjMoveStringLiteralDfa2_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(0, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(1, active0);
-      return 2;
-   }
-   switch(curChar)
-   {
-      case 65:
-         return jjMoveStringLiteralDfa3_0(active0, 0x8000L);
-      case 69:
-         return jjMoveStringLiteralDfa3_0(active0, 0x100L);
-      case 78:
-         return jjMoveStringLiteralDfa3_0(active0, 0x10000L);
-      case 79:
-         return jjMoveStringLiteralDfa3_0(active0, 0x800L);
-      case 83:
-         return jjMoveStringLiteralDfa3_0(active0, 0x400L);
-      case 85:
-         return jjMoveStringLiteralDfa3_0(active0, 0x200L);
-      case 108:
-         return jjMoveStringLiteralDfa3_0(active0, 0x4000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(1, active0);
-}
-private int jjMoveStringLiteralDfa3_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(1, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(2, active0);
-      return 3;
-   }
-   switch(curChar)
-   {
-      case 65:
-         return jjMoveStringLiteralDfa4_0(active0, 0x18000L);
-      case 66:
-         return jjMoveStringLiteralDfa4_0(active0, 0x800L);
-      case 67:
-         return jjMoveStringLiteralDfa4_0(active0, 0x400L);
-      case 83:
-         return jjMoveStringLiteralDfa4_0(active0, 0x200L);
-      case 88:
-         return jjMoveStringLiteralDfa4_0(active0, 0x100L);
-      case 101:
-         return jjMoveStringLiteralDfa4_0(active0, 0x4000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(2, active0);
-}
-private int jjMoveStringLiteralDfa4_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(2, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(3, active0);
-      return 4;
-   }
-   switch(curChar)
-   {
-      case 67:
-         return jjMoveStringLiteralDfa5_0(active0, 0x800L);
-      case 76:
-         return jjMoveStringLiteralDfa5_0(active0, 0x400L);
-      case 84:
-         return jjMoveStringLiteralDfa5_0(active0, 0x200L);
-      case 85:
-         return jjMoveStringLiteralDfa5_0(active0, 0x4100L);
-      case 95:
-         return jjMoveStringLiteralDfa5_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(3, active0);
-}
-private int jjMoveStringLiteralDfa5_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(3, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(4, active0);
-      return 5;
-   }
-   switch(curChar)
-   {
-      case 65:
-         return jjMoveStringLiteralDfa6_0(active0, 0x200L);
-      case 69:
-         if ((active0 & 0x400L) != 0L)
-            return jjStopAtPos(5, 10);
-         break;
-      case 77:
-         return jjMoveStringLiteralDfa6_0(active0, 0x18000L);
-      case 79:
-         return jjMoveStringLiteralDfa6_0(active0, 0x800L);
-      case 83:
-         if ((active0 & 0x100L) != 0L)
-            return jjStopAtPos(5, 8);
-         break;
-      case 112:
-         if ((active0 & 0x4000L) != 0L)
-            return jjStopAtPos(5, 14);
-         break;
-      default :
-         break;
-   }
-   return jjStartNfa_0(4, active0);
-}
-private int jjMoveStringLiteralDfa6_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(4, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(5, active0);
-      return 6;
-   }
-   switch(curChar)
-   {
-      case 76:
-         if ((active0 & 0x200L) != 0L)
-            return jjStopAtPos(6, 9);
-         break;
-      case 78:
-         return jjMoveStringLiteralDfa7_0(active0, 0x800L);
-      case 85:
-         return jjMoveStringLiteralDfa7_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(5, active0);
-}
-private int jjMoveStringLiteralDfa7_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(5, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(6, active0);
-      return 7;
-   }
-   switch(curChar)
-   {
-      case 76:
-         return jjMoveStringLiteralDfa8_0(active0, 0x18000L);
-      case 83:
-         if ((active0 & 0x800L) != 0L)
-            return jjStopAtPos(7, 11);
-         break;
-      default :
-         break;
-   }
-   return jjStartNfa_0(6, active0);
-}
-private int jjMoveStringLiteralDfa8_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(6, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(7, active0);
-      return 8;
-   }
-   switch(curChar)
-   {
-      case 84:
-         return jjMoveStringLiteralDfa9_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(7, active0);
-}
-private int jjMoveStringLiteralDfa9_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(7, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(8, active0);
-      return 9;
-   }
-   switch(curChar)
-   {
-      case 73:
-         return jjMoveStringLiteralDfa10_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(8, active0);
-}
-private int jjMoveStringLiteralDfa10_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(8, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(9, active0);
-      return 10;
-   }
-   switch(curChar)
-   {
-      case 80:
-         return jjMoveStringLiteralDfa11_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(9, active0);
-}
-private int jjMoveStringLiteralDfa11_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(9, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(10, active0);
-      return 11;
-   }
-   switch(curChar)
-   {
-      case 76:
-         return jjMoveStringLiteralDfa12_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(10, active0);
-}
-private int jjMoveStringLiteralDfa12_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(10, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(11, active0);
-      return 12;
-   }
-   switch(curChar)
-   {
-      case 69:
-         return jjMoveStringLiteralDfa13_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(11, active0);
-}
-private int jjMoveStringLiteralDfa13_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(11, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(12, active0);
-      return 13;
-   }
-   switch(curChar)
-   {
-      case 95:
-         return jjMoveStringLiteralDfa14_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(12, active0);
-}
-private int jjMoveStringLiteralDfa14_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(12, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(13, active0);
-      return 14;
-   }
-   switch(curChar)
-   {
-      case 65:
-         return jjMoveStringLiteralDfa15_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(13, active0);
-}
-private int jjMoveStringLiteralDfa15_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(13, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(14, active0);
-      return 15;
-   }
-   switch(curChar)
-   {
-      case 76:
-         return jjMoveStringLiteralDfa16_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(14, active0);
-}
-private int jjMoveStringLiteralDfa16_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(14, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(15, active0);
-      return 16;
-   }
-   switch(curChar)
-   {
-      case 73:
-         return jjMoveStringLiteralDfa17_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(15, active0);
-}
-private int jjMoveStringLiteralDfa17_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(15, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(16, active0);
-      return 17;
-   }
-   switch(curChar)
-   {
-      case 71:
-         return jjMoveStringLiteralDfa18_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(16, active0);
-}
-private int jjMoveStringLiteralDfa18_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(16, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(17, active0);
-      return 18;
-   }
-   switch(curChar)
-   {
-      case 78:
-         return jjMoveStringLiteralDfa19_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(17, active0);
-}
-private int jjMoveStringLiteralDfa19_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(17, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(18, active0);
-      return 19;
-   }
-   switch(curChar)
-   {
-      case 77:
-         return jjMoveStringLiteralDfa20_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(18, active0);
-}
-private int jjMoveStringLiteralDfa20_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(18, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(19, active0);
-      return 20;
-   }
-   switch(curChar)
-   {
-      case 69:
-         return jjMoveStringLiteralDfa21_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(19, active0);
-}
-private int jjMoveStringLiteralDfa21_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(19, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(20, active0);
-      return 21;
-   }
-   switch(curChar)
-   {
-      case 78:
-         return jjMoveStringLiteralDfa22_0(active0, 0x18000L);
-      default :
-         break;
-   }
-   return jjStartNfa_0(20, active0);
-}
-private int jjMoveStringLiteralDfa22_0(long old0, long active0)
-{
-   if (((active0 &= old0)) == 0L)
-      return jjStartNfa_0(20, old0);
-   try { curChar = input_stream.readChar(); }
-   catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(21, active0);
-      return 22;
-   }
-   switch(curChar)
-   {
-      case 84:
-         if ((active0 & 0x8000L) != 0L)
-            return jjStopAtPos(22, 15);
-         else if ((active0 & 0x10000L) != 0L)
-            return jjStopAtPos(22, 16);
-         break;
-      default :
-         break;
-   }
-   return jjStartNfa_0(21, active0);
-}
-static final long[] jjbitVec0 = {
-   0x0L, 0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL
-};
-private int jjMoveNfa_0(int startState, int curPos)
-{
-   int startsAt = 0;
-   jjnewStateCnt = 7;
-   int i = 1;
-   jjstateSet[0] = startState;
-   int kind = 0x7fffffff;
-   for (;;)
-   {
-      if (++jjround == 0x7fffffff)
-         ReInitRounds();
-      if (curChar < 64)
-      {
-         long l = 1L << curChar;
-         do
-         {
-            switch(jjstateSet[--i])
-            {
-               case 0:
-                  if ((0xb400ffd6ffffd9ffL & l) != 0L)
-                  {
-                     if (kind > 5)
-                        kind = 5;
-                  }
-                  else if ((0x3ff000000000000L & l) != 0L)
-                  {
-                     if (kind > 4)
-                        kind = 4;
-                  }
-                  else if ((0x100000200L & l) != 0L)
-                  {
-                     if (kind > 2)
-                        kind = 2;
-                  }
-                  else if ((0x2400L & l) != 0L)
-                  {
-                     if (kind > 1)
-                        kind = 1;
-                  }
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1;
-                  break;
-               case 1:
-                  if (curChar == 10 && kind > 1)
-                     kind = 1;
-                  break;
-               case 2:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1;
-                  break;
-               case 3:
-                  if ((0x100000200L & l) != 0L)
-                     kind = 2;
-                  break;
-               case 5:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     kind = 4;
-                  break;
-               case 6:
-                  if ((0xb400ffd6ffffd9ffL & l) != 0L)
-                     kind = 5;
-                  break;
-               default : break;
-            }
-         } while(i != startsAt);
-      }
-      else if (curChar < 128)
-      {
-         long l = 1L << (curChar & 077);
-         do
-         {
-            switch(jjstateSet[--i])
-            {
-               case 0:
-                  if ((0xfffffffff8000001L & l) != 0L)
-                  {
-                     if (kind > 5)
-                        kind = 5;
-                  }
-                  else if ((0x7fffffeL & l) != 0L)
-                  {
-                     if (kind > 3)
-                        kind = 3;
-                  }
-                  break;
-               case 4:
-                  if ((0x7fffffeL & l) != 0L)
-                     kind = 3;
-                  break;
-               case 6:
-                  if ((0xfffffffff8000001L & l) != 0L)
-                     kind = 5;
-                  break;
-               default : break;
-            }
-         } while(i != startsAt);
-      }
-      else
-      {
-         int i2 = (curChar & 0xff) >> 6;
-         long l2 = 1L << (curChar & 077);
-         do
-         {
-            switch(jjstateSet[--i])
-            {
-               case 0:
-                  if ((jjbitVec0[i2] & l2) != 0L && kind > 5)
-                     kind = 5;
-                  break;
-               default : break;
-            }
-         } while(i != startsAt);
-      }
-      if (kind != 0x7fffffff)
-      {
-         jjmatchedKind = kind;
-         jjmatchedPos = curPos;
-         kind = 0x7fffffff;
-      }
-      ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 7 - (jjnewStateCnt = startsAt)))
-         return curPos;
-      try { curChar = input_stream.readChar(); }
-      catch(java.io.IOException e) { return curPos; }
-   }
-}
-static final int[] jjnextStates = {
-};
-
-/** Token literal values. */
-public static final String[] jjstrLiteralImages = {
-"", null, null, null, null, null, "\43", "\45", "\43\116\105\130\125\123", 
-"\103\114\125\123\124\101\114", "\115\125\123\103\114\105", "\120\122\117\102\103\117\116\123", "\76", "\73", 
-"\120\151\154\145\125\160", 
-"\41\41\101\101\137\115\125\114\124\111\120\114\105\137\101\114\111\107\116\115\105\116\124", 
-"\41\41\116\101\137\115\125\114\124\111\120\114\105\137\101\114\111\107\116\115\105\116\124", };
-
-/** Lexer state names. */
-public static final String[] lexStateNames = {
-   "DEFAULT",
-};
-protected SimpleCharStream input_stream;
-private final int[] jjrounds = new int[7];
-private final int[] jjstateSet = new int[14];
-protected char curChar;
-/** Constructor. */
-public AutodetectionParserTokenManager(SimpleCharStream stream){
-   if (SimpleCharStream.staticFlag)
-      throw new Error("ERROR: Cannot use a static CharStream class with a non-static lexical analyzer.");
-   input_stream = stream;
-}
-
-/** Constructor. */
-public AutodetectionParserTokenManager(SimpleCharStream stream, int lexState){
-   this(stream);
-   SwitchTo(lexState);
-}
-
-/** Reinitialise parser. */
-public void ReInit(SimpleCharStream stream)
-{
-   jjmatchedPos = jjnewStateCnt = 0;
-   curLexState = defaultLexState;
-   input_stream = stream;
-   ReInitRounds();
-}
-private void ReInitRounds()
-{
-   int i;
-   jjround = 0x80000001;
-   for (i = 7; i-- > 0;)
-      jjrounds[i] = 0x80000000;
-}
-
-/** Reinitialise parser. */
-public void ReInit(SimpleCharStream stream, int lexState)
-{
-   ReInit(stream);
-   SwitchTo(lexState);
-}
-
-/** Switch to specified lex state. */
-public void SwitchTo(int lexState)
-{
-   if (lexState >= 1 || lexState < 0)
-      throw new TokenMgrError("Error: Ignoring invalid lexical state : " + lexState + ". State unchanged.", TokenMgrError.INVALID_LEXICAL_STATE);
-   else
-      curLexState = lexState;
-}
-
-protected Token jjFillToken()
-{
-   final Token t;
-   final String curTokenImage;
-   final int beginLine;
-   final int endLine;
-   final int beginColumn;
-   final int endColumn;
-   String im = jjstrLiteralImages[jjmatchedKind];
-   curTokenImage = (im == null) ? input_stream.GetImage() : im;
-   beginLine = input_stream.getBeginLine();
-   beginColumn = input_stream.getBeginColumn();
-   endLine = input_stream.getEndLine();
-   endColumn = input_stream.getEndColumn();
-   t = Token.newToken(jjmatchedKind, curTokenImage);
-
-   t.beginLine = beginLine;
-   t.endLine = endLine;
-   t.beginColumn = beginColumn;
-   t.endColumn = endColumn;
-
-   return t;
-}
-
-int curLexState = 0;
-int defaultLexState = 0;
-int jjnewStateCnt;
-int jjround;
-int jjmatchedPos;
-int jjmatchedKind;
-
-/** Get the next Token. */
-public Token getNextToken() 
-{
-  Token matchedToken;
-  int curPos = 0;
-
-  EOFLoop :
-  for (;;)
-  {
-   try
-   {
-      curChar = input_stream.BeginToken();
-   }
-   catch(java.io.IOException e)
-   {
-      jjmatchedKind = 0;
-      matchedToken = jjFillToken();
-      return matchedToken;
-   }
-
-   jjmatchedKind = 0x7fffffff;
-   jjmatchedPos = 0;
-   curPos = jjMoveStringLiteralDfa0_0();
-   if (jjmatchedKind != 0x7fffffff)
-   {
-      if (jjmatchedPos + 1 < curPos)
-         input_stream.backup(curPos - jjmatchedPos - 1);
-         matchedToken = jjFillToken();
-         return matchedToken;
-   }
-   int error_line = input_stream.getEndLine();
-   int error_column = input_stream.getEndColumn();
-   String error_after = null;
-   boolean EOFSeen = false;
-   try { input_stream.readChar(); input_stream.backup(1); }
-   catch (java.io.IOException e1) {
-      EOFSeen = true;
-      error_after = curPos <= 1 ? "" : input_stream.GetImage();
-      if (curChar == '\n' || curChar == '\r') {
-         error_line++;
-         error_column = 0;
-      }
-      else
-         error_column++;
-   }
-   if (!EOFSeen) {
-      input_stream.backup(1);
-      error_after = curPos <= 1 ? "" : input_stream.GetImage();
-   }
-   throw new TokenMgrError(EOFSeen, curLexState, error_line, error_column, error_after, curChar, TokenMgrError.LEXICAL_ERROR);
-  }
-}
-
-private void jjCheckNAdd(int state)
-{
-   if (jjrounds[state] != jjround)
-   {
-      jjstateSet[jjnewStateCnt++] = state;
-      jjrounds[state] = jjround;
-   }
-}
-private void jjAddStates(int start, int end)
-{
-   do {
-      jjstateSet[jjnewStateCnt++] = jjnextStates[start];
-   } while (start++ != end);
-}
-private void jjCheckNAddTwoStates(int state1, int state2)
-{
-   jjCheckNAdd(state1);
-   jjCheckNAdd(state2);
-}
-
-}
@@ -1,412 +0,0 @@
-/* Generated By:JavaCC: Do not edit this line. GdeParser.java */
-package es.uvigo.ei.sing.alter.parser;
-
-import es.uvigo.ei.sing.alter.types.Gde;
-import es.uvigo.ei.sing.alter.types.GdeSequence;
-import java.io.StringReader;
-import java.util.Vector;
-
-/**
-* GDE format parser.
-* @author Daniel Gomez Blanco
-* @version 1.2
-*/
-public class GdeParser implements GdeParserConstants {
-  /**
-  * Static method that parses an input string and returns a MSA in GDE format.
-  * @param in Input string.
-  * @return MSA in GDE format.
-  */
-  public static Gde parseMSA (String in) throws ParseException
-    {
-        //Parse string and return MSA
-        GdeParser parser = new GdeParser(new StringReader(in));
-        return parser.Gde();
-    }
-
-/**
-* Grammar's root production. Structure:<br>
-* &nbsp;&nbsp;1. Any combinations of spaces, tabs and new lines until "#" or "%".<br>
-* &nbsp;&nbsp;2. Sequences with the following format:<br>
-* &nbsp;&nbsp;&nbsp;&nbsp;2a. "#" ó "%".<br>
-* &nbsp;&nbsp;&nbsp;&nbsp;2b. Sequence identifier.<br>
-* &nbsp;&nbsp;&nbsp;&nbsp;2c. New line.<br>
-* &nbsp;&nbsp;&nbsp;&nbsp;2d. Sequence data.<br>
-* @return MSA in GDE format.
-*/
-  final public Gde Gde() throws ParseException {
-    Vector<GdeSequence> seqs = new Vector<GdeSequence>();
-    String id, data;
-    label_1:
-    while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case EOL:
-      case BLANK:
-        ;
-        break;
-      default:
-        jj_la1[0] = jj_gen;
-        break label_1;
-      }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case EOL:
-        jj_consume_token(EOL);
-        break;
-      case BLANK:
-        jj_consume_token(BLANK);
-        break;
-      default:
-        jj_la1[1] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
-    }
-    label_2:
-    while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 7:
-        jj_consume_token(7);
-        break;
-      case 8:
-        jj_consume_token(8);
-        break;
-      default:
-        jj_la1[2] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
-      id = Line();
-      jj_consume_token(EOL);
-      data = Data();
-            seqs.add(new GdeSequence(id,data));
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 7:
-      case 8:
-        ;
-        break;
-      default:
-        jj_la1[3] = jj_gen;
-        break label_2;
-      }
-    }
-    jj_consume_token(0);
-        {if (true) return new Gde(seqs);}
-    throw new Error("Missing return statement in function");
-  }
-
-/**
-* Parses a line made up of any character sequence.
-* @return Parsed line.
-*/
-  final public String Line() throws ParseException {
-    StringBuffer s = new StringBuffer();
-    Token t;
-    label_3:
-    while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case BLANK:
-        t = jj_consume_token(BLANK);
-        break;
-      case UPPER_CASE:
-        t = jj_consume_token(UPPER_CASE);
-        break;
-      case LOWER_CASE:
-        t = jj_consume_token(LOWER_CASE);
-        break;
-      case NUMBER:
-        t = jj_consume_token(NUMBER);
-        break;
-      case ANY:
-        t = jj_consume_token(ANY);
-        break;
-      case 9:
-        t = jj_consume_token(9);
-        break;
-      case 7:
-        t = jj_consume_token(7);
-        break;
-      case 8:
-        t = jj_consume_token(8);
-        break;
-      case 10:
-        t = jj_consume_token(10);
-        break;
-      case 11:
-        t = jj_consume_token(11);
-        break;
-      default:
-        jj_la1[4] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
-            s.append(t.image);
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case BLANK:
-      case UPPER_CASE:
-      case LOWER_CASE:
-      case NUMBER:
-      case ANY:
-      case 7:
-      case 8:
-      case 9:
-      case 10:
-      case 11:
-        ;
-        break;
-      default:
-        jj_la1[5] = jj_gen;
-        break label_3;
-      }
-    }
-        {if (true) return s.toString().trim();}
-    throw new Error("Missing return statement in function");
-  }
-
-/**
-* Parses sequence data. These data can be made up of any characters
-* from "A" to "Z" (lowercase and uppercase), "-", "." or "?".
-* Spaces, tabs and new lines are omitted.
-* @return String with the sequence data (uppercase always).
-*/
-  final public String Data() throws ParseException {
-    StringBuffer s = new StringBuffer();
-    Token t;
-    label_4:
-    while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case EOL:
-      case BLANK:
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case BLANK:
-          t = jj_consume_token(BLANK);
-          break;
-        case EOL:
-          t = jj_consume_token(EOL);
-          break;
-        default:
-          jj_la1[6] = jj_gen;
-          jj_consume_token(-1);
-          throw new ParseException();
-        }
-        break;
-      case UPPER_CASE:
-      case LOWER_CASE:
-      case 9:
-      case 10:
-      case 11:
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case UPPER_CASE:
-          t = jj_consume_token(UPPER_CASE);
-          break;
-        case LOWER_CASE:
-          t = jj_consume_token(LOWER_CASE);
-          break;
-        case 9:
-          t = jj_consume_token(9);
-          break;
-        case 10:
-          t = jj_consume_token(10);
-          break;
-        case 11:
-          t = jj_consume_token(11);
-          break;
-        default:
-          jj_la1[7] = jj_gen;
-          jj_consume_token(-1);
-          throw new ParseException();
-        }
-                s.append(t.image);
-        break;
-      default:
-        jj_la1[8] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case EOL:
-      case BLANK:
-      case UPPER_CASE:
-      case LOWER_CASE:
-      case 9:
-      case 10:
-      case 11:
-        ;
-        break;
-      default:
-        jj_la1[9] = jj_gen;
-        break label_4;
-      }
-    }
-        {if (true) return s.toString().toUpperCase();}
-    throw new Error("Missing return statement in function");
-  }
-
-  /** Generated Token Manager. */
-  public GdeParserTokenManager token_source;
-  SimpleCharStream jj_input_stream;
-  /** Current token. */
-  public Token token;
-  /** Next token. */
-  public Token jj_nt;
-  private int jj_ntk;
-  private int jj_gen;
-  final private int[] jj_la1 = new int[10];
-  static private int[] jj_la1_0;
-  static {
-      jj_la1_init_0();
-   }
-   private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x6,0x6,0x180,0x180,0xffc,0xffc,0x6,0xe18,0xe1e,0xe1e,};
-   }
-
-  /** Constructor with InputStream. */
-  public GdeParser(java.io.InputStream stream) {
-     this(stream, null);
-  }
-  /** Constructor with InputStream and supplied encoding */
-  public GdeParser(java.io.InputStream stream, String encoding) {
-    try { jj_input_stream = new SimpleCharStream(stream, encoding, 1, 1); } catch(java.io.UnsupportedEncodingException e) { throw new RuntimeException(e); }
-    token_source = new GdeParserTokenManager(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 10; i++) jj_la1[i] = -1;
-  }
-
-  /** Reinitialise. */
-  public void ReInit(java.io.InputStream stream) {
-     ReInit(stream, null);
-  }
-  /** Reinitialise. */
-  public void ReInit(java.io.InputStream stream, String encoding) {
-    try { jj_input_stream.ReInit(stream, encoding, 1, 1); } catch(java.io.UnsupportedEncodingException e) { throw new RuntimeException(e); }
-    token_source.ReInit(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 10; i++) jj_la1[i] = -1;
-  }
-
-  /** Constructor. */
-  public GdeParser(java.io.Reader stream) {
-    jj_input_stream = new SimpleCharStream(stream, 1, 1);
-    token_source = new GdeParserTokenManager(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 10; i++) jj_la1[i] = -1;
-  }
-
-  /** Reinitialise. */
-  public void ReInit(java.io.Reader stream) {
-    jj_input_stream.ReInit(stream, 1, 1);
-    token_source.ReInit(jj_input_stream);
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 10; i++) jj_la1[i] = -1;
-  }
-
-  /** Constructor with generated Token Manager. */
-  public GdeParser(GdeParserTokenManager tm) {
-    token_source = tm;
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 10; i++) jj_la1[i] = -1;
-  }
-
-  /** Reinitialise. */
-  public void ReInit(GdeParserTokenManager tm) {
-    token_source = tm;
-    token = new Token();
-    jj_ntk = -1;
-    jj_gen = 0;
-    for (int i = 0; i < 10; i++) jj_la1[i] = -1;
-  }
-
-  private Token jj_consume_token(int kind) throws ParseException {
-    Token oldToken;
-    if ((oldToken = token).next != null) token = token.next;
-    else token = token.next = token_source.getNextToken();
-    jj_ntk = -1;
-    if (token.kind == kind) {
-      jj_gen++;
-      return token;
-    }
-    token = oldToken;
-    jj_kind = kind;
-    throw generateParseException();
-  }
-
-
-/** Get the next Token. */
-  final public Token getNextToken() {
-    if (token.next != null) token = token.next;
-    else token = token.next = token_source.getNextToken();
-    jj_ntk = -1;
-    jj_gen++;
-    return token;
-  }
-
-/** Get the specific Token. */
-  final public Token getToken(int index) {
-    Token t = token;
-    for (int i = 0; i < index; i++) {
-      if (t.next != null) t = t.next;
-      else t = t.next = token_source.getNextToken();
-    }
-    return t;
-  }
-
-  private int jj_ntk() {
-    if ((jj_nt=token.next) == null)
-      return (jj_ntk = (token.next=token_source.getNextToken()).kind);
-    else
-      return (jj_ntk = jj_nt.kind);
-  }
-
-  private java.util.List<int[]> jj_expentries = new java.util.ArrayList<int[]>();
-  private int[] jj_expentry;
-  private int jj_kind = -1;
-
-  /** Generate ParseException. */
-  public ParseException generateParseException() {
-    jj_expentries.clear();
-    boolean[] la1tokens = new boolean[12];
-    if (jj_kind >= 0) {
-      la1tokens[jj_kind] = true;
-      jj_kind = -1;
-    }
-    for (int i = 0; i < 10; i++) {
-      if (jj_la1[i] == jj_gen) {
-        for (int j = 0; j < 32; j++) {
-          if ((jj_la1_0[i] & (1<<j)) != 0) {
-            la1tokens[j] = true;
-          }
-        }
-      }
-    }
-    for (int i = 0; i < 12; i++) {
-      if (la1tokens[i]) {
-        jj_expentry = new int[1];
-        jj_expentry[0] = i;
-        jj_expentries.add(jj_expentry);
-      }
-    }
-    int[][] exptokseq = new int[jj_expentries.size()][];
-    for (int i = 0; i < jj_expentries.size(); i++) {
-      exptokseq[i] = jj_expentries.get(i);
-    }
-    return new ParseException(token, exptokseq, tokenImage);
-  }
-
-  /** Enable tracing. */
-  final public void enable_tracing() {
-  }
-
-  /** Disable tracing. */
-  final public void disable_tracing() {
-  }
-
-}
@@ -0,0 +1,6 @@
+/**
+ * Exceptions thrown when an input MSA cannot be parsed.
+ * 
+ * @author Daniel Gomez Blanco
+ */
+package es.uvigo.ei.sing.alter.parser;
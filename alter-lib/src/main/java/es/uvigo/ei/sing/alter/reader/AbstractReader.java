@@ -0,0 +1,171 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.MSA;
+
+/**
+ * Base class of the readers. Every kind of input is turned into a byte
+ * scanner, so each reader only parses bytes and the input is never copied
+ * into a string. Large files are mapped into memory instead of being read,
+ * so they take no heap beyond the parsed MSA. Failures reading the input are
+ * thrown as InputExceptions.
+ * @author Daniel Gomez Blanco
+ * @version 1.4
+ */
+public abstract class AbstractReader implements Reader
+{
+    /**
+     * Minimum size (in bytes) of the input files that are mapped into memory.
+     * Smaller files are faster to read into the heap.
+     */
+    private static final long MAP_SIZE = 1 << 20;
+
+    /**
+     * Number of threads used to parse the input (default is 1).
+     */
+    int threads = 1;
+
+    /**
+     * Sets the number of threads used to parse the input.
+     * @param threads Number of threads (a single thread is used if lower than 2).
+     */
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
+
+    /**
+     * Parses an input string and returns an MSA object.
+     * @param in Input string.
+     * @return MSA object parsed from the input string.
+     * @throws ParseException If an error occurs while parsing.
+     */
+    public MSA read(String in) throws ParseException
+    {
+        return read(new ByteScanner(in));
+    }
+
+    /**
+     * Parses an input stream and returns an MSA object. The stream is read
+     * until its end, but it is not closed.
+     * @param in Input stream.
+     * @return MSA object parsed from the input stream.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the stream cannot be read (an InputException).
+     */
+    public MSA read(InputStream in) throws ParseException, IOException
+    {
+        ByteScanner scanner;
+        try
+        {
+            scanner = new ByteScanner(in);
+        }
+        catch (IOException ex)
+        {
+            throw new InputException(ex);
+        }
+        return read(scanner);
+    }
+
+    /**
+     * Parses the characters of a reader and returns an MSA object. The reader
+     * is read until its end, but it is not closed.
+     * @param in Input reader.
+     * @return MSA object parsed from the input reader.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the reader cannot be read (an InputException).
+     */
+    public MSA read(java.io.Reader in) throws ParseException, IOException
+    {
+        ByteScanner scanner;
+        try
+        {
+            scanner = new ByteScanner(in);
+        }
+        catch (IOException ex)
+        {
+            throw new InputException(ex);
+        }
+        return read(scanner);
+    }
+
+    /**
+     * Parses an input channel and returns an MSA object. The channel is read
+     * until its end, but it is not closed.
+     * @param in Input channel.
+     * @return MSA object parsed from the input channel.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the channel cannot be read (an InputException).
+     */
+    public MSA read(ReadableByteChannel in) throws ParseException, IOException
+    {
+        ByteScanner scanner;
+        try
+        {
+            scanner = new ByteScanner(in);
+        }
+        catch (IOException ex)
+        {
+            throw new InputException(ex);
+        }
+        return read(scanner);
+    }
+
+    /**
+     * Parses an input file and returns an MSA object. Files of 1 MB or more
+     * are mapped read-only, whatever their size, and the mapping is released
+     * when the scanner is collected, as the parsed MSA does not refer to it.
+     * @param in Input file.
+     * @return MSA object parsed from the input file.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the file cannot be read (an InputException).
+     */
+    public MSA read(Path in) throws ParseException, IOException
+    {
+        ByteScanner scanner;
+        try (FileChannel channel = FileChannel.open(in, StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            if (size < MAP_SIZE)
+                scanner = new ByteScanner(channel);
+            else
+                scanner = new ByteScanner(channel, size);
+        }
+        catch (IOException ex)
+        {
+            throw new InputException(ex);
+        }
+        return read(scanner);
+    }
+
+    /**
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
+     * @throws ParseException If an error occurs while parsing.
+     */
+    abstract MSA read(ByteScanner in) throws ParseException;
+}
@@ -14,25 +14,167 @@
  *  You should have received a copy of the GNU General Public License
  *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Arrays;
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import es.uvigo.ei.sing.alter.parser.AlnParser;
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
+import es.uvigo.ei.sing.alter.types.Aln;
+import es.uvigo.ei.sing.alter.types.AlnSequence;
 import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 
 /**
- * ALN format reader.
+ * ALN format reader. The input is scanned block by block: the first block
+ * gives the sequences and the size of the matrix, and the lines of the next
+ * blocks are appended to the rows in order, so only their identifiers are
+ * compared. Consensus lines are skipped without being parsed. Comments go from
+ * "%" to the end of the line, and they are ignored everywhere. Structure:<br>
+ * &nbsp;&nbsp;1. Any combination of spaces, tabs and new lines until
+ * "CLUSTAL", "MUSCLE" or "PROBCONS".<br>
+ * &nbsp;&nbsp;2. "CLUSTAL", "MUSCLE" or "PROBCONS" and any text until the end
+ * of the line.<br>
+ * &nbsp;&nbsp;3. Blocks of sequences, each line with:<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;3a. Sequence identifier, optionally quoted.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;3b. Data line (letters, "-", "." and "?"; spaces
+ * and tabs are omitted), optionally followed by the number of residues.<br>
+ * &nbsp;&nbsp;4. Consensus lines ("*", ":", "." and blanks) between
+ * blocks.<br>
+ * With several threads, the next blocks of a large input are located by the
+ * identifiers at the start of their lines, and groups of them are parsed
+ * concurrently and appended to the rows in input order. A group that is not
+ * valid makes the whole input be parsed again in a single thread.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.6
  */
 
-public class AlnReader implements Reader
+public class AlnReader extends AbstractReader
 {
+    /**
+     * New line.
+     */
+    private static final int EOL = 1;
+    /**
+     * Space or tab.
+     */
+    private static final int BLANK = 1 << 1;
+    /**
+     * Uppercase letter.
+     */
+    private static final int UPPER_CASE = 1 << 2;
+    /**
+     * Lowercase letter.
+     */
+    private static final int LOWER_CASE = 1 << 3;
+    /**
+     * Digit.
+     */
+    private static final int NUMBER = 1 << 4;
+    /**
+     * Character not in any other class.
+     */
+    private static final int ANY = 1 << 5;
+    /**
+     * Conservation symbols ("*" and ":").
+     */
+    private static final int CONSERVED = 1 << 6;
+    /**
+     * Match symbol, also a conservation symbol (".").
+     */
+    private static final int DOT = 1 << 7;
+    /**
+     * Gap and missing symbols ("-" and "?").
+     */
+    private static final int SYMBOL = 1 << 8;
+    /**
+     * Quote.
+     */
+    private static final int QUOTE = 1 << 9;
+    /**
+     * Comment start ("%").
+     */
+    private static final int COMMENT = 1 << 10;
+    /**
+     * End of the input.
+     */
+    private static final int END_OF_FILE = 1 << 11;
+    /**
+     * First character of an unquoted identifier.
+     */
+    private static final int ID_START = UPPER_CASE | LOWER_CASE | NUMBER | ANY | SYMBOL;
+    /**
+     * Characters of an unquoted identifier.
+     */
+    private static final int ID = ID_START | CONSERVED | DOT | QUOTE;
+    /**
+     * Characters of a quoted identifier.
+     */
+    private static final int QUOTED = ID_START | CONSERVED | DOT | BLANK;
+    /**
+     * Characters of a consensus line.
+     */
+    private static final int CONSENSUS = BLANK | CONSERVED | DOT;
+    /**
+     * Characters of the first line, after the program name.
+     */
+    private static final int LINE = QUOTED | QUOTE;
+    /**
+     * Residues.
+     */
+    private static final int RESIDUE = UPPER_CASE | LOWER_CASE | DOT | SYMBOL;
+    /**
+     * Programs that may write the first line.
+     */
+    private static final String[] PROGRAMS = {"CLUSTAL", "MUSCLE", "PROBCONS"};
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Class of every byte value.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Uppercase form of every residue byte.
+     */
+    private static final byte[] RESIDUES = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if (c >= 'A' && c <= 'Z')
+                CLASSES[c] = UPPER_CASE;
+            else if (c >= 'a' && c <= 'z')
+                CLASSES[c] = LOWER_CASE;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == '*' || c == ':')
+                CLASSES[c] = CONSERVED;
+            else if (c == '.')
+                CLASSES[c] = DOT;
+            else if (c == '-' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else if (c == '"' || c == '\'')
+                CLASSES[c] = QUOTE;
+            else if (c == '%')
+                CLASSES[c] = COMMENT;
+            else
+                CLASSES[c] = ANY;
+
+            RESIDUES[c] = (byte) (CLASSES[c] == LOWER_CASE ? c - 'a' + 'A' : c);
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -48,33 +190,557 @@ public class AlnReader implements Reader
     }
     
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        MSA msa = AlnParser.parseMSA(in);
+        MSA msa = parse(in, threads);
 
         //Check if MSA is correctly constructed
         Sequence first = (Sequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != first.getData().length())
+            if (seq.length() != first.length())
                 throw new ParseException("Sequence lengths are not equal.");
-            //Replace match characters
-            ReaderUtils.replaceMatch(seq, first);
+            //Replace match characters and count residues
+            ReaderUtils.normalize(seq, first, counts);
         }
 
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
+
         logger.log(Level.INFO, "MSA read in ALN format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
         
         return msa;
     }
+
+    /**
+     * Scans the input and returns a MSA in ALN format.
+     * @param in Input scanner.
+     * @param threads Number of threads used for the blocks after the first
+     * one.
+     * @return MSA in ALN format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Aln parse(ByteScanner in, int threads) throws ParseException
+    {
+        long begin = in.position();
+        Aln msa = new Parser(in).aln(threads);
+        if (msa == null)
+        {
+            //Parse again in a single thread to report the first error
+            in.position(begin);
+            msa = new Parser(in).aln(1);
+        }
+        return msa;
+    }
+
+    /**
+     * State of the scan of one input.
+     */
+    private static class Parser
+    {
+        /**
+         * Input scanner.
+         */
+        private ByteScanner in;
+        /**
+         * Start of the last token consumed.
+         */
+        private long last;
+
+        /**
+         * Class constructor.
+         * @param in Input scanner.
+         */
+        public Parser(ByteScanner in)
+        {
+            this.in = in;
+        }
+
+        /**
+         * Scans the whole input.
+         * @param threads Number of threads used for the blocks after the
+         * first one.
+         * @return MSA in ALN format, or null if a group of blocks parsed in
+         * parallel is not valid.
+         * @throws ParseException If the input does not follow the format.
+         */
+        public Aln aln(int threads) throws ParseException
+        {
+            skip(EOL | BLANK);
+            if (!program())
+                throw in.error("\"CLUSTAL\", \"MUSCLE\" or \"PROBCONS\"");
+            skip(LINE);
+            expect(EOL, "end of line");
+            skip(EOL | BLANK);
+
+            //The first block is scanned once without storing anything, to
+            //size the matrix from its number of lines and residues per line
+            byte[] chunk = new byte[CHUNK];
+            long begin = in.position();
+            int taxa = 0;
+            int width = 0;
+            do
+            {
+                id();
+                expect(BLANK, "blank");
+                int residues = data(null, 0, chunk);
+                if (taxa == 0)
+                    width = residues;
+                numbers();
+                expect(EOL, "end of line");
+                taxa++;
+            }
+            while ((token() & (ID_START | QUOTE)) != 0);
+            consensus();
+            long blocks = (in.limit() - begin) / (in.position() - begin) + 1;
+            AlignmentMatrix matrix = new AlignmentMatrix(taxa, (int) Math.min(width * blocks, Integer.MAX_VALUE));
+
+            //First block, one new sequence per line
+            Vector<AlnSequence> seqs = new Vector<AlnSequence>();
+            in.position(begin);
+            do
+            {
+                int row = matrix.addRow(id());
+                expect(BLANK, "blank");
+                data(matrix, row, chunk);
+                numbers();
+                expect(EOL, "end of line");
+                seqs.add(new AlnSequence(matrix, row));
+            }
+            while (seqs.size() != taxa);
+            consensus();
+
+            //Rest of the blocks, with the rows in the same order
+            if (!parallelBlocks(matrix, threads))
+            {
+                matrix.close();
+                return null;
+            }
+            blocks(matrix, chunk);
+            expect(END_OF_FILE, "sequence identifier or end of file");
+
+            matrix.trim();
+            return new Aln(seqs);
+        }
+
+        /**
+         * Scans blocks after the first one, appending their lines to the rows
+         * in order, until no identifier follows.
+         * @param matrix Alignment matrix, with the rows of the first block.
+         * @param chunk Buffer where residues are gathered before copying them.
+         * @return True if the last block is followed by consensus lines.
+         * @throws ParseException If the input does not follow the format.
+         */
+        private boolean blocks(AlignmentMatrix matrix, byte[] chunk) throws ParseException
+        {
+            int taxa = matrix.getTaxa();
+            boolean separated = false;
+            while ((token() & (ID_START | QUOTE)) != 0)
+            {
+                int cont = 0;
+                do
+                {
+                    if (cont == taxa)
+                        throw new ParseException("Number of sequences in block is greater than in the first block.");
+                    String id = id();
+                    if (!id.equals(matrix.getId(cont)))
+                        throw new ParseException("ID for sequence \"" + matrix.getId(cont)
+                                + "\"does not match with ID in line " + in.line(last));
+                    expect(BLANK, "blank");
+                    data(matrix, cont, chunk);
+                    numbers();
+                    expect(EOL | END_OF_FILE, "end of line");
+                    cont++;
+                }
+                while ((token() & (ID_START | QUOTE)) != 0);
+                separated = token() != END_OF_FILE;
+                if (separated)
+                    consensus();
+            }
+            return separated;
+        }
+
+        /**
+         * Scans the blocks that follow with several threads, if the input is
+         * large enough. Groups of blocks are parsed concurrently into their
+         * own matrices, which are appended to the rows in input order, and the
+         * scanner is moved after them.
+         * @param matrix Alignment matrix, with the rows of the first block.
+         * @param threads Number of threads.
+         * @return False if a group is not valid, and the input has to be
+         * parsed again in a single thread.
+         * @throws ParseException If the current thread is interrupted.
+         */
+        private boolean parallelBlocks(AlignmentMatrix matrix, int threads) throws ParseException
+        {
+            int count = RangeParser.count(threads, in.limit() - in.position());
+            if (count < 2)
+                return true;
+            byte[][] ids = new byte[matrix.getTaxa()][];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = matrix.getId(i).getBytes(ByteScanner.UTF8);
+            long[] bounds = RangeParser.cut(starts(ids), count);
+            if (bounds.length < 3)
+                return true;
+            if (!new Blocks(matrix).run(in, bounds, threads))
+                return false;
+            in.position(bounds[bounds.length - 1]);
+            return true;
+        }
+
+        /**
+         * Finds the blocks that follow, as long as each one has a line for
+         * every row, starting with its identifier and a blank, and at least
+         * one consensus line after them. The lines are not scanned, they are checked when
+         * the blocks are parsed.
+         * @param ids Identifiers of the rows (in UTF-8).
+         * @return Start of every block found, and of the block after the last
+         * one.
+         */
+        private long[] starts(byte[][] ids)
+        {
+            long limit = in.limit();
+            long pos = in.position();
+            long[] starts = new long[64];
+            int n = 0;
+            starts[n++] = pos;
+            while (true)
+            {
+                for (int i = 0; i < ids.length; i++)
+                    if (!startsRow(pos, ids[i]) || (pos = in.lineEnd(pos)) < 0)
+                        return Arrays.copyOf(starts, n);
+                long end = pos;
+                while (pos < limit && (CLASSES[in.get(pos)] & (CONSENSUS | EOL)) != 0)
+                    if ((pos = in.lineEnd(pos)) < 0)
+                        return Arrays.copyOf(starts, n);
+                if (pos == end || !startsRow(pos, ids[0]))
+                    return Arrays.copyOf(starts, n);
+                if (n == starts.length)
+                    starts = Arrays.copyOf(starts, n * 2);
+                starts[n++] = pos;
+            }
+        }
+
+        /**
+         * Indicates if a line starts with an identifier followed by a blank.
+         * @param pos Start of the line.
+         * @param id Identifier (in UTF-8).
+         * @return True if the line starts with the identifier.
+         */
+        private boolean startsRow(long pos, byte[] id)
+        {
+            long end = pos + id.length;
+            return in.matches(pos, id) && end < in.limit() && CLASSES[in.get(end)] == BLANK;
+        }
+
+        /**
+         * Consumes the name of the program that wrote the alignment, if one
+         * of the known names follows.
+         * @return True if a program name was consumed.
+         */
+        private boolean program()
+        {
+            for (int i = 0; i < PROGRAMS.length; i++)
+            {
+                String name = PROGRAMS[i];
+                int k = 0;
+                while (k < name.length() && in.peek(k) == name.charAt(k))
+                    k++;
+                if (k == name.length())
+                {
+                    last = in.position();
+                    in.position(last + k);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Scans a sequence identifier. It can be a quoted text or a word
+         * without blanks.
+         * @return Sequence identifier.
+         * @throws ParseException If there is no identifier.
+         */
+        private String id() throws ParseException
+        {
+            int token = token();
+            int mask;
+            if (token == QUOTE)
+            {
+                consume(token);
+                mask = QUOTED;
+                expect(mask, "sequence identifier");
+            }
+            else
+            {
+                mask = ID;
+                expect(ID_START, "sequence identifier");
+            }
+
+            //Comments are not part of the identifier
+            StringBuilder id = new StringBuilder();
+            long begin = last;
+            long end = in.position();
+            while (((token = token()) & mask) != 0)
+            {
+                if (in.position() != end)
+                {
+                    id.append(in.text(begin, end));
+                    begin = in.position();
+                }
+                consume(token);
+                end = in.position();
+            }
+            id.append(in.text(begin, end));
+
+            if (mask == QUOTED)
+            {
+                long content = last;
+                expect(QUOTE, "quote");
+                last = content;
+            }
+            return id.toString();
+        }
+
+        /**
+         * Scans a data line (residues, spaces and tabs) and appends its
+         * residues (in uppercase) to a row of the matrix.
+         * @param matrix Alignment matrix, or null to only count the residues.
+         * @param row Row of the sequence.
+         * @param chunk Buffer where residues are gathered before copying them.
+         * @return Number of residues in the line.
+         * @throws ParseException If the line is empty.
+         */
+        private int data(AlignmentMatrix matrix, int row, byte[] chunk) throws ParseException
+        {
+            long limit = in.limit();
+            long pos = in.position();
+            int tokens = 0;
+            int residues = 0;
+            int n = 0;
+            while (pos < limit)
+            {
+                int c = in.get(pos);
+                int kind = CLASSES[c];
+                if ((kind & RESIDUE) != 0)
+                {
+                    residues++;
+                    if (matrix != null)
+                    {
+                        chunk[n++] = RESIDUES[c];
+                        if (n == chunk.length)
+                        {
+                            matrix.append(row, chunk, 0, n);
+                            n = 0;
+                        }
+                    }
+                }
+                else if (kind == COMMENT)
+                {
+                    in.position(pos);
+                    comment();
+                    pos = in.position();
+                    continue;
+                }
+                else if (kind != BLANK)
+                    break;
+                pos++;
+                tokens++;
+            }
+            if (n > 0)
+                matrix.append(row, chunk, 0, n);
+
+            in.position(pos);
+            if (tokens == 0)
+                throw in.error("sequence data");
+            return residues;
+        }
+
+        /**
+         * Skips the residue counts at the end of a data line.
+         * @throws ParseException If a comment is not closed.
+         */
+        private void numbers() throws ParseException
+        {
+            while (token() == NUMBER)
+            {
+                consume(NUMBER);
+                skip(BLANK);
+            }
+        }
+
+        /**
+         * Skips the consensus lines after a block. There must be at least
+         * one, even if it is empty.
+         * @throws ParseException If another line is found.
+         */
+        private void consensus() throws ParseException
+        {
+            do
+            {
+                skip(CONSENSUS);
+                expect(EOL, "end of line");
+            }
+            while ((token() & (CONSENSUS | EOL)) != 0);
+        }
+
+        /**
+         * Skips characters while their class is among the given ones.
+         * Comments are skipped too.
+         * @param mask Classes to skip.
+         */
+        private void skip(int mask)
+        {
+            in.skip(CLASSES, mask);
+            while (in.peek() == '%')
+            {
+                comment();
+                in.skip(CLASSES, mask);
+            }
+        }
+
+        /**
+         * Consumes a token, that must be among the given ones.
+         * @param mask Expected tokens.
+         * @param expected Description of the expected tokens.
+         * @return Consumed token.
+         * @throws ParseException If another token is found.
+         */
+        private int expect(int mask, String expected) throws ParseException
+        {
+            int token = token();
+            if ((token & mask) == 0)
+                throw in.error(expected);
+            consume(token);
+            return token;
+        }
+
+        /**
+         * Returns the class of the next character without consuming it.
+         * Comments before it are skipped.
+         * @return Token.
+         */
+        private int token()
+        {
+            int c = in.peek();
+            while (c == '%')
+            {
+                comment();
+                c = in.peek();
+            }
+            if (c == ByteScanner.EOF)
+                return END_OF_FILE;
+            return CLASSES[c];
+        }
+
+        /**
+         * Consumes the next token.
+         * @param token Next token.
+         */
+        private void consume(int token)
+        {
+            last = in.position();
+            if (token == EOL)
+                in.skipEOL();
+            else
+                in.next();
+        }
+
+        /**
+         * Skips a comment, including the new line that ends it.
+         */
+        private void comment()
+        {
+            in.next();
+            int c;
+            while ((c = in.peek()) != '\n' && c != '\r' && c != ByteScanner.EOF)
+                in.next();
+            in.skipEOL();
+        }
+    }
+
+    /**
+     * Parser of groups of blocks after the first one.
+     */
+    private static class Blocks extends RangeParser<AlignmentMatrix>
+    {
+        /**
+         * Alignment matrix of the MSA.
+         */
+        private AlignmentMatrix matrix;
+        /**
+         * Identifiers of the rows.
+         */
+        private String[] ids;
+
+        /**
+         * Class constructor.
+         * @param matrix Alignment matrix of the MSA, with the rows of the
+         * first block.
+         */
+        Blocks(AlignmentMatrix matrix)
+        {
+            this.matrix = matrix;
+            this.ids = new String[matrix.getTaxa()];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = matrix.getId(i);
+        }
+
+        /**
+         * Parses a group of blocks into its own matrix.
+         * @param range Scanner of the group.
+         * @return Matrix with the rows of the group, or null if the group does
+         * not end with consensus lines.
+         * @throws ParseException If the group does not follow the format.
+         */
+        @Override
+        AlignmentMatrix parse(ByteScanner range) throws ParseException
+        {
+            AlignmentMatrix rows = new AlignmentMatrix(ids.length,
+                    (int) Math.min((range.limit() - range.position()) / ids.length, Integer.MAX_VALUE));
+            for (int i = 0; i < ids.length; i++)
+                rows.addRow(ids[i]);
+            if (!new Parser(range).blocks(rows, new byte[CHUNK]) || range.position() != range.limit())
+                return null;
+            return rows;
+        }
+
+        /**
+         * Appends the rows of a group to the matrix of the MSA.
+         * @param rows Matrix with the rows of the group.
+         * @return Always true.
+         */
+        @Override
+        boolean merge(AlignmentMatrix rows)
+        {
+            for (int i = 0; i < ids.length; i++)
+                matrix.append(i, rows, i);
+            return true;
+        }
+
+        /**
+         * Releases the matrix of a group.
+         * @param rows Matrix with the rows of the group.
+         */
+        @Override
+        void close(AlignmentMatrix rows)
+        {
+            rows.close();
+        }
+    }
 }
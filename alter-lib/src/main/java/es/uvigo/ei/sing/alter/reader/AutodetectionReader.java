@@ -20,21 +20,26 @@ package es.uvigo.ei.sing.alter.reader;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import es.uvigo.ei.sing.alter.parser.*;
+import es.uvigo.ei.sing.alter.parser.ParseException;
 import es.uvigo.ei.sing.alter.types.MSA;
 
 /**
- * Autodetection reader
+ * Autodetection reader. The format is detected from a bounded prefix of the
+ * input, and the reader of that format parses the same input afterwards.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.4
  */
 
-public class AutodetectionReader implements Reader
+public class AutodetectionReader extends AbstractReader
 {
     /**
      * Logger to register information messages.
      */
     Logger logger;
+    /**
+     * Maximum number of bytes read to detect the format.
+     */
+    int prefix = FormatSniffer.DEFAULT_PREFIX;
 
      /**
      * Class contructor, it initializes the logger.
@@ -46,20 +51,39 @@ public class AutodetectionReader implements Reader
     }
 
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Sets the maximum number of bytes read from the start of the input to
+     * detect its format.
+     * @param prefix Size of the prefix in bytes (default is 64 KB).
+     */
+    public void setPrefix(int prefix)
+    {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Parses the input of a scanner and returns an MSA object. The format is
+     * detected from a prefix of the input, without moving the scanner, and
+     * the reader of that format parses the same scanner.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
-        //Detect format
-        String inF = AutodetectionParser.detectFormat(in);
+        return reader(new FormatSniffer(in, prefix).detect()).read(in);
+    }
 
+    /**
+     * Returns a reader for a detected format.
+     * @param inF Name of the detected format.
+     * @return Reader of the format.
+     */
+    private AbstractReader reader(String inF)
+    {
+        AbstractReader reader;
         logger.log(Level.INFO, inF.toUpperCase() + " format detected.");
 
-        //Parse input in the detected format
-        Reader reader;
+        //Get the reader of the detected format
         if (inF.equals("aln"))
             reader = new AlnReader(logger.getName());
         else if (inF.equals("fasta"))
@@ -76,6 +100,8 @@ public class AutodetectionReader implements Reader
             reader = new PirReader(logger.getName());
         else
             throw new UnsupportedOperationException("Input format not supported.");
-        return reader.read(in);
+
+        reader.setThreads(threads);
+        return reader;
     }
 }
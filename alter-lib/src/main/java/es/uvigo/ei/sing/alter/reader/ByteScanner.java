@@ -0,0 +1,705 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+
+import es.uvigo.ei.sing.alter.parser.ParseException;
+
+/**
+ * Cursor over the raw bytes of an input MSA, used by the hand-written
+ * readers. Input text is UTF-8, so every byte below 128 is an ASCII character
+ * and multibyte characters only appear inside identifiers and comments, which
+ * are decoded on demand.
+ * <p>
+ * Lines and columns are not tracked while scanning. They are only computed
+ * when an error is reported, counting them as the JavaCC parsers did (tabs
+ * move to the next multiple of 8).
+ * <p>
+ * Positions are longs, and the input is kept in segments of 256 KB, so it
+ * can go beyond the 2 GB limit of a single buffer. Files are mapped 1 GB at a
+ * time and split in segments. Streams, channels and readers are read until
+ * their end straight into the segments, so the input is held in memory once
+ * and is not copied as it grows. Segments are small enough not to be
+ * allocated apart by G1.
+ * @author Daniel Gomez Blanco
+ * @version 1.4
+ */
+
+class ByteScanner
+{
+    /**
+     * Value returned at the end of the input.
+     */
+    public static final int EOF = -1;
+    /**
+     * Charset of the input.
+     */
+    public static final Charset UTF8 = Charset.forName("UTF-8");
+    /**
+     * Initial size of the buffers that hold inputs of unknown length.
+     */
+    private static final int BUFFER_SIZE = 65536;
+    /**
+     * Segment size is 2^SEGMENT_SHIFT bytes.
+     */
+    private static final int SEGMENT_SHIFT = 18;
+    /**
+     * Files are mapped in regions of 2^MAP_SHIFT bytes.
+     */
+    private static final int MAP_SHIFT = 30;
+    /**
+     * Mask for the offset inside a segment.
+     */
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    /**
+     * Input bytes, in segments. Position p is at offset p &amp; SEGMENT_MASK
+     * of segment p &gt;&gt;&gt; SEGMENT_SHIFT. Every segment but the last one
+     * is full.
+     */
+    private ByteBuffer[] segments;
+    /**
+     * Start of the input, where lines are counted from.
+     */
+    private long start;
+    /**
+     * Current position.
+     */
+    private long pos;
+    /**
+     * End of the input.
+     */
+    private long limit;
+
+    /**
+     * Class constructor. Unpaired surrogates of the input are replaced by
+     * U+FFFD.
+     * @param in Input string.
+     */
+    public ByteScanner(String in)
+    {
+        this(encode(in));
+    }
+
+    /**
+     * Class constructor. The whole stream is read, but it is not closed.
+     * @param in Input stream (UTF-8 text).
+     * @throws IOException If the stream cannot be read.
+     */
+    public ByteScanner(InputStream in) throws IOException
+    {
+        this(load(in));
+    }
+
+    /**
+     * Class constructor. The whole channel is read, but it is not closed.
+     * @param in Input channel (UTF-8 text).
+     * @throws IOException If the channel cannot be read.
+     */
+    public ByteScanner(ReadableByteChannel in) throws IOException
+    {
+        this(load(in));
+    }
+
+    /**
+     * Class constructor. The characters are encoded in UTF-8 as they are
+     * read, replacing unpaired surrogates by U+FFFD. The reader is not closed.
+     * @param in Input reader.
+     * @throws IOException If the reader cannot be read.
+     */
+    public ByteScanner(java.io.Reader in) throws IOException
+    {
+        this(load(in));
+    }
+
+    /**
+     * Class constructor. The input goes from the position to the limit of the
+     * buffer.
+     * @param buffer Input bytes.
+     */
+    public ByteScanner(ByteBuffer buffer)
+    {
+        this.segments = new ByteBuffer[count(buffer.limit())];
+        split(buffer, segments, 0);
+        this.start = buffer.position();
+        this.pos = start;
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Class constructor. The file is mapped read-only from its beginning, in
+     * regions, and the mapping is released when the scanner and its regions
+     * are collected.
+     * @param in Input file channel (UTF-8 text).
+     * @param size Number of bytes of the file that are mapped.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public ByteScanner(FileChannel in, long size) throws IOException
+    {
+        this.segments = new ByteBuffer[count(size)];
+        for (long begin = 0; begin < size || begin == 0; begin += 1L << MAP_SHIFT)
+        {
+            ByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, begin, Math.min(size - begin, 1L << MAP_SHIFT));
+            split(region, segments, (int) (begin >>> SEGMENT_SHIFT));
+        }
+        this.start = 0;
+        this.pos = 0;
+        this.limit = size;
+    }
+
+    /**
+     * Returns the number of segments of an input.
+     * @param size Input size.
+     * @return Number of segments (at least one).
+     */
+    private static int count(long size)
+    {
+        return Math.max((int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT), 1);
+    }
+
+    /**
+     * Splits a buffer in segments, from its beginning to its limit.
+     * @param buffer Buffer.
+     * @param segments Segments of the input.
+     * @param first Segment where the buffer starts.
+     */
+    private static void split(ByteBuffer buffer, ByteBuffer[] segments, int first)
+    {
+        for (int i = 0; i == 0 || (long) i << SEGMENT_SHIFT < buffer.limit(); i++)
+        {
+            //Views of the buffer, indexed from the start of each segment
+            ByteBuffer segment = buffer.duplicate();
+            segment.limit((int) Math.min(buffer.limit(), (long) (i + 1) << SEGMENT_SHIFT));
+            segment.position(i << SEGMENT_SHIFT);
+            segments[first + i] = segment.slice();
+        }
+    }
+
+    /**
+     * Class constructor of an input read into segments.
+     * @param in Read segments.
+     */
+    private ByteScanner(Segments in)
+    {
+        this(in.toArray(), 0, 0, in.size());
+    }
+
+    /**
+     * Returns a scanner over a region of the same input. Positions and error
+     * locations are the same in both scanners.
+     * @param begin First byte of the region.
+     * @param end Byte after the last one of the region.
+     * @return Scanner of the region.
+     */
+    public ByteScanner region(long begin, long end)
+    {
+        return new ByteScanner(segments, start, begin, end);
+    }
+
+    /**
+     * Class constructor of a region.
+     * @param segments Input bytes, in segments.
+     * @param start Start of the input.
+     * @param begin First byte of the region.
+     * @param end Byte after the last one of the region.
+     */
+    private ByteScanner(ByteBuffer[] segments, long start, long begin, long end)
+    {
+        this.segments = segments;
+        this.start = start;
+        this.pos = begin;
+        this.limit = end;
+    }
+
+    /**
+     * Encodes a string in UTF-8.
+     * @param in Input string.
+     * @return Encoded bytes.
+     */
+    private static ByteBuffer encode(String in)
+    {
+        //Only unpaired surrogates need the slower encoder
+        int n = in.length();
+        int i = 0;
+        while (i < n && !Character.isSurrogate(in.charAt(i)))
+            i++;
+        if (i == n)
+            return ByteBuffer.wrap(in.getBytes(UTF8));
+
+        CharsetEncoder encoder = UTF8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .replaceWith(new byte[] {(byte) 0xEF, (byte) 0xBF, (byte) 0xBD});
+        try
+        {
+            return encoder.encode(CharBuffer.wrap(in));
+        }
+        catch (CharacterCodingException e)
+        {
+            //Not thrown when errors are replaced
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a stream until its end.
+     * @param in Input stream.
+     * @return Read segments.
+     * @throws IOException If the stream cannot be read.
+     */
+    private static Segments load(InputStream in) throws IOException
+    {
+        Segments out = new Segments();
+        while (true)
+        {
+            ByteBuffer segment = out.free();
+            int read = in.read(segment.array(), segment.position(), segment.remaining());
+            if (read < 0)
+                return out;
+            segment.position(segment.position() + read);
+        }
+    }
+
+    /**
+     * Reads a channel until its end.
+     * @param in Input channel.
+     * @return Read segments.
+     * @throws IOException If the channel cannot be read.
+     */
+    private static Segments load(ReadableByteChannel in) throws IOException
+    {
+        Segments out = new Segments();
+        while (true)
+            if (in.read(out.free()) < 0)
+                return out;
+    }
+
+    /**
+     * Reads a character stream until its end, encoding it in UTF-8.
+     * @param in Input reader.
+     * @return Encoded segments.
+     * @throws IOException If the reader cannot be read.
+     */
+    private static Segments load(java.io.Reader in) throws IOException
+    {
+        CharsetEncoder encoder = UTF8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .replaceWith(new byte[] {(byte) 0xEF, (byte) 0xBF, (byte) 0xBD});
+        Segments out = new Segments();
+        CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE / 4);
+        //Encoded characters may not fit at the end of a segment, so they are
+        //encoded apart and then split between segments
+        ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        boolean end = false;
+        while (!end)
+        {
+            end = in.read(chars) < 0;
+            chars.flip();
+            //A surrogate at the end of the chunk waits for the next one
+            while (encoder.encode(chars, bytes, end).isOverflow())
+                out.put(bytes);
+            out.put(bytes);
+            chars.compact();
+        }
+        while (encoder.flush(bytes).isOverflow())
+            out.put(bytes);
+        out.put(bytes);
+        return out;
+    }
+
+    /**
+     * Returns the byte at a position of the input.
+     * @param index Position in the input (lower than the limit).
+     * @return Byte.
+     */
+    private byte byteAt(long index)
+    {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) index & SEGMENT_MASK);
+    }
+
+    /**
+     * Returns the current byte without consuming it.
+     * @return Current byte (0 to 255), or EOF at the end of the input.
+     */
+    public int peek()
+    {
+        return pos < limit ? byteAt(pos) & 0xFF : EOF;
+    }
+
+    /**
+     * Returns a byte ahead of the current one without consuming anything.
+     * @param ahead Distance from the current position.
+     * @return Byte (0 to 255), or EOF if it is beyond the end of the input.
+     */
+    public int peek(int ahead)
+    {
+        return pos + ahead < limit ? byteAt(pos + ahead) & 0xFF : EOF;
+    }
+
+    /**
+     * Consumes the current byte.
+     * @return Consumed byte (0 to 255), or EOF at the end of the input.
+     */
+    public int next()
+    {
+        return pos < limit ? byteAt(pos++) & 0xFF : EOF;
+    }
+
+    /**
+     * Returns the current position.
+     * @return Position in the input.
+     */
+    public long position()
+    {
+        return pos;
+    }
+
+    /**
+     * Moves to another position.
+     * @param pos New position.
+     */
+    public void position(long pos)
+    {
+        this.pos = pos;
+    }
+
+    /**
+     * Returns the end of the input.
+     * @return Position after the last byte.
+     */
+    public long limit()
+    {
+        return limit;
+    }
+
+    /**
+     * Returns the byte at a given position.
+     * @param index Position in the input (lower than the limit).
+     * @return Byte (0 to 255).
+     */
+    public int get(long index)
+    {
+        return byteAt(index) & 0xFF;
+    }
+
+    /**
+     * Consumes bytes while their class has any of the given bits set.
+     * @param classes Class bits of every byte value.
+     * @param mask Classes to consume.
+     * @return Number of bytes consumed.
+     */
+    public long skip(int[] classes, int mask)
+    {
+        long begin = pos;
+        while (pos < limit && (classes[byteAt(pos) & 0xFF] & mask) != 0)
+            pos++;
+        return pos - begin;
+    }
+
+    /**
+     * Consumes an end of line ("\n", "\r" or "\r\n") if there is one.
+     * @return True if an end of line was consumed.
+     */
+    public boolean skipEOL()
+    {
+        int c = peek();
+        if (c == '\n')
+        {
+            pos++;
+            return true;
+        }
+        if (c == '\r')
+        {
+            pos++;
+            if (peek() == '\n')
+                pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the end of a line without moving.
+     * @param from Position in the line.
+     * @return Position after the end of line ("\n", "\r" or "\r\n"), or -1
+     * if the input ends before.
+     */
+    public long lineEnd(long from)
+    {
+        for (long i = from; i < limit; i++)
+        {
+            byte c = byteAt(i);
+            if (c == '\n')
+                return i + 1;
+            if (c == '\r')
+                return i + 1 < limit && byteAt(i + 1) == '\n' ? i + 2 : i + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Indicates if some bytes follow a position, without moving.
+     * @param at Position in the input.
+     * @param bytes Expected bytes.
+     * @return True if the input has the bytes at the position.
+     */
+    public boolean matches(long at, byte[] bytes)
+    {
+        if (at < 0 || bytes.length > limit - at)
+            return false;
+        for (int i = 0; i < bytes.length; i++)
+            if (byteAt(at + i) != bytes[i])
+                return false;
+        return true;
+    }
+
+    /**
+     * Decodes a region of the input.
+     * @param begin First byte of the region.
+     * @param end Byte after the last one of the region.
+     * @return Decoded text.
+     */
+    public String text(long begin, long end)
+    {
+        byte[] bytes = new byte[(int) (end - begin)];
+        int n = 0;
+        while (n < bytes.length)
+        {
+            //Copy the part of the region in each segment
+            ByteBuffer segment = segments[(int) ((begin + n) >>> SEGMENT_SHIFT)];
+            int offset = (int) (begin + n) & SEGMENT_MASK;
+            int length = Math.min(bytes.length - n, segment.limit() - offset);
+            if (length == bytes.length && segment.hasArray())
+                return new String(segment.array(), segment.arrayOffset() + offset, length, UTF8);
+            ByteBuffer region = segment.duplicate();
+            region.limit(offset + length);
+            region.position(offset);
+            region.get(bytes, n, length);
+            n += length;
+        }
+        return new String(bytes, UTF8);
+    }
+
+    /**
+     * Returns the line of a position, counted as in error messages.
+     * @param at Position in the input.
+     * @return Line number (starting at 1).
+     */
+    public int line(long at)
+    {
+        return locate(at)[0];
+    }
+
+    /**
+     * Computes the line and column of a position. Positions at the end of
+     * the input get the location of the last character.
+     * @param at Position in the input.
+     * @return Line and column.
+     */
+    private int[] locate(long at)
+    {
+        //Replay the input counting lines and columns
+        int line = 1;
+        int column = 0;
+        boolean cr = false;
+        boolean lf = false;
+        long end = Math.min(at + 1, limit);
+        for (long i = start; i < end; i++)
+        {
+            int c = byteAt(i) & 0xFF;
+            //UTF-8 continuation bytes belong to the previous character
+            if ((c & 0xC0) == 0x80)
+                continue;
+            column++;
+            if (lf)
+            {
+                lf = false;
+                line++;
+                column = 1;
+            }
+            else if (cr)
+            {
+                cr = false;
+                if (c == '\n')
+                    lf = true;
+                else
+                {
+                    line++;
+                    column = 1;
+                }
+            }
+            if (c == '\r')
+                cr = true;
+            else if (c == '\n')
+                lf = true;
+            else if (c == '\t')
+                column += 7 - ((column - 1) % 8);
+            //Characters beyond 16 bits take two Java characters
+            else if (c >= 0xF0)
+                column++;
+        }
+        return new int[] {line, column};
+    }
+
+    /**
+     * Builds the exception for an unexpected input at the current position.
+     * @param expected Description of the expected input.
+     * @return Exception with the found input and its line and column.
+     */
+    public ParseException error(String expected)
+    {
+        return error(pos, expected);
+    }
+
+    /**
+     * Builds the exception for an unexpected input at a given position.
+     * @param at Position of the unexpected input.
+     * @param expected Description of the expected input.
+     * @return Exception with the found input and its line and column.
+     */
+    public ParseException error(long at, String expected)
+    {
+        int[] location = locate(at);
+        int line = location[0];
+        int column = location[1];
+
+        String found;
+        if (at >= limit)
+            found = "end of file";
+        else
+        {
+            int c = byteAt(at) & 0xFF;
+            if (c == '\n')
+                found = "\"\\n\"";
+            else if (c == '\r')
+                found = "\"\\r\"";
+            else if (c == '\t')
+                found = "\"\\t\"";
+            else if (c < 0x20 || c == 0x7F)
+                found = "character " + c;
+            else
+            {
+                //Take the whole UTF-8 character
+                long next = at + 1;
+                while (next < limit && (byteAt(next) & 0xC0) == 0x80)
+                    next++;
+                found = "\"" + text(at, next) + "\"";
+            }
+        }
+        return new ParseException("Encountered " + found + " at line " + line + ", column " + column + "." +
+                System.getProperty("line.separator", "\n") + "Was expecting " + expected + ".");
+    }
+    /**
+     * Input read into segments, filled one after another. The first one
+     * starts small and grows until the segment size, so short inputs do not
+     * take a whole segment.
+     */
+    private static class Segments
+    {
+        /**
+         * Segments, all full but the last one.
+         */
+        private ArrayList<ByteBuffer> list = new ArrayList<ByteBuffer>();
+
+        /**
+         * Returns the segment where the next bytes go, growing the first
+         * one or adding a new one if the last segment is full. Bytes are put
+         * at its position.
+         * @return Segment with free space.
+         */
+        ByteBuffer free()
+        {
+            if (list.isEmpty())
+                list.add(ByteBuffer.allocate(Math.min(BUFFER_SIZE, SEGMENT_MASK + 1)));
+            ByteBuffer last = list.get(list.size() - 1);
+            if (last.hasRemaining())
+                return last;
+            if (last.capacity() < SEGMENT_MASK + 1)
+            {
+                //Only the first segment is smaller
+                ByteBuffer bigger = ByteBuffer.allocate(Math.min(2 * last.capacity(), SEGMENT_MASK + 1));
+                last.flip();
+                bigger.put(last);
+                list.set(0, bigger);
+                return bigger;
+            }
+            last = ByteBuffer.allocate(SEGMENT_MASK + 1);
+            list.add(last);
+            return last;
+        }
+
+        /**
+         * Moves the bytes of a buffer to the segments.
+         * @param bytes Buffer, which is cleared.
+         */
+        void put(ByteBuffer bytes)
+        {
+            bytes.flip();
+            while (bytes.hasRemaining())
+            {
+                ByteBuffer segment = free();
+                ByteBuffer part = bytes.duplicate();
+                part.limit(part.position() + Math.min(part.remaining(), segment.remaining()));
+                segment.put(part);
+                bytes.position(part.position());
+            }
+            bytes.clear();
+        }
+
+        /**
+         * Returns the number of bytes read.
+         * @return Input size.
+         */
+        long size()
+        {
+            long size = 0;
+            for (ByteBuffer segment : list)
+                size += segment.position();
+            return size;
+        }
+
+        /**
+         * Returns the segments, ready to be read from their start.
+         * @return Segments (at least one).
+         */
+        ByteBuffer[] toArray()
+        {
+            if (list.isEmpty())
+                free();
+            ByteBuffer[] array = new ByteBuffer[list.size()];
+            for (int i = 0; i < array.length; i++)
+            {
+                array[i] = list.get(i).duplicate();
+                array[i].flip();
+            }
+            return array;
+        }
+    }
+}
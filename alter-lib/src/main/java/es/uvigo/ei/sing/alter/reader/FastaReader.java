@@ -16,22 +16,133 @@
  */
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Arrays;
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import es.uvigo.ei.sing.alter.parser.FastaParser;
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
+import es.uvigo.ei.sing.alter.types.Fasta;
+import es.uvigo.ei.sing.alter.types.FastaSequence;
 import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 
 /**
- * FASTA format reader.
+ * FASTA format reader. The input is scanned byte by byte with a table of
+ * character classes and the residues are written straight into the alignment
+ * matrix. Structure:<br>
+ * &nbsp;&nbsp;1. Any combination of spaces, tabs and new lines until ">".<br>
+ * &nbsp;&nbsp;2. Sequences with the following format:<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2a. ">".<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2b. Sequence identifier, optionally quoted.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2c. Optional description after a blank.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2d. New line.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2e. Sequence data (letters, "-", "." and "?"; spaces,
+ * tabs and new lines are omitted).<br>
+ * With several threads, large inputs are cut into ranges that start with a
+ * sequence, which are parsed concurrently and merged in input order. If any
+ * range is not valid, the input is parsed again in a single thread, so errors
+ * are the same whatever the number of threads.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.8
  */
 
-public class FastaReader implements Reader
+public class FastaReader extends AbstractReader
 {
+    /**
+     * New line characters.
+     */
+    private static final int EOL = 1;
+    /**
+     * Spaces and tabs.
+     */
+    private static final int BLANK = 2;
+    /**
+     * Uppercase letters.
+     */
+    private static final int UPPER_CASE = 4;
+    /**
+     * Lowercase letters.
+     */
+    private static final int LOWER_CASE = 8;
+    /**
+     * Digits.
+     */
+    private static final int NUMBER = 16;
+    /**
+     * Characters not in any other class.
+     */
+    private static final int ANY = 32;
+    /**
+     * Sequence start (">").
+     */
+    private static final int START = 64;
+    /**
+     * Gap, match and missing symbols ("-", "." and "?").
+     */
+    private static final int SYMBOL = 128;
+    /**
+     * Quotes.
+     */
+    private static final int QUOTE = 256;
+    /**
+     * Characters of an unquoted identifier.
+     */
+    private static final int WORD = UPPER_CASE | LOWER_CASE | NUMBER | ANY | START | SYMBOL;
+    /**
+     * Characters of a quoted identifier.
+     */
+    private static final int QUOTED = WORD | BLANK;
+    /**
+     * Characters of a description line.
+     */
+    private static final int LINE = WORD | BLANK | QUOTE;
+    /**
+     * Residues.
+     */
+    private static final int RESIDUE = UPPER_CASE | LOWER_CASE | SYMBOL;
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Class of every byte value.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Uppercase form of every residue byte.
+     */
+    private static final byte[] RESIDUES = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if (c >= 'A' && c <= 'Z')
+                CLASSES[c] = UPPER_CASE;
+            else if (c >= 'a' && c <= 'z')
+                CLASSES[c] = LOWER_CASE;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == '>')
+                CLASSES[c] = START;
+            else if (c == '-' || c == '.' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else if (c == '"' || c == '\'')
+                CLASSES[c] = QUOTE;
+            else
+                CLASSES[c] = ANY;
+
+            RESIDUES[c] = (byte) (CLASSES[c] == LOWER_CASE ? c - 'a' + 'A' : c);
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -45,35 +156,310 @@ public class FastaReader implements Reader
     {
         this.logger = Logger.getLogger(logger);
     }
-    
+
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        MSA msa = FastaParser.parseMSA(in);
+        MSA msa = threads < 2 ? parse(in) : parse(in, threads);
 
         //Check if MSA is correctly constructed
         Sequence first = (Sequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != first.getData().length())
+            if (seq.length() != first.length())
                 throw new ParseException("Sequence lengths are not equal.");
-            //Replace match characters
-            ReaderUtils.replaceMatch(seq, first);
+            //Replace match characters and count residues
+            ReaderUtils.normalize(seq, first, counts);
         }
 
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
+
         logger.log(Level.INFO, "MSA read in FASTA format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
 
         return msa;
     }
+
+    /**
+     * Scans the input and returns a MSA in FASTA format.
+     * @param in Input scanner.
+     * @return MSA in FASTA format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Fasta parse(ByteScanner in) throws ParseException
+    {
+        AlignmentMatrix matrix = new AlignmentMatrix();
+        Vector<FastaSequence> seqs = new Vector<FastaSequence>();
+        parse(in, matrix, seqs, "");
+
+        matrix.trim();
+        return new Fasta(seqs);
+    }
+
+    /**
+     * Scans the input with several threads and returns a MSA in FASTA
+     * format. Ranges of the input are parsed concurrently into their own
+     * matrices, and their sequences are copied to the matrix of the MSA in
+     * input order.
+     * @param in Input scanner.
+     * @param threads Number of threads.
+     * @return MSA in FASTA format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Fasta parse(ByteScanner in, int threads) throws ParseException
+    {
+        long begin = in.position();
+        long[] bounds = ranges(in, RangeParser.count(threads, in.limit() - begin));
+        if (bounds.length < 3)
+            return parse(in);
+
+        Ranges ranges = new Ranges();
+        if (!ranges.run(in, bounds, threads))
+        {
+            //Parse again in a single thread to report the first error
+            ranges.matrix.close();
+            in.position(begin);
+            return parse(in);
+        }
+
+        in.position(in.limit());
+        ranges.matrix.trim();
+        return new Fasta(ranges.seqs);
+    }
+
+    /**
+     * Cuts the input into ranges of about the same size. Every range but the
+     * first one starts with a sequence (a ">" at the start of a line).
+     * @param in Input scanner.
+     * @param count Number of ranges.
+     * @return Bounds of the non-empty ranges, from the current position to
+     * the end of the input.
+     */
+    private static long[] ranges(ByteScanner in, int count)
+    {
+        long begin = in.position();
+        long limit = in.limit();
+        long[] bounds = new long[Math.max(count, 1) + 1];
+        int n = 0;
+        bounds[n++] = begin;
+        for (int i = 1; i < count; i++)
+        {
+            long pos = Math.max(bounds[n - 1] + 1, begin + (limit - begin) * i / count);
+            //Move forward to the start of a sequence
+            while (pos < limit && (in.get(pos) != '>' || (in.get(pos - 1) != '\n' && in.get(pos - 1) != '\r')))
+                pos++;
+            if (pos < limit)
+                bounds[n++] = pos;
+        }
+        bounds[n++] = limit;
+        return Arrays.copyOf(bounds, n);
+    }
+
+    /**
+     * Scans the sequences of the input into a matrix.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param seqs Vector where the sequences are added.
+     * @param desc Description of the sequences found before the first one.
+     * @throws ParseException If the input does not follow the format.
+     */
+    private static void parse(ByteScanner in, AlignmentMatrix matrix, Vector<FastaSequence> seqs, String desc)
+            throws ParseException
+    {
+        byte[] chunk = new byte[CHUNK];
+
+        in.skip(CLASSES, EOL | BLANK);
+        if (in.peek() != '>')
+            throw in.error("\">\"");
+        while (in.peek() == '>')
+        {
+            //Identifier line
+            in.next();
+            in.skip(CLASSES, BLANK);
+            String id = word(in);
+            int c = in.peek();
+            if (c == ' ' || c == '\t')
+            {
+                in.next();
+                if (!in.skipEOL())
+                {
+                    long begin = in.position();
+                    in.skip(CLASSES, LINE);
+                    long end = in.position();
+                    if (begin == end || !in.skipEOL())
+                        throw in.error("end of line");
+                    desc = in.text(begin, end).trim();
+                }
+            }
+            else if (!in.skipEOL())
+                throw in.error("blank or end of line");
+
+            //Sequence data
+            int row = matrix.addRow(id);
+            data(in, matrix, row, chunk);
+            seqs.add(new FastaSequence(matrix, row, desc));
+            //The rest of the rows are allocated with the length of the first
+            if (row == 0)
+                matrix.setRowCapacity(matrix.getLength(0));
+
+            c = in.peek();
+            if (c != '>' && c != ByteScanner.EOF)
+                throw in.error("\">\" or end of file");
+        }
+    }
+
+    /**
+     * Scans a sequence identifier. It can be a quoted text without new lines
+     * or a word without blanks.
+     * @param in Input scanner.
+     * @return Identifier (without surrounding spaces).
+     * @throws ParseException If there is no identifier.
+     */
+    private static String word(ByteScanner in) throws ParseException
+    {
+        int c = in.peek();
+        if (c == '"' || c == '\'')
+        {
+            in.next();
+            long begin = in.position();
+            if (in.skip(CLASSES, QUOTED) == 0)
+                throw in.error("sequence identifier");
+            long end = in.position();
+            c = in.peek();
+            if (c != '"' && c != '\'')
+                throw in.error("quote");
+            in.next();
+            return in.text(begin, end).trim();
+        }
+
+        if (c == ByteScanner.EOF || (CLASSES[c] & WORD) == 0)
+            throw in.error("sequence identifier");
+        long begin = in.position();
+        in.skip(CLASSES, WORD | QUOTE);
+        return in.text(begin, in.position()).trim();
+    }
+
+    /**
+     * Scans sequence data and appends the residues (in uppercase) to a row of
+     * the matrix.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param row Row of the sequence.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @throws ParseException If there is no sequence data.
+     */
+    private static void data(ByteScanner in, AlignmentMatrix matrix, int row, byte[] chunk)
+            throws ParseException
+    {
+        long begin = in.position();
+        long limit = in.limit();
+        long pos = begin;
+        int n = 0;
+        for (; pos < limit; pos++)
+        {
+            int c = in.get(pos);
+            int type = CLASSES[c];
+            if ((type & RESIDUE) != 0)
+            {
+                chunk[n++] = RESIDUES[c];
+                if (n == chunk.length)
+                {
+                    matrix.append(row, chunk, 0, n);
+                    n = 0;
+                }
+            }
+            else if ((type & (BLANK | EOL)) == 0)
+                break;
+        }
+        if (n > 0)
+            matrix.append(row, chunk, 0, n);
+
+        in.position(pos);
+        if (pos == begin)
+            throw in.error("sequence data");
+    }
+
+    /**
+     * Parser of the ranges of the input. Every range is parsed into its own
+     * matrix, and its sequences are copied to the matrix of the MSA. The
+     * sequences before the first description found in a range get a null
+     * description, to take the last one of the previous ranges.
+     */
+    private static class Ranges extends RangeParser<Vector<FastaSequence>>
+    {
+        /**
+         * Alignment matrix of the MSA.
+         */
+        private AlignmentMatrix matrix = new AlignmentMatrix();
+        /**
+         * Sequences of the MSA.
+         */
+        private Vector<FastaSequence> seqs = new Vector<FastaSequence>();
+        /**
+         * Description kept across ranges until another one is found.
+         */
+        private String desc = "";
+
+        /**
+         * Parses a range into its own matrix.
+         * @param range Scanner of the range.
+         * @return Sequences of the range.
+         * @throws ParseException If the range does not follow the format.
+         */
+        @Override
+        Vector<FastaSequence> parse(ByteScanner range) throws ParseException
+        {
+            Vector<FastaSequence> seqs = new Vector<FastaSequence>();
+            FastaReader.parse(range, new AlignmentMatrix(), seqs, null);
+            return seqs;
+        }
+
+        /**
+         * Copies the sequences of a range to the matrix of the MSA.
+         * @param range Sequences of the range.
+         * @return Always true.
+         */
+        @Override
+        boolean merge(Vector<FastaSequence> range)
+        {
+            for (int i = 0; i < range.size(); i++)
+            {
+                FastaSequence seq = range.elementAt(i);
+                int row = matrix.addRow(seq.getId());
+                matrix.append(row, seq.getMatrix(), seq.getRow());
+                if (seq.getDesc() != null)
+                    desc = seq.getDesc();
+                seqs.add(new FastaSequence(matrix, row, desc));
+                //The rest of the rows are allocated with the length of the first
+                if (row == 0)
+                    matrix.setRowCapacity(matrix.getLength(0));
+            }
+            return true;
+        }
+
+        /**
+         * Releases the matrix of a range.
+         * @param range Sequences of the range.
+         */
+        @Override
+        void close(Vector<FastaSequence> range)
+        {
+            if (!range.isEmpty())
+                range.firstElement().getMatrix().close();
+        }
+    }
 }
@@ -0,0 +1,337 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.reader;
+
+import es.uvigo.ei.sing.alter.parser.ParseException;
+
+/**
+ * Detects the format of an input MSA from a bounded prefix of its bytes,
+ * without moving the scanner, so the reader of the detected format can parse
+ * the same scanner afterwards.<br>
+ * The first word of the input limits the candidate formats, as every reader
+ * requires its own header:<br>
+ * &nbsp;&nbsp;- "#" or "%" can be GDE, and "#NEXUS" (in any case) can also be NEXUS.<br>
+ * &nbsp;&nbsp;- "CLUSTAL", "MUSCLE" or "PROBCONS" is ALN.<br>
+ * &nbsp;&nbsp;- "PileUp", "!!AA_MULTIPLE_ALIGNMENT" or "!!NA_MULTIPLE_ALIGNMENT" is MSF.<br>
+ * &nbsp;&nbsp;- A number, followed by spaces or tabs and another number, is PHYLIP.<br>
+ * &nbsp;&nbsp;- "&gt;" is FASTA, and it can also be PIR if it is followed by
+ * two characters and ";".<br>
+ * When there are two candidates, every complete line of the prefix after the
+ * first one scores the formats it is typical of, and the one with the highest
+ * score is taken.
+ * Ties are resolved as the header alone would: "#NEXUS" is NEXUS, any other
+ * "#" is GDE, "&gt;" followed by two characters and ";" is PIR, and any other
+ * "&gt;" is FASTA.
+ * @author Daniel Gomez Blanco
+ * @version 1.1
+ */
+
+class FormatSniffer
+{
+    /**
+     * Default size (in bytes) of the prefix used to detect the format.
+     */
+    static final int DEFAULT_PREFIX = 65536;
+    /**
+     * Names of the formats.
+     */
+    private static final String[] FORMATS = {"aln", "fasta", "gde", "msf", "nexus", "phylip", "pir"};
+    /**
+     * Index of every format.
+     */
+    private static final int ALN = 0, FASTA = 1, GDE = 2, MSF = 3, NEXUS = 4, PHYLIP = 5, PIR = 6;
+    /**
+     * Headers of ALN.
+     */
+    private static final byte[][] ALN_HEADERS = bytes("CLUSTAL", "MUSCLE", "PROBCONS");
+    /**
+     * Headers of MSF.
+     */
+    private static final byte[][] MSF_HEADERS = bytes("PileUp", "!!AA_MULTIPLE_ALIGNMENT", "!!NA_MULTIPLE_ALIGNMENT");
+    /**
+     * Header of NEXUS, as it is preferred over GDE.
+     */
+    private static final byte[] NEXUS_HEADER = bytes("#NEXUS")[0];
+    /**
+     * Words that start the lines of a NEXUS input, in lowercase.
+     */
+    private static final byte[][] NEXUS_WORDS = bytes("#nexus", "begin", "dimensions", "format", "matrix", "end",
+            "end;");
+
+    /**
+     * Scanner of the prefix.
+     */
+    private ByteScanner prefix;
+    /**
+     * Whole input scanner, used to report errors.
+     */
+    private ByteScanner in;
+    /**
+     * Score of every format, or -1 if it is not a candidate.
+     */
+    private int[] scores = new int[FORMATS.length];
+    /**
+     * Format preferred when scores tie.
+     */
+    private int preferred;
+
+    /**
+     * Class constructor.
+     * @param in Input scanner. Its position is not moved.
+     * @param size Maximum number of bytes from the position that are read.
+     */
+    FormatSniffer(ByteScanner in, int size)
+    {
+        this.in = in;
+        long begin = in.position();
+        prefix = in.region(begin, Math.min(in.limit(), begin + Math.max(size, 1)));
+    }
+
+    /**
+     * Detects the format of the input.
+     * @return Name of the format ("aln", "fasta", "gde", "msf", "nexus",
+     * "phylip" or "pir").
+     * @throws ParseException If the input does not start like any format.
+     */
+    String detect() throws ParseException
+    {
+        long first = prefix.position();
+        while (first < prefix.limit() && isBlank(prefix.get(first)))
+            first++;
+
+        int candidates = candidates(first);
+        if (candidates == 0)
+            throw in.error(first, "\"#\", \"%\", \"#NEXUS\", \"CLUSTAL\", \"MUSCLE\", \"PROBCONS\", \"PileUp\", "
+                    + "\"!!AA_MULTIPLE_ALIGNMENT\", \"!!NA_MULTIPLE_ALIGNMENT\", \">\" or a number");
+        if (candidates > 1)
+            score(prefix.lineEnd(first));
+
+        int best = preferred;
+        for (int i = 0; i < FORMATS.length; i++)
+            if (scores[i] > scores[best])
+                best = i;
+        return FORMATS[best];
+    }
+
+    /**
+     * Sets the candidate formats from the first word of the input.
+     * @param at Position of the first word.
+     * @return Number of candidate formats.
+     */
+    private int candidates(long at)
+    {
+        for (int i = 0; i < scores.length; i++)
+            scores[i] = -1;
+
+        int c = at < prefix.limit() ? prefix.get(at) : ByteScanner.EOF;
+        if (c == '#' || c == '%')
+        {
+            scores[GDE] = 0;
+            preferred = GDE;
+            if (matchesWord(at, NEXUS_WORDS[0], false))
+            {
+                scores[NEXUS] = 0;
+                if (prefix.matches(at, NEXUS_HEADER))
+                    preferred = NEXUS;
+                return 2;
+            }
+            return 1;
+        }
+        if (c == '>')
+        {
+            scores[FASTA] = 0;
+            preferred = FASTA;
+            long type = pirHeader(at);
+            if (type > 0)
+            {
+                scores[PIR] = 0;
+                //The type right after ">" and followed by ";" was always PIR
+                if (type == at + 1 && prefix.get(at + 3) == ';')
+                    preferred = PIR;
+                return 2;
+            }
+            return 1;
+        }
+        if (c >= '0' && c <= '9')
+        {
+            long i = at;
+            while (i < prefix.limit() && isDigit(prefix.get(i)))
+                i++;
+            long numbers = i;
+            while (i < prefix.limit() && (prefix.get(i) == ' ' || prefix.get(i) == '\t'))
+                i++;
+            if (i > numbers && i < prefix.limit() && isDigit(prefix.get(i)))
+                return only(PHYLIP);
+            return 0;
+        }
+        for (byte[] header : ALN_HEADERS)
+            if (prefix.matches(at, header))
+                return only(ALN);
+        for (byte[] header : MSF_HEADERS)
+            if (prefix.matches(at, header))
+                return only(MSF);
+        return 0;
+    }
+
+    /**
+     * Makes a format the only candidate.
+     * @param format Index of the format.
+     * @return Number of candidate formats (1).
+     */
+    private int only(int format)
+    {
+        scores[format] = 0;
+        preferred = format;
+        return 1;
+    }
+
+    /**
+     * Adds the scores of every complete line of the prefix to the candidate
+     * formats.
+     * @param at Position of the first line, or -1 if there is none.
+     */
+    private void score(long at)
+    {
+        if (at < 0)
+            return;
+        //The last line is only complete when the prefix reaches the end
+        boolean whole = prefix.limit() == in.limit();
+        while (at < prefix.limit())
+        {
+            long next = prefix.lineEnd(at);
+            if (next < 0 && !whole)
+                break;
+            long end = next < 0 ? prefix.limit() : next;
+
+            //Content of the line, without blanks and end of line
+            long begin = at;
+            while (begin < end && isBlank(prefix.get(begin)))
+                begin++;
+            long last = end - 1;
+            while (last >= begin && isBlank(prefix.get(last)))
+                last--;
+
+            if (begin <= last)
+            {
+                int c = prefix.get(begin);
+                if ((c == '#' || c == '%') && scores[GDE] >= 0)
+                    scores[GDE]++;
+                if (c == '>' && scores[FASTA] >= 0)
+                    scores[FASTA]++;
+                if (scores[PIR] >= 0 && (pirHeader(begin) > 0 || prefix.get(last) == '*'))
+                    scores[PIR]++;
+                if (scores[NEXUS] >= 0)
+                    for (byte[] word : NEXUS_WORDS)
+                        if (matchesWord(begin, word, true))
+                            scores[NEXUS]++;
+            }
+            at = end;
+        }
+    }
+
+    /**
+     * Finds the type of a PIR header line (">", optional blanks, an uppercase
+     * letter, an uppercase letter or a digit, optional blanks and ";").
+     * @param at Position of ">".
+     * @return Position of the type, or -1 if it is not a PIR header.
+     */
+    private long pirHeader(long at)
+    {
+        long limit = prefix.limit();
+        if (at >= limit || prefix.get(at) != '>')
+            return -1;
+        long i = at + 1;
+        while (i < limit && (prefix.get(i) == ' ' || prefix.get(i) == '\t'))
+            i++;
+        long type = i;
+        if (i + 1 >= limit || !isUpper(prefix.get(i)) || !(isUpper(prefix.get(i + 1)) || isDigit(prefix.get(i + 1))))
+            return -1;
+        i += 2;
+        while (i < limit && (prefix.get(i) == ' ' || prefix.get(i) == '\t'))
+            i++;
+        return i < limit && prefix.get(i) == ';' ? type : -1;
+    }
+
+    /**
+     * Indicates if a word follows a position, ignoring case.
+     * @param at Position in the prefix.
+     * @param word Word in lowercase.
+     * @param whole True if the word must be followed by a blank, an end of
+     * line or the end of the prefix.
+     * @return True if the word is found.
+     */
+    private boolean matchesWord(long at, byte[] word, boolean whole)
+    {
+        long limit = prefix.limit();
+        if (word.length > limit - at)
+            return false;
+        for (int i = 0; i < word.length; i++)
+        {
+            int c = prefix.get(at + i);
+            if (c >= 'A' && c <= 'Z')
+                c += 'a' - 'A';
+            if (c != word[i])
+                return false;
+        }
+        long end = at + word.length;
+        return !whole || end == limit || isBlank(prefix.get(end));
+    }
+
+    /**
+     * Indicates if a byte is a blank or an end of line.
+     * @param c Byte.
+     * @return True if it is " ", "\t", "\n" or "\r".
+     */
+    private static boolean isBlank(int c)
+    {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    /**
+     * Indicates if a byte is a digit.
+     * @param c Byte.
+     * @return True if it is a digit.
+     */
+    private static boolean isDigit(int c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Indicates if a byte is an uppercase letter.
+     * @param c Byte.
+     * @return True if it is an uppercase letter.
+     */
+    private static boolean isUpper(int c)
+    {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * Encodes ASCII words.
+     * @param words Words.
+     * @return Bytes of every word.
+     */
+    private static byte[][] bytes(String... words)
+    {
+        byte[][] bytes = new byte[words.length][];
+        for (int i = 0; i < words.length; i++)
+            bytes[i] = words[i].getBytes(ByteScanner.UTF8);
+        return bytes;
+    }
+}
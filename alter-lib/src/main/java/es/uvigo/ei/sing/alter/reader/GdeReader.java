@@ -14,25 +14,115 @@
  *  You should have received a copy of the GNU General Public License
  *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import es.uvigo.ei.sing.alter.parser.GdeParser;
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
+import es.uvigo.ei.sing.alter.types.Gde;
+import es.uvigo.ei.sing.alter.types.GdeSequence;
 import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 
 /**
- * GDE format reader.
+ * GDE format reader. The input is scanned byte by byte with a table of
+ * character classes and the residues are written straight into the alignment
+ * matrix. Structure:<br>
+ * &nbsp;&nbsp;1. Any combinations of spaces, tabs and new lines until "#" or "%".<br>
+ * &nbsp;&nbsp;2. Sequences with the following format:<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2a. "#" or "%".<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2b. Sequence identifier (the rest of the line).<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2c. New line.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2d. Sequence data (letters, "-", "." and "?"; spaces,
+ * tabs and new lines are omitted).<br>
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.4
  */
 
-public class GdeReader implements Reader
+public class GdeReader extends AbstractReader
 {
+    /**
+     * New line characters.
+     */
+    private static final int EOL = 1;
+    /**
+     * Spaces and tabs.
+     */
+    private static final int BLANK = 2;
+    /**
+     * Uppercase letters.
+     */
+    private static final int UPPER_CASE = 4;
+    /**
+     * Lowercase letters.
+     */
+    private static final int LOWER_CASE = 8;
+    /**
+     * Digits.
+     */
+    private static final int NUMBER = 16;
+    /**
+     * Characters not in any other class.
+     */
+    private static final int ANY = 32;
+    /**
+     * Sequence start ("#" and "%").
+     */
+    private static final int START = 64;
+    /**
+     * Gap, match and missing symbols ("-", "." and "?").
+     */
+    private static final int SYMBOL = 128;
+    /**
+     * Characters of an identifier line.
+     */
+    private static final int LINE = BLANK | UPPER_CASE | LOWER_CASE | NUMBER | ANY | START | SYMBOL;
+    /**
+     * Residues.
+     */
+    private static final int RESIDUE = UPPER_CASE | LOWER_CASE | SYMBOL;
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Class of every byte value.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Uppercase form of every residue byte.
+     */
+    private static final byte[] RESIDUES = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if (c >= 'A' && c <= 'Z')
+                CLASSES[c] = UPPER_CASE;
+            else if (c >= 'a' && c <= 'z')
+                CLASSES[c] = LOWER_CASE;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == '#' || c == '%')
+                CLASSES[c] = START;
+            else if (c == '-' || c == '.' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else
+                CLASSES[c] = ANY;
+
+            RESIDUES[c] = (byte) (CLASSES[c] == LOWER_CASE ? c - 'a' + 'A' : c);
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -48,33 +138,123 @@ public class GdeReader implements Reader
     }
 
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        MSA msa = GdeParser.parseMSA(in);
+        MSA msa = parse(in);
 
         //Check if MSA is correctly constructed
         Sequence first = (Sequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != first.getData().length())
+            if (seq.length() != first.length())
                 throw new ParseException("Sequence lengths are not equal.");
-            //Replace match characters
-            ReaderUtils.replaceMatch(seq, first);
+            //Replace match characters and count residues
+            ReaderUtils.normalize(seq, first, counts);
         }
 
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
+
         logger.log(Level.INFO, "MSA read in GDE format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
         
         return msa;
     }
+
+    /**
+     * Scans the input and returns a MSA in GDE format.
+     * @param in Input scanner.
+     * @return MSA in GDE format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Gde parse(ByteScanner in) throws ParseException
+    {
+        AlignmentMatrix matrix = new AlignmentMatrix();
+        Vector<GdeSequence> seqs = new Vector<GdeSequence>();
+        byte[] chunk = new byte[CHUNK];
+
+        in.skip(CLASSES, EOL | BLANK);
+        int c = in.peek();
+        if (c != '#' && c != '%')
+            throw in.error("\"#\" or \"%\"");
+        while (c == '#' || c == '%')
+        {
+            //Identifier line
+            in.next();
+            long begin = in.position();
+            if (in.skip(CLASSES, LINE) == 0)
+                throw in.error("sequence identifier");
+            long end = in.position();
+            if (!in.skipEOL())
+                throw in.error("end of line");
+
+            //Sequence data
+            int row = matrix.addRow(in.text(begin, end).trim());
+            data(in, matrix, row, chunk);
+            seqs.add(new GdeSequence(matrix, row));
+            //The rest of the rows are allocated with the length of the first
+            if (row == 0)
+                matrix.setRowCapacity(matrix.getLength(0));
+
+            c = in.peek();
+            if (c != '#' && c != '%' && c != ByteScanner.EOF)
+                throw in.error("\"#\", \"%\" or end of file");
+        }
+
+        matrix.trim();
+        return new Gde(seqs);
+    }
+
+    /**
+     * Scans sequence data and appends the residues (in uppercase) to a row of
+     * the matrix.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param row Row of the sequence.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @throws ParseException If there is no sequence data.
+     */
+    private static void data(ByteScanner in, AlignmentMatrix matrix, int row, byte[] chunk)
+            throws ParseException
+    {
+        long begin = in.position();
+        long limit = in.limit();
+        long pos = begin;
+        int n = 0;
+        for (; pos < limit; pos++)
+        {
+            int c = in.get(pos);
+            int type = CLASSES[c];
+            if ((type & RESIDUE) != 0)
+            {
+                chunk[n++] = RESIDUES[c];
+                if (n == chunk.length)
+                {
+                    matrix.append(row, chunk, 0, n);
+                    n = 0;
+                }
+            }
+            else if ((type & (BLANK | EOL)) == 0)
+                break;
+        }
+        if (n > 0)
+            matrix.append(row, chunk, 0, n);
+
+        in.position(pos);
+        if (pos == begin)
+            throw in.error("sequence data");
+    }
 }
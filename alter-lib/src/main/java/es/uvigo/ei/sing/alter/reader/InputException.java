@@ -0,0 +1,45 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.reader;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown by the readers when the input cannot be read, so that
+ * failures reading the input can be told apart from failures writing the
+ * output. The original exception is kept as the cause, and its message is
+ * used as the message of this one.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+public class InputException extends IOException
+{
+    /**
+     * The version identifier for this Serializable class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Class constructor.
+     * @param cause Exception thrown while reading the input.
+     */
+    public InputException(IOException cause)
+    {
+        super(cause.getMessage(), cause);
+    }
+}
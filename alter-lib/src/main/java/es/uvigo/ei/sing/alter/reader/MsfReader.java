@@ -14,27 +14,226 @@
  *  You should have received a copy of the GNU General Public License
  *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Arrays;
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import es.uvigo.ei.sing.alter.parser.MsfParser;
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
 import es.uvigo.ei.sing.alter.types.MSA;
 import es.uvigo.ei.sing.alter.types.Msf;
 import es.uvigo.ei.sing.alter.types.MsfSequence;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 
 /**
- * MSF format reader.
+ * MSF format reader. The sequence information block gives the size of the
+ * matrix, and the lines of the aligned sequences are appended to the rows in
+ * order, so only their identifiers are compared. Lengths and checksums of the
+ * sequences are computed while their residues are stored, and mismatches are
+ * only logged. A total checksum of 0 is not checked. Structure:<br>
+ * &nbsp;&nbsp;1. Any combination of spaces, tabs and new lines until
+ * "PileUp", "!!AA_MULTIPLE_ALIGNMENT" or "!!NA_MULTIPLE_ALIGNMENT".<br>
+ * &nbsp;&nbsp;2. "PileUp", "!!AA_MULTIPLE_ALIGNMENT" or
+ * "!!NA_MULTIPLE_ALIGNMENT".<br>
+ * &nbsp;&nbsp;3. Any combination of characters until "MSF:".<br>
+ * &nbsp;&nbsp;4. "MSF:" followed by the MSA's length, "Type:"
+ * followed by the MSA's type and "Check:" followed by the MSA's total checksum.
+ * This lines ends with ".."<br>
+ * &nbsp;&nbsp;5. Sequence information block made up by lines starting with
+ * "Name:" followed by the sequence identifier and " oo"
+ * as a sequence identifier end delimiter, "Len:" followed by the sequence length
+ * (all must be equal), "Check:" followed by the sequence checksum and
+ * "Weight" followed by the sequence weight.<br>
+ * &nbsp;&nbsp;6. "//" as an information block delimiter.<br>
+ * &nbsp;&nbsp;7. Aligned sequences.<br>
+ * With several threads, the blocks of aligned sequences of a large input are
+ * found from the identifiers at the start of their lines, and groups of
+ * blocks are parsed concurrently. Their rows are appended in input order and
+ * their checksums are added with the columns where they fall. If a group is
+ * not valid, the input is parsed again in a single thread.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.7
  */
 
-public class MsfReader implements Reader
+public class MsfReader extends AbstractReader
 {
+    /**
+     * New line.
+     */
+    private static final int EOL = 1;
+    /**
+     * Space or tab.
+     */
+    private static final int BLANK = 1 << 1;
+    /**
+     * Uppercase letter other than the MSA types.
+     */
+    private static final int UPPER_CASE = 1 << 2;
+    /**
+     * Lowercase letter.
+     */
+    private static final int LOWER_CASE = 1 << 3;
+    /**
+     * Digit.
+     */
+    private static final int NUMBER = 1 << 4;
+    /**
+     * Character not in any other class.
+     */
+    private static final int ANY = 1 << 5;
+    /**
+     * MSA types ("N", "P" and "A").
+     */
+    private static final int TYPE = 1 << 6;
+    /**
+     * Gap and missing symbols ("-" and "?").
+     */
+    private static final int SYMBOL = 1 << 7;
+    /**
+     * Gap or decimal point (".").
+     */
+    private static final int DOT = 1 << 8;
+    /**
+     * "PileUp", "!!AA_MULTIPLE_ALIGNMENT" or "!!NA_MULTIPLE_ALIGNMENT".
+     */
+    private static final int START = 1 << 9;
+    /**
+     * "MSF:".
+     */
+    private static final int MSF = 1 << 10;
+    /**
+     * "Type:".
+     */
+    private static final int TYPE_NAME = 1 << 11;
+    /**
+     * "Check:".
+     */
+    private static final int CHECK = 1 << 12;
+    /**
+     * "Name:".
+     */
+    private static final int NAME = 1 << 13;
+    /**
+     * "Len:".
+     */
+    private static final int LEN = 1 << 14;
+    /**
+     * "Weight:".
+     */
+    private static final int WEIGHT = 1 << 15;
+    /**
+     * "//".
+     */
+    private static final int SLASHES = 1 << 16;
+    /**
+     * "..".
+     */
+    private static final int DOTS = 1 << 17;
+    /**
+     * " oo".
+     */
+    private static final int OO = 1 << 18;
+    /**
+     * End of the input.
+     */
+    private static final int END_OF_FILE = 1 << 19;
+    /**
+     * Keyword tokens.
+     */
+    private static final int KEYWORD = START | MSF | TYPE_NAME | CHECK | NAME | LEN | WEIGHT | SLASHES | DOTS | OO;
+    /**
+     * Tokens skipped in the header.
+     */
+    private static final int TEXT = EOL | BLANK | UPPER_CASE | LOWER_CASE | NUMBER | ANY | TYPE | SYMBOL | DOT
+            | START | SLASHES | DOTS | OO;
+    /**
+     * First token of an identifier.
+     */
+    private static final int ID_START = UPPER_CASE | LOWER_CASE | NUMBER | ANY | TYPE | SYMBOL | DOT
+            | START | SLASHES | DOTS;
+    /**
+     * Tokens of an identifier.
+     */
+    private static final int ID = ID_START | BLANK;
+    /**
+     * Residues.
+     */
+    private static final int RESIDUE = UPPER_CASE | LOWER_CASE | TYPE | SYMBOL | DOT;
+    /**
+     * Keywords, matched with their case.
+     */
+    private static final String[] KEYWORDS = {"PileUp", "!!AA_MULTIPLE_ALIGNMENT", "!!NA_MULTIPLE_ALIGNMENT",
+            "MSF:", "Type:", "Check:", "Name:", "Len:", "Weight:", "//", "..", " oo"};
+    /**
+     * Token of each keyword.
+     */
+    private static final int[] KEYWORD_TOKENS = {START, START, START,
+            MSF, TYPE_NAME, CHECK, NAME, LEN, WEIGHT, SLASHES, DOTS, OO};
+    /**
+     * Number of residues in a checksum cycle.
+     */
+    private static final int CHECK_CYCLE = 57;
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Class of every byte value.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Keywords (indexes in KEYWORDS) that start with every byte value.
+     */
+    private static final int[][] KEYWORD_START = new int[256][];
+    /**
+     * Stored form of every residue byte (uppercase, with "-" for gaps).
+     */
+    private static final byte[] RESIDUES = new byte[256];
+    /**
+     * Uppercase form of every residue byte, used for the checksums.
+     */
+    private static final byte[] CHECKED = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if (c == 'N' || c == 'P' || c == 'A')
+                CLASSES[c] = TYPE;
+            else if (c >= 'A' && c <= 'Z')
+                CLASSES[c] = UPPER_CASE;
+            else if (c >= 'a' && c <= 'z')
+                CLASSES[c] = LOWER_CASE;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == '-' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else if (c == '.')
+                CLASSES[c] = DOT;
+            else
+                CLASSES[c] = ANY;
+
+            CHECKED[c] = (byte) (CLASSES[c] == LOWER_CASE ? c - 'a' + 'A' : c);
+            RESIDUES[c] = c == '.' ? (byte) '-' : CHECKED[c];
+        }
+        for (int i = 0; i < KEYWORDS.length; i++)
+        {
+            int c = KEYWORDS[i].charAt(0);
+            int[] keywords = KEYWORD_START[c] == null ? new int[0] : KEYWORD_START[c];
+            keywords = Arrays.copyOf(keywords, keywords.length + 1);
+            keywords[keywords.length - 1] = i;
+            KEYWORD_START[c] = keywords;
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -50,31 +249,699 @@ public class MsfReader implements Reader
     }
 
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        Msf msa = MsfParser.parseMSA(in);
+        Msf msa = parse(in, logger, threads);
 
         //Check if MSA is correctly constructed
+        Sequence first = (Sequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != msa.getLength()
-                    || seq.getData().length() != ((MsfSequence)seq).getLength())
+            if (seq.length() != msa.getLength()
+                    || seq.length() != ((MsfSequence)seq).getLength())
                 throw new ParseException("Sequence lengths are not equal to the given length.");
+            //Count residues (match characters are gaps in MSF, so there are none)
+            ReaderUtils.normalize(seq, first, counts);
         }
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
 
         logger.log(Level.INFO, "MSA read in MSF format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
         
         return msa;
     }
-}
\ No newline at end of file
+
+    /**
+     * Scans the input and returns a MSA in MSF format. Checksums that do
+     * not match the data are reported as warnings, since some programs write
+     * them wrong.
+     * @param in Input scanner.
+     * @param logger Logger where checksum mismatches are reported.
+     * @param threads Number of threads used for the aligned sequences.
+     * @return MSA in MSF format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Msf parse(ByteScanner in, Logger logger, int threads) throws ParseException
+    {
+        long begin = in.position();
+        Msf msa = new Parser(in, logger).msf(threads);
+        if (msa == null)
+        {
+            //Parse again in a single thread to report the first error
+            in.position(begin);
+            msa = new Parser(in, logger).msf(1);
+        }
+        return msa;
+    }
+
+    /**
+     * State of the scan of one input.
+     */
+    private static class Parser
+    {
+        /**
+         * Input scanner.
+         */
+        private ByteScanner in;
+        /**
+         * Logger where checksum mismatches are reported.
+         */
+        private Logger logger;
+        /**
+         * Start of the last token consumed.
+         */
+        private long last;
+        /**
+         * Sequences length given in the header.
+         */
+        private int length;
+        /**
+         * Checksums computed so far for each row, in progress.
+         */
+        private int[] checks;
+        /**
+         * Sums of the checked residues of each row by column cycle, kept when
+         * the columns of the lines are not known yet (null otherwise).
+         */
+        private long[][] cycles;
+
+        /**
+         * Class constructor.
+         * @param in Input scanner.
+         * @param logger Logger where checksum mismatches are reported.
+         */
+        public Parser(ByteScanner in, Logger logger)
+        {
+            this.in = in;
+            this.logger = logger;
+        }
+
+        /**
+         * Scans the whole input.
+         * @param threads Number of threads used for the aligned sequences.
+         * @return MSA in MSF format, or null if a group of blocks parsed in
+         * parallel is not valid.
+         * @throws ParseException If the input does not follow the format.
+         */
+        public Msf msf(int threads) throws ParseException
+        {
+            skip(EOL | BLANK);
+            expect(START, "\"PileUp\", \"!!AA_MULTIPLE_ALIGNMENT\" or \"!!NA_MULTIPLE_ALIGNMENT\"");
+            skip(TEXT);
+            expect(MSF, "\"MSF:\"");
+            skip(BLANK);
+            length = number();
+            skip(BLANK);
+            expect(TYPE_NAME, "\"Type:\"");
+            skip(BLANK);
+            if (token() != TYPE)
+                throw in.error("\"N\", \"P\" or \"A\"");
+            String type = String.valueOf((char) in.next());
+            skip(TEXT);
+            expect(CHECK, "\"Check:\"");
+            skip(BLANK);
+            int check = number();
+            skip(BLANK);
+            expect(DOTS, "\"..\"");
+            skip(BLANK);
+            expect(EOL, "end of line");
+            skip(EOL);
+
+            //Sequence information block
+            Vector<String> ids = new Vector<String>();
+            Vector<Integer> lengths = new Vector<Integer>();
+            Vector<Integer> sums = new Vector<Integer>();
+            Vector<Float> weights = new Vector<Float>();
+            do
+            {
+                skip(BLANK);
+                expect(NAME, "\"Name:\"");
+                skip(BLANK);
+                ids.add(id());
+                while (token() == OO)
+                {
+                    consume(OO);
+                    expect(BLANK, "blank");
+                    skip(BLANK);
+                }
+                expect(LEN, "\"Len:\"");
+                skip(BLANK);
+                lengths.add(number());
+                skip(BLANK);
+                expect(CHECK, "\"Check:\"");
+                skip(BLANK);
+                sums.add(number());
+                skip(BLANK);
+                expect(WEIGHT, "\"Weight:\"");
+                skip(BLANK);
+                weights.add(weight());
+                skip(BLANK);
+                expect(EOL, "end of line");
+                skip(EOL);
+            }
+            while ((token() & (BLANK | NAME)) != 0);
+            expect(SLASHES, "\"//\"");
+            skip(BLANK);
+            do
+            {
+                expect(EOL, "end of line");
+                skip(BLANK);
+            }
+            while (token() == EOL);
+
+            //The rows are allocated from the header
+            int taxa = ids.size();
+            AlignmentMatrix matrix = new AlignmentMatrix(taxa, length);
+            Vector<MsfSequence> seqs = new Vector<MsfSequence>();
+            int[] lens = new int[taxa];
+            for (int i = 0; i < taxa; i++)
+            {
+                int row = matrix.addRow(ids.elementAt(i));
+                seqs.add(new MsfSequence(matrix, row, lengths.elementAt(i), sums.elementAt(i),
+                        weights.elementAt(i)));
+                lens[i] = lengths.elementAt(i);
+            }
+            checks = new int[taxa];
+
+            //Aligned sequences, one line per row in turn
+            if (!parallelBlocks(matrix, lens, threads))
+            {
+                matrix.close();
+                return null;
+            }
+            sequences(matrix, lens, new byte[CHUNK]);
+            expect(END_OF_FILE, "sequence identifier or end of file");
+
+            //Checksums are only informative
+            int total = 0;
+            for (int i = 0; i < taxa; i++)
+            {
+                if (checks[i] != seqs.elementAt(i).getChecksum())
+                    logger.log(Level.WARNING, "Checksum of sequence \"" + matrix.getId(i)
+                            + "\" does not match its data.");
+                total = (total + checks[i]) % 10000;
+            }
+            //MUSCLE writes a total checksum of 0, so it is not checked
+            if (check != 0 && total != check)
+                logger.log(Level.WARNING, "MSA checksum does not match the sequences data.");
+
+            matrix.trim();
+            return new Msf(seqs, length, type, check);
+        }
+
+        /**
+         * Scans lines of aligned sequences, one per row in turn, until no
+         * identifier follows.
+         * @param matrix Alignment matrix, with every row.
+         * @param lens Length given for every sequence.
+         * @param chunk Buffer where residues are gathered before copying them.
+         * @return Row of the line that would follow (0 after a complete block).
+         * @throws ParseException If the input does not follow the format.
+         */
+        private int sequences(AlignmentMatrix matrix, int[] lens, byte[] chunk) throws ParseException
+        {
+            int taxa = matrix.getTaxa();
+            int cont = 0;
+            do
+            {
+                idSeq(matrix.getId(cont));
+                expect(BLANK, "blank");
+                data(matrix, cont, lens[cont], chunk);
+                if (expect(EOL | END_OF_FILE, "end of line") == EOL)
+                    lines();
+                cont++;
+                if (cont == taxa)
+                    cont = 0;
+            }
+            while ((token() & ID_START) != 0);
+            return cont;
+        }
+
+        /**
+         * Scans the complete blocks of aligned sequences with several
+         * threads, if the input is large enough. Groups of blocks are parsed
+         * concurrently into their own matrices, which are appended to the rows
+         * in input order, and the scanner is moved after them. The last block
+         * is always left to be scanned in a single thread.
+         * @param matrix Alignment matrix, with every row.
+         * @param lens Length given for every sequence.
+         * @param threads Number of threads.
+         * @return False if a group is not valid, and the input has to be
+         * parsed again in a single thread.
+         * @throws ParseException If the current thread is interrupted.
+         */
+        private boolean parallelBlocks(AlignmentMatrix matrix, int[] lens, int threads) throws ParseException
+        {
+            int count = RangeParser.count(threads, in.limit() - in.position());
+            if (count < 2)
+                return true;
+            byte[][] ids = new byte[matrix.getTaxa()][];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = matrix.getId(i).getBytes(ByteScanner.UTF8);
+            long[] bounds = RangeParser.cut(starts(ids), count);
+            if (bounds.length < 3)
+                return true;
+            if (!new Blocks(matrix, lens, length, checks).run(in, bounds, threads))
+                return false;
+            //Blocks are cut at the start of a line, before the blanks
+            in.position(bounds[bounds.length - 1]);
+            lines();
+            return true;
+        }
+
+        /**
+         * Finds the blocks of aligned sequences, as long as each one has a
+         * line for every row that starts with its identifier and a blank. The
+         * lines are not scanned, they are checked when the blocks are parsed.
+         * @param ids Identifiers of the rows (in UTF-8).
+         * @return Start of every block found followed by another one, and of
+         * the last block (at the start of a line, before the blanks).
+         */
+        private long[] starts(byte[][] ids)
+        {
+            long pos = in.position();
+            long[] starts = new long[64];
+            int n = 0;
+            starts[n++] = pos;
+            while (true)
+            {
+                for (int i = 0; i < ids.length; i++)
+                    if (!startsRow(blanks(pos), ids[i]) || (pos = in.lineEnd(blanks(pos))) < 0)
+                        return Arrays.copyOf(starts, n);
+                if (!startsRow(blanks(pos), ids[0]))
+                    return Arrays.copyOf(starts, n);
+                if (n == starts.length)
+                    starts = Arrays.copyOf(starts, n * 2);
+                starts[n++] = pos;
+            }
+        }
+
+        /**
+         * Skips blanks and new lines, without moving.
+         * @param pos Position in the input.
+         * @return Position of the first byte that is not a blank or a new
+         * line.
+         */
+        private long blanks(long pos)
+        {
+            long limit = in.limit();
+            while (pos < limit && (CLASSES[in.get(pos)] & (EOL | BLANK)) != 0)
+                pos++;
+            return pos;
+        }
+
+        /**
+         * Indicates if a line starts with an identifier followed by a blank.
+         * @param pos Start of the line.
+         * @param id Identifier (in UTF-8).
+         * @return True if the line starts with the identifier.
+         */
+        private boolean startsRow(long pos, byte[] id)
+        {
+            long end = pos + id.length;
+            return in.matches(pos, id) && end < in.limit() && CLASSES[in.get(end)] == BLANK;
+        }
+
+        /**
+         * Scans a sequence identifier, ended by " oo" or by the next keyword.
+         * It can contain spaces and tabs.
+         * @return Sequence identifier (without surrounding spaces).
+         * @throws ParseException If there is no identifier.
+         */
+        private String id() throws ParseException
+        {
+            long begin = in.position();
+            expect(ID_START, "sequence identifier");
+            skip(ID);
+            return in.text(begin, in.position()).trim();
+        }
+
+        /**
+         * Scans the identifier at the start of an aligned sequences line. Its
+         * tokens are read until they are as long as the expected identifier,
+         * and then both must be equal.
+         * @param id Expected identifier.
+         * @throws ParseException If the identifier is different.
+         */
+        private void idSeq(String id) throws ParseException
+        {
+            long begin = in.position();
+            int chars = 0;
+            int token = expect(ID_START, "sequence identifier");
+            while (true)
+            {
+                //Identifiers are compared in characters, not in bytes
+                for (long i = last; i < in.position(); i++)
+                {
+                    int c = in.get(i);
+                    if ((c & 0xC0) != 0x80)
+                        chars += c >= 0xF0 ? 2 : 1;
+                }
+                if (chars == id.length())
+                {
+                    if (in.text(begin, in.position()).equals(id))
+                        return;
+                    break;
+                }
+                if (((token = token()) & ID) == 0)
+                    break;
+                consume(token);
+            }
+            throw new ParseException("ID for sequence \"" + id
+                    + "\"does not match with ID in line " + in.line(last));
+        }
+
+        /**
+         * Scans a data line (residues, spaces and tabs), appends its residues
+         * to a row of the matrix and adds them to the row checksum.
+         * @param matrix Alignment matrix.
+         * @param row Row of the sequence.
+         * @param len Length given for the sequence.
+         * @param chunk Buffer where residues are gathered before copying them.
+         * @throws ParseException If the line is empty or the row gets longer
+         * than its length.
+         */
+        private void data(AlignmentMatrix matrix, int row, int len, byte[] chunk) throws ParseException
+        {
+            long limit = in.limit();
+            long pos = in.position();
+            int column = matrix.getLength(row);
+            long[] cycle = cycles == null ? null : cycles[row];
+            long check = 0;
+            int tokens = 0;
+            int n = 0;
+            while (pos < limit)
+            {
+                int c = in.get(pos);
+                int kind = CLASSES[c];
+                if ((kind & RESIDUE) != 0)
+                {
+                    //Letters may start a keyword, which ends the line
+                    if (KEYWORD_START[c] != null && c != '.' && keyword(pos) != 0)
+                        break;
+                    chunk[n++] = RESIDUES[c];
+                    if (cycle != null)
+                        cycle[column % CHECK_CYCLE] += CHECKED[c];
+                    check += (column++ % CHECK_CYCLE + 1) * CHECKED[c];
+                    if (n == chunk.length)
+                    {
+                        matrix.append(row, chunk, 0, n);
+                        n = 0;
+                    }
+                }
+                else if (kind != BLANK || (c == ' ' && keyword(pos) == OO))
+                    break;
+                pos++;
+                tokens++;
+            }
+            if (n > 0)
+                matrix.append(row, chunk, 0, n);
+            checks[row] = (int) ((checks[row] + check) % 10000);
+
+            in.position(pos);
+            if (tokens == 0)
+                throw in.error("sequence data");
+            if (column > length || column > len)
+                throw new ParseException("Sequence lengths are not equal to the given length.");
+        }
+
+        /**
+         * Skips blanks and new lines, after a new line.
+         */
+        private void lines()
+        {
+            skip(BLANK);
+            while (token() == EOL)
+            {
+                consume(EOL);
+                skip(BLANK);
+            }
+        }
+
+        /**
+         * Scans a number.
+         * @return Parsed number.
+         * @throws ParseException If there is no number.
+         */
+        private int number() throws ParseException
+        {
+            long begin = in.position();
+            expect(NUMBER, "number");
+            skip(NUMBER);
+            return Integer.parseInt(in.text(begin, in.position()));
+        }
+
+        /**
+         * Scans a weight (a number with decimals).
+         * @return Parsed weight.
+         * @throws ParseException If there is no weight.
+         */
+        private float weight() throws ParseException
+        {
+            long begin = in.position();
+            number();
+            expect(DOT, "\".\"");
+            number();
+            return Float.parseFloat(in.text(begin, in.position()));
+        }
+
+        /**
+         * Skips tokens while they are among the given ones.
+         * @param mask Tokens to skip.
+         */
+        private void skip(int mask)
+        {
+            int token;
+            while (((token = token()) & mask) != 0)
+                consume(token);
+        }
+
+        /**
+         * Consumes a token, that must be among the given ones.
+         * @param mask Expected tokens.
+         * @param expected Description of the expected tokens.
+         * @return Consumed token.
+         * @throws ParseException If another token is found.
+         */
+        private int expect(int mask, String expected) throws ParseException
+        {
+            int token = token();
+            if ((token & mask) == 0)
+                throw in.error(expected);
+            consume(token);
+            return token;
+        }
+
+        /**
+         * Returns the next token without consuming it.
+         * @return Token.
+         */
+        private int token()
+        {
+            int c = in.peek();
+            if (c == ByteScanner.EOF)
+                return END_OF_FILE;
+            if (KEYWORD_START[c] != null)
+            {
+                int token = keyword(in.position());
+                if (token != 0)
+                    return token;
+            }
+            return CLASSES[c];
+        }
+
+        /**
+         * Consumes the next token.
+         * @param token Next token.
+         */
+        private void consume(int token)
+        {
+            last = in.position();
+            if ((token & KEYWORD) != 0)
+                in.position(last + KEYWORDS[keywordAt(last)].length());
+            else if (token == EOL)
+                in.skipEOL();
+            else
+                in.next();
+        }
+
+        /**
+         * Returns the keyword token at a position, if there is one.
+         * @param at Position in the input.
+         * @return Keyword token, or 0 if no keyword starts there.
+         */
+        private int keyword(long at)
+        {
+            int i = keywordAt(at);
+            return i < 0 ? 0 : KEYWORD_TOKENS[i];
+        }
+
+        /**
+         * Looks for the keyword that starts at a position.
+         * @param at Position in the input.
+         * @return Index of the keyword, or -1 if no keyword starts there.
+         */
+        private int keywordAt(long at)
+        {
+            int[] keywords = KEYWORD_START[in.get(at)];
+            if (keywords == null)
+                return -1;
+            long limit = in.limit();
+            for (int i : keywords)
+            {
+                String keyword = KEYWORDS[i];
+                int k = 0;
+                while (k < keyword.length() && at + k < limit && in.get(at + k) == keyword.charAt(k))
+                    k++;
+                if (k == keyword.length())
+                    return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Rows of a group of blocks of aligned sequences, with the sums of their
+     * checked residues by column cycle.
+     */
+    private static class Group
+    {
+        /**
+         * Matrix with the rows of the group.
+         */
+        private AlignmentMatrix matrix;
+        /**
+         * Sums of the checked residues of each row by column cycle.
+         */
+        private long[][] cycles;
+
+        /**
+         * Class constructor.
+         * @param matrix Matrix with the rows of the group.
+         * @param cycles Sums of the checked residues of each row by column
+         * cycle.
+         */
+        Group(AlignmentMatrix matrix, long[][] cycles)
+        {
+            this.matrix = matrix;
+            this.cycles = cycles;
+        }
+    }
+
+    /**
+     * Parser of groups of complete blocks of aligned sequences.
+     */
+    private static class Blocks extends RangeParser<Group>
+    {
+        /**
+         * Alignment matrix of the MSA.
+         */
+        private AlignmentMatrix matrix;
+        /**
+         * Identifiers of the rows.
+         */
+        private String[] ids;
+        /**
+         * Length given for every sequence.
+         */
+        private int[] lens;
+        /**
+         * Sequences length given in the header.
+         */
+        private int length;
+        /**
+         * Checksums of the rows, in progress.
+         */
+        private int[] checks;
+
+        /**
+         * Class constructor.
+         * @param matrix Alignment matrix of the MSA, with every row.
+         * @param lens Length given for every sequence.
+         * @param length Sequences length given in the header.
+         * @param checks Checksums of the rows, in progress.
+         */
+        Blocks(AlignmentMatrix matrix, int[] lens, int length, int[] checks)
+        {
+            this.matrix = matrix;
+            this.lens = lens;
+            this.length = length;
+            this.checks = checks;
+            this.ids = new String[matrix.getTaxa()];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = matrix.getId(i);
+        }
+
+        /**
+         * Parses a group of blocks into its own matrix. Checksums are kept by
+         * column cycle, since the columns of the group are not known yet.
+         * @param range Scanner of the group.
+         * @return Rows of the group, or null if the group does not end with a
+         * complete block.
+         * @throws ParseException If the group does not follow the format.
+         */
+        @Override
+        Group parse(ByteScanner range) throws ParseException
+        {
+            AlignmentMatrix rows = new AlignmentMatrix(ids.length,
+                    (int) Math.min((range.limit() - range.position()) / ids.length, Integer.MAX_VALUE));
+            for (int i = 0; i < ids.length; i++)
+                rows.addRow(ids[i]);
+            Parser parser = new Parser(range, null);
+            parser.length = length;
+            parser.checks = new int[ids.length];
+            parser.cycles = new long[ids.length][CHECK_CYCLE];
+            parser.lines();
+            if (parser.sequences(rows, lens, new byte[CHUNK]) != 0 || range.position() != range.limit())
+                return null;
+            return new Group(rows, parser.cycles);
+        }
+
+        /**
+         * Appends the rows of a group to the matrix of the MSA, and adds
+         * their checksums with the columns where they fall.
+         * @param group Rows of the group.
+         * @return False if a row gets longer than its length.
+         */
+        @Override
+        boolean merge(Group group)
+        {
+            for (int i = 0; i < ids.length; i++)
+            {
+                int column = matrix.getLength(i);
+                long check = 0;
+                for (int k = 0; k < CHECK_CYCLE; k++)
+                    check += ((column + k) % CHECK_CYCLE + 1) * group.cycles[i][k];
+                checks[i] = (int) ((checks[i] + check) % 10000);
+                matrix.append(i, group.matrix, i);
+                if (matrix.getLength(i) > length || matrix.getLength(i) > lens[i])
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Releases the matrix of a group.
+         * @param group Rows and checksum cycles of the group.
+         */
+        @Override
+        void close(Group group)
+        {
+            group.matrix.close();
+        }
+    }
+}
@@ -14,26 +14,208 @@
  *  You should have received a copy of the GNU General Public License
  *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Arrays;
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import es.uvigo.ei.sing.alter.parser.NexusParser;
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
 import es.uvigo.ei.sing.alter.types.MSA;
 import es.uvigo.ei.sing.alter.types.Nexus;
+import es.uvigo.ei.sing.alter.types.NexusSequence;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 
 /**
- * NEXUS format reader.
+ * NEXUS format reader. Blocks other than DATA, TAXA and CHARACTERS are
+ * skipped without being parsed, only the ntax, nchar and datatype parameters
+ * of the header are read, and the matrix is scanned byte by byte, writing the
+ * residues straight into the alignment matrix. Keywords are case insensitive
+ * and comments ("[...]") are ignored everywhere. Structure:<br>
+ * &nbsp;&nbsp;1. Any combination of spaces, tabs and new lines until "#NEXUS".<br>
+ * &nbsp;&nbsp;2. "#NEXUS".<br>
+ * &nbsp;&nbsp;3. Any combination of characters until "BEGIN DATA;" (or
+ * "BEGIN TAXA;" with ntax, followed by "BEGIN CHARACTERS;").<br>
+ * &nbsp;&nbsp;4. "ntax=", "nchar=" and "datatype=" among any other
+ * characters.<br>
+ * &nbsp;&nbsp;5. "matrix".<br>
+ * &nbsp;&nbsp;6. Sequences in NEXUS format (interleaved or not):<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;6a. Sequence identifier.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;6b. Data line.<br>
+ * &nbsp;&nbsp;7. ";".<br>
+ * &nbsp;&nbsp;8. "end;".<br>
+ * &nbsp;&nbsp;9. Any combination of characters until the end of file.<br>
+ * With several threads, the blocks of a large interleaved matrix are found
+ * from the identifiers that start their lines, and groups of blocks are parsed
+ * concurrently and appended to the rows in input order. The input is parsed
+ * again in a single thread if any group is not valid.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.6
  */
 
-public class NexusReader implements Reader
+public class NexusReader extends AbstractReader
 {
+    /**
+     * New line.
+     */
+    private static final int EOL = 1;
+    /**
+     * Space or tab.
+     */
+    private static final int BLANK = 1 << 1;
+    /**
+     * Letter (keywords are case insensitive, so case is not told apart).
+     */
+    private static final int LETTER = 1 << 2;
+    /**
+     * Digit.
+     */
+    private static final int NUMBER = 1 << 3;
+    /**
+     * Character not in any other class.
+     */
+    private static final int ANY = 1 << 4;
+    /**
+     * ";".
+     */
+    private static final int SEMICOLON = 1 << 5;
+    /**
+     * Gap, match and missing symbols ("-", "." and "?").
+     */
+    private static final int SYMBOL = 1 << 6;
+    /**
+     * "=".
+     */
+    private static final int EQUALS = 1 << 7;
+    /**
+     * Quote.
+     */
+    private static final int QUOTE = 1 << 8;
+    /**
+     * "#NEXUS".
+     */
+    private static final int NEXUS = 1 << 9;
+    /**
+     * "ntax".
+     */
+    private static final int NTAX = 1 << 10;
+    /**
+     * "nchar".
+     */
+    private static final int NCHAR = 1 << 11;
+    /**
+     * "datatype".
+     */
+    private static final int DATATYPE = 1 << 12;
+    /**
+     * "matrix".
+     */
+    private static final int MATRIX = 1 << 13;
+    /**
+     * "end;".
+     */
+    private static final int END = 1 << 14;
+    /**
+     * "BEGIN DATA".
+     */
+    private static final int BEGIN_DATA = 1 << 15;
+    /**
+     * "BEGIN TAXA".
+     */
+    private static final int BEGIN_TAXA = 1 << 16;
+    /**
+     * "BEGIN CHARACTERS".
+     */
+    private static final int BEGIN_CHARACTERS = 1 << 17;
+    /**
+     * End of the input.
+     */
+    private static final int END_OF_FILE = 1 << 18;
+    /**
+     * Tokens skipped inside the DATA, TAXA and CHARACTERS headers.
+     */
+    private static final int TEXT = EOL | BLANK | LETTER | NUMBER | ANY | SEMICOLON | SYMBOL | EQUALS | QUOTE;
+    /**
+     * Tokens skipped until the first block of interest.
+     */
+    private static final int PREAMBLE = TEXT | NEXUS | NTAX | NCHAR | DATATYPE | MATRIX | END;
+    /**
+     * First token of an unquoted identifier.
+     */
+    private static final int ID = LETTER | NUMBER | ANY | SYMBOL | EQUALS
+            | NEXUS | NTAX | NCHAR | DATATYPE | MATRIX | BEGIN_DATA;
+    /**
+     * Tokens of a quoted identifier.
+     */
+    private static final int QUOTED = ID | END;
+    /**
+     * Tokens of an unquoted identifier after the first one.
+     */
+    private static final int WORD = QUOTED | SEMICOLON | QUOTE;
+    /**
+     * Keywords, in lowercase.
+     */
+    private static final String[] KEYWORDS = {"#nexus", "ntax", "nchar", "datatype", "matrix", "end;",
+        "begin data", "begin taxa", "begin characters"};
+    /**
+     * Token of every keyword.
+     */
+    private static final int[] KEYWORD_TOKENS = {NEXUS, NTAX, NCHAR, DATATYPE, MATRIX, END,
+        BEGIN_DATA, BEGIN_TAXA, BEGIN_CHARACTERS};
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Token of every byte value, when it is not the start of a keyword or a
+     * comment.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Bytes that can start a keyword.
+     */
+    private static final boolean[] KEYWORD_START = new boolean[256];
+    /**
+     * Uppercase form of every residue byte.
+     */
+    private static final byte[] RESIDUES = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))
+                CLASSES[c] = LETTER;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == ';')
+                CLASSES[c] = SEMICOLON;
+            else if (c == '-' || c == '.' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else if (c == '=')
+                CLASSES[c] = EQUALS;
+            else if (c == '"' || c == '\'')
+                CLASSES[c] = QUOTE;
+            else
+                CLASSES[c] = ANY;
+
+            RESIDUES[c] = (byte) (c >= 'a' && c <= 'z' ? c - 'a' + 'A' : c);
+        }
+        for (int i = 0; i < KEYWORDS.length; i++)
+        {
+            char c = KEYWORDS[i].charAt(0);
+            KEYWORD_START[c] = true;
+            KEYWORD_START[Character.toUpperCase(c)] = true;
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -49,15 +231,15 @@ public class NexusReader implements Reader
     }
 
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        Nexus msa = NexusParser.parseMSA(in);
+        Nexus msa = parse(in, threads);
 
         //Check if the number of sequences is equal to the given one
         if (msa.getSeqs().size() != msa.getTaxa())
@@ -65,21 +247,659 @@ public class NexusReader implements Reader
 
         //Check if MSA is correctly constructed
         Sequence first = (Sequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != msa.getLength())
+            if (seq.length() != msa.getLength())
                 throw new ParseException("Sequence lengths are not equal to the given length.");
-            //Replace match characters
-            ReaderUtils.replaceMatch(seq, first);
+            //Replace match characters and count residues
+            ReaderUtils.normalize(seq, first, counts);
         }
 
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
+
         logger.log(Level.INFO, "MSA read in NEXUS format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
 
         return msa;
     }
+
+    /**
+     * Scans the input and returns a MSA in NEXUS format.
+     * @param in Input scanner.
+     * @param threads Number of threads used for the blocks of an interleaved
+     * matrix.
+     * @return MSA in NEXUS format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Nexus parse(ByteScanner in, int threads) throws ParseException
+    {
+        long begin = in.position();
+        Nexus msa = new Parser(in).nexus(threads);
+        if (msa == null)
+        {
+            //Parse again in a single thread to report the first error
+            in.position(begin);
+            msa = new Parser(in).nexus(1);
+        }
+        return msa;
+    }
+
+    /**
+     * State of the scan of one input.
+     */
+    private static class Parser
+    {
+        /**
+         * Input scanner.
+         */
+        private ByteScanner in;
+        /**
+         * Start of the last token consumed.
+         */
+        private long last;
+        /**
+         * Number of sequences (ntax).
+         */
+        private int taxa = 0;
+        /**
+         * Sequences length (nchar).
+         */
+        private int length = 0;
+        /**
+         * MSA type (datatype).
+         */
+        private String type = "";
+
+        /**
+         * Class constructor.
+         * @param in Input scanner.
+         */
+        public Parser(ByteScanner in)
+        {
+            this.in = in;
+        }
+
+        /**
+         * Scans the whole input.
+         * @param threads Number of threads used for the blocks of an
+         * interleaved matrix.
+         * @return MSA in NEXUS format, or null if a group of blocks parsed in
+         * parallel is not valid.
+         * @throws ParseException If the input does not follow the format.
+         */
+        public Nexus nexus(int threads) throws ParseException
+        {
+            skip(EOL | BLANK);
+            expect(NEXUS, "\"#NEXUS\"");
+            skip(PREAMBLE);
+
+            int token = token();
+            if (token == BEGIN_DATA)
+            {
+                consume(token);
+                expect(SEMICOLON, "\";\"");
+                skip(TEXT);
+                parameters(NTAX | NCHAR | DATATYPE);
+
+                if (taxa == 0)
+                    throw new ParseException("Number of sequences (ntax) missing in NEXUS header.");
+                if (length == 0)
+                    throw new ParseException("Sequences length (nchar) missing in NEXUS header.");
+                if (type.isEmpty())
+                    throw new ParseException("MSA type (datatype) missing in NEXUS header.");
+            }
+            else if (token == BEGIN_TAXA)
+            {
+                consume(token);
+                expect(SEMICOLON, "\";\"");
+                skip(TEXT);
+                parameter(expect(NTAX, "\"ntax\""));
+                skip(TEXT);
+                expect(END, "\"end;\"");
+
+                if (taxa == 0)
+                    throw new ParseException("Number of sequences (ntax) missing in NEXUS header.");
+
+                skip(TEXT);
+                expect(BEGIN_CHARACTERS, "\"BEGIN CHARACTERS\"");
+                expect(SEMICOLON, "\";\"");
+                skip(TEXT);
+                parameters(NCHAR | DATATYPE);
+
+                if (length == 0)
+                    throw new ParseException("Sequences length (nchar) missing in NEXUS header.");
+                if (type.isEmpty())
+                    throw new ParseException("MSA type (datatype) missing in NEXUS header.");
+            }
+            else
+                throw in.error("\"BEGIN DATA\" or \"BEGIN TAXA\"");
+
+            AlignmentMatrix matrix = new AlignmentMatrix(taxa, length);
+            Vector<NexusSequence> seqs = new Vector<NexusSequence>();
+            byte[] chunk = new byte[CHUNK];
+
+            expect(MATRIX, "\"matrix\"");
+            skip(BLANK);
+            expect(EOL, "end of line");
+            lines();
+
+            //First block, one new sequence per line
+            int cont = 0;
+            do
+            {
+                int row = matrix.addRow(id());
+                expect(BLANK, "blank");
+                data(matrix, row, chunk);
+                lineEnd();
+                seqs.add(new NexusSequence(matrix, row));
+                cont++;
+            }
+            while (cont != taxa && (token() & (ID | QUOTE)) != 0);
+
+            //Rest of the blocks of an interleaved matrix
+            if (seqs.size() == taxa && !parallelBlocks(matrix, threads))
+            {
+                matrix.close();
+                return null;
+            }
+            blocks(matrix, chunk);
+
+            expect(END, "\"end;\"");
+            //The rest of the input is omitted, but comments must be closed
+            int c;
+            while ((c = in.peek()) != ByteScanner.EOF)
+            {
+                if (c == '[')
+                    comment();
+                else
+                    in.next();
+            }
+
+            matrix.trim();
+            return new Nexus(taxa, length, type, seqs);
+        }
+
+        /**
+         * Scans the lines of the blocks after the first one, appending each
+         * one to the row of its sequence, until no identifier follows.
+         * @param matrix Alignment matrix, with the rows of the first block.
+         * @param chunk Buffer where residues are gathered before copying them.
+         * @return Row of the line that would follow (0 after a complete block).
+         * @throws ParseException If the input does not follow the format.
+         */
+        private int blocks(AlignmentMatrix matrix, byte[] chunk) throws ParseException
+        {
+            int rows = matrix.getTaxa();
+            int cont = 0;
+            while ((token() & (ID | QUOTE)) != 0)
+            {
+                //Rows are in the same order as the sequences
+                String id = id();
+                if (!id.equals(matrix.getId(cont)))
+                    throw new ParseException("ID for sequence \"" + matrix.getId(cont)
+                            + "\"does not match with ID in line " + in.line(last));
+                expect(BLANK, "blank");
+                data(matrix, cont, chunk);
+                lineEnd();
+                cont++;
+                if (cont == rows)
+                    cont = 0;
+            }
+            return cont;
+        }
+
+        /**
+         * Scans the complete blocks that follow with several threads, if the
+         * input is large enough. Groups of blocks are parsed concurrently into
+         * their own matrices, which are appended to the rows in input order,
+         * and the scanner is moved after them. The last block is always left
+         * to be scanned in a single thread, with the end of the matrix.
+         * @param matrix Alignment matrix, with every row.
+         * @param threads Number of threads.
+         * @return False if a group is not valid, and the input has to be
+         * parsed again in a single thread.
+         * @throws ParseException If the current thread is interrupted.
+         */
+        private boolean parallelBlocks(AlignmentMatrix matrix, int threads) throws ParseException
+        {
+            int count = RangeParser.count(threads, in.limit() - in.position());
+            if (count < 2)
+                return true;
+            byte[][] ids = new byte[matrix.getTaxa()][];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = matrix.getId(i).getBytes(ByteScanner.UTF8);
+            long[] bounds = RangeParser.cut(starts(ids), count);
+            if (bounds.length < 3)
+                return true;
+            if (!new Blocks(matrix, length).run(in, bounds, threads))
+                return false;
+            //Blocks are cut at the start of a line, before the blanks
+            in.position(bounds[bounds.length - 1]);
+            lines();
+            return true;
+        }
+
+        /**
+         * Finds the blocks that follow, as long as each one has a line for
+         * every row that starts with its identifier and a blank. The lines
+         * are not scanned, they are checked when the blocks are parsed.
+         * @param ids Identifiers of the rows (in UTF-8).
+         * @return Start of every block found followed by another one, and of
+         * the last block (at the start of a line, before the blanks).
+         */
+        private long[] starts(byte[][] ids)
+        {
+            long pos = in.position();
+            long[] starts = new long[64];
+            int n = 0;
+            starts[n++] = pos;
+            while (true)
+            {
+                for (int i = 0; i < ids.length; i++)
+                    if (!startsRow(blanks(pos), ids[i]) || (pos = in.lineEnd(blanks(pos))) < 0)
+                        return Arrays.copyOf(starts, n);
+                if (!startsRow(blanks(pos), ids[0]))
+                    return Arrays.copyOf(starts, n);
+                if (n == starts.length)
+                    starts = Arrays.copyOf(starts, n * 2);
+                starts[n++] = pos;
+            }
+        }
+
+        /**
+         * Skips blanks and new lines, without moving.
+         * @param pos Position in the input.
+         * @return Position of the first byte that is not a blank or a new
+         * line.
+         */
+        private long blanks(long pos)
+        {
+            long limit = in.limit();
+            while (pos < limit && (CLASSES[in.get(pos)] & (EOL | BLANK)) != 0)
+                pos++;
+            return pos;
+        }
+
+        /**
+         * Indicates if a line starts with an identifier followed by a blank.
+         * @param pos Start of the line.
+         * @param id Identifier (in UTF-8).
+         * @return True if the line starts with the identifier.
+         */
+        private boolean startsRow(long pos, byte[] id)
+        {
+            long end = pos + id.length;
+            return in.matches(pos, id) && end < in.limit() && CLASSES[in.get(end)] == BLANK;
+        }
+
+        /**
+         * Scans the parameters of a header: every parameter among the given
+         * ones, followed by any text. At least one is required.
+         * @param names Tokens of the parameters.
+         * @throws ParseException If the input does not follow the format.
+         */
+        private void parameters(int names) throws ParseException
+        {
+            do
+            {
+                parameter(expect(names, "\"ntax\", \"nchar\" or \"datatype\""));
+                skip(TEXT);
+            }
+            while ((token() & names) != 0);
+        }
+
+        /**
+         * Scans the value of a parameter, after its name.
+         * @param name Token of the parameter.
+         * @throws ParseException If the input does not follow the format.
+         */
+        private void parameter(int name) throws ParseException
+        {
+            skip(BLANK);
+            expect(EQUALS, "\"=\"");
+            skip(BLANK);
+
+            StringBuilder value = new StringBuilder();
+            int kind = name == DATATYPE ? LETTER : NUMBER;
+            if (token() != kind)
+                throw in.error(kind == LETTER ? "MSA type" : "number");
+            while (token() == kind)
+                value.append((char) in.next());
+
+            if (name == NTAX)
+                taxa = Integer.parseInt(value.toString());
+            else if (name == NCHAR)
+                length = Integer.parseInt(value.toString());
+            else
+                type = value.toString().toUpperCase();
+            expect(EOL | BLANK | SEMICOLON, "blank, end of line or \";\"");
+        }
+
+        /**
+         * Scans a sequence identifier. It can be a quoted text or a word,
+         * without blanks in both cases.
+         * @return Sequence identifier.
+         * @throws ParseException If there is no identifier.
+         */
+        private String id() throws ParseException
+        {
+            int token = token();
+            int mask;
+            if (token == QUOTE)
+            {
+                consume(token);
+                mask = QUOTED;
+                token = expect(mask, "sequence identifier");
+            }
+            else
+            {
+                mask = WORD;
+                token = expect(ID, "sequence identifier");
+            }
+
+            //Comments are not part of the identifier
+            StringBuilder id = new StringBuilder();
+            long begin = last;
+            long end = in.position();
+            while (((token = token()) & mask) != 0)
+            {
+                if (in.position() != end)
+                {
+                    id.append(in.text(begin, end));
+                    begin = in.position();
+                }
+                consume(token);
+                end = in.position();
+            }
+            id.append(in.text(begin, end));
+
+            if (mask == QUOTED)
+            {
+                long content = last;
+                expect(QUOTE, "quote");
+                last = content;
+            }
+            return id.toString();
+        }
+
+        /**
+         * Scans a data line (residues, spaces and tabs) and appends its
+         * residues (in uppercase) to a row of the matrix.
+         * @param matrix Alignment matrix.
+         * @param row Row of the sequence.
+         * @param chunk Buffer where residues are gathered before copying them.
+         * @throws ParseException If the line is empty or longer than nchar.
+         */
+        private void data(AlignmentMatrix matrix, int row, byte[] chunk) throws ParseException
+        {
+            long limit = in.limit();
+            long pos = in.position();
+            int tokens = 0;
+            int n = 0;
+            while (pos < limit)
+            {
+                int c = in.get(pos);
+                int kind = CLASSES[c];
+                if ((kind & (LETTER | SYMBOL)) != 0)
+                {
+                    chunk[n++] = RESIDUES[c];
+                    if (n == chunk.length)
+                    {
+                        matrix.append(row, chunk, 0, n);
+                        n = 0;
+                    }
+                }
+                else if (c == '[')
+                {
+                    in.position(pos);
+                    comment();
+                    pos = in.position();
+                    continue;
+                }
+                else if (kind != BLANK)
+                    break;
+                pos++;
+                tokens++;
+            }
+            if (n > 0)
+                matrix.append(row, chunk, 0, n);
+
+            in.position(pos);
+            if (tokens == 0)
+                throw in.error("sequence data");
+            if (matrix.getLength(row) > length)
+                throw new ParseException("Sequence lengths are not equal to the given length.");
+        }
+
+        /**
+         * Scans the end of a matrix line: an optional ";", new lines and
+         * optionally a ";" alone in a line.
+         * @throws ParseException If the input does not follow the format.
+         */
+        private void lineEnd() throws ParseException
+        {
+            if (token() == SEMICOLON)
+            {
+                consume(SEMICOLON);
+                skip(BLANK);
+            }
+            expect(EOL, "end of line");
+            lines();
+            if (token() == SEMICOLON)
+            {
+                consume(SEMICOLON);
+                skip(BLANK);
+                expect(EOL, "end of line");
+                lines();
+            }
+        }
+
+        /**
+         * Skips blanks and new lines, after a new line.
+         * @throws ParseException If a comment is not closed.
+         */
+        private void lines() throws ParseException
+        {
+            skip(BLANK);
+            while (token() == EOL)
+            {
+                consume(EOL);
+                skip(BLANK);
+            }
+        }
+
+        /**
+         * Skips tokens while they are among the given ones.
+         * @param mask Tokens to skip.
+         * @throws ParseException If a comment is not closed.
+         */
+        private void skip(int mask) throws ParseException
+        {
+            int token;
+            while (((token = token()) & mask) != 0)
+                consume(token);
+        }
+
+        /**
+         * Consumes a token, that must be among the given ones.
+         * @param mask Expected tokens.
+         * @param expected Description of the expected tokens.
+         * @return Consumed token.
+         * @throws ParseException If another token is found.
+         */
+        private int expect(int mask, String expected) throws ParseException
+        {
+            int token = token();
+            if ((token & mask) == 0)
+                throw in.error(expected);
+            consume(token);
+            return token;
+        }
+
+        /**
+         * Returns the next token without consuming it. Comments before it
+         * are skipped.
+         * @return Token.
+         * @throws ParseException If a comment is not closed.
+         */
+        private int token() throws ParseException
+        {
+            int c = in.peek();
+            while (c == '[')
+            {
+                comment();
+                c = in.peek();
+            }
+            if (c == ByteScanner.EOF)
+                return END_OF_FILE;
+            if (KEYWORD_START[c])
+            {
+                int lower = c | 0x20;
+                for (int i = 0; i < KEYWORDS.length; i++)
+                    if (KEYWORDS[i].charAt(0) == lower && matches(KEYWORDS[i]))
+                        return KEYWORD_TOKENS[i];
+            }
+            return CLASSES[c];
+        }
+
+        /**
+         * Consumes the next token.
+         * @param token Next token.
+         */
+        private void consume(int token)
+        {
+            last = in.position();
+            for (int i = 0; i < KEYWORD_TOKENS.length; i++)
+                if (token == KEYWORD_TOKENS[i])
+                {
+                    in.position(last + KEYWORDS[i].length());
+                    return;
+                }
+            if (token == EOL)
+                in.skipEOL();
+            else
+                in.next();
+        }
+
+        /**
+         * Indicates if a keyword follows, ignoring case.
+         * @param keyword Keyword in lowercase.
+         * @return True if the keyword follows.
+         */
+        private boolean matches(String keyword)
+        {
+            for (int i = 0; i < keyword.length(); i++)
+            {
+                int c = in.peek(i);
+                if (c >= 'A' && c <= 'Z')
+                    c += 'a' - 'A';
+                if (c != keyword.charAt(i))
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Skips a comment.
+         * @throws ParseException If the comment is not closed.
+         */
+        private void comment() throws ParseException
+        {
+            in.next();
+            int c;
+            while ((c = in.next()) != ']')
+                if (c == ByteScanner.EOF)
+                    throw in.error("\"]\"");
+        }
+    }
+
+    /**
+     * Parser of groups of complete blocks of an interleaved matrix.
+     */
+    private static class Blocks extends RangeParser<AlignmentMatrix>
+    {
+        /**
+         * Alignment matrix of the MSA.
+         */
+        private AlignmentMatrix matrix;
+        /**
+         * Identifiers of the rows.
+         */
+        private String[] ids;
+        /**
+         * Sequences length (nchar).
+         */
+        private int length;
+
+        /**
+         * Class constructor.
+         * @param matrix Alignment matrix of the MSA, with every row.
+         * @param length Sequences length (nchar).
+         */
+        Blocks(AlignmentMatrix matrix, int length)
+        {
+            this.matrix = matrix;
+            this.length = length;
+            this.ids = new String[matrix.getTaxa()];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = matrix.getId(i);
+        }
+
+        /**
+         * Parses a group of blocks into its own matrix.
+         * @param range Scanner of the group.
+         * @return Matrix with the rows of the group, or null if the group does
+         * not end with a complete block.
+         * @throws ParseException If the group does not follow the format.
+         */
+        @Override
+        AlignmentMatrix parse(ByteScanner range) throws ParseException
+        {
+            AlignmentMatrix rows = new AlignmentMatrix(ids.length,
+                    (int) Math.min((range.limit() - range.position()) / ids.length, Integer.MAX_VALUE));
+            for (int i = 0; i < ids.length; i++)
+                rows.addRow(ids[i]);
+            Parser parser = new Parser(range);
+            parser.length = length;
+            parser.lines();
+            if (parser.blocks(rows, new byte[CHUNK]) != 0 || range.position() != range.limit())
+                return null;
+            return rows;
+        }
+
+        /**
+         * Appends the rows of a group to the matrix of the MSA.
+         * @param rows Matrix with the rows of the group.
+         * @return False if a row gets longer than nchar.
+         */
+        @Override
+        boolean merge(AlignmentMatrix rows)
+        {
+            for (int i = 0; i < ids.length; i++)
+            {
+                matrix.append(i, rows, i);
+                if (matrix.getLength(i) > length)
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Releases the matrix of a group.
+         * @param rows Matrix with the rows of the group.
+         */
+        @Override
+        void close(AlignmentMatrix rows)
+        {
+            rows.close();
+        }
+    }
 }
@@ -14,26 +14,136 @@
  *  You should have received a copy of the GNU General Public License
  *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Arrays;
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import es.uvigo.ei.sing.alter.parser.ParseException;
-import es.uvigo.ei.sing.alter.parser.PhylipParser;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
 import es.uvigo.ei.sing.alter.types.MSA;
 import es.uvigo.ei.sing.alter.types.Phylip;
+import es.uvigo.ei.sing.alter.types.PhylipSequence;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 
 /**
- * PHYLIP format reader.
+ * PHYLIP format reader. The input is scanned once, byte by byte, and the
+ * residues are written straight into a matrix preallocated with the dimensions
+ * of the header. Structure:<br>
+ * &nbsp;&nbsp;1. Any combination of spaces, tabs and new lines
+ * until a number is found.<br>
+ * &nbsp;&nbsp;2. Taxa number (number of sequences) followed by one or more
+ * spaces or tabs and the sequences length. Any character can follow until
+ * the end of the line, these characters will be omitted.<br>
+ * &nbsp;&nbsp;3. Any combination of spaces, tabs and new lines
+ * until the first sequence identifier.<br>
+ * &nbsp;&nbsp;4. If the MSA is in sequential format sequences with the following structure follow:<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;4a. Sequence identifier.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;4b. Sequence data.<br>
+ * &nbsp;&nbsp;5. If the MSA is in interleaved format lines with the following structure follow:<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;5a. Sequence identifier.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;5b. Sequence data line.<br>
+ * The format is sequential if the first data line is longer than the second
+ * one, which is then a continuation of the first sequence.<br>
+ * With several threads, the blocks after the first one of a large interleaved
+ * PHYLIP are found by their line ends alone, and groups of them are parsed
+ * concurrently and appended to the rows in input order. If a group is not
+ * valid, the input is parsed again in a single thread to report the error.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.6
  */
 
-public class PhylipReader implements Reader
+public class PhylipReader extends AbstractReader
 {
+    /**
+     * New line characters.
+     */
+    private static final int EOL = 1;
+    /**
+     * Spaces and tabs.
+     */
+    private static final int BLANK = 2;
+    /**
+     * Uppercase letters.
+     */
+    private static final int UPPER_CASE = 4;
+    /**
+     * Lowercase letters.
+     */
+    private static final int LOWER_CASE = 8;
+    /**
+     * Digits.
+     */
+    private static final int NUMBER = 16;
+    /**
+     * Characters not in any other class.
+     */
+    private static final int ANY = 32;
+    /**
+     * Gap, match and missing symbols ("-", "." and "?").
+     */
+    private static final int SYMBOL = 64;
+    /**
+     * Quotes.
+     */
+    private static final int QUOTE = 128;
+    /**
+     * Characters of an unquoted identifier.
+     */
+    private static final int WORD = UPPER_CASE | LOWER_CASE | NUMBER | ANY | SYMBOL;
+    /**
+     * Characters of a quoted identifier.
+     */
+    private static final int QUOTED = WORD | BLANK;
+    /**
+     * Characters of the omitted end of the header line.
+     */
+    private static final int LINE = WORD | BLANK | QUOTE;
+    /**
+     * Residues.
+     */
+    private static final int RESIDUE = UPPER_CASE | LOWER_CASE | SYMBOL;
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Class of every byte value.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Uppercase form of every residue byte.
+     */
+    private static final byte[] RESIDUES = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if (c >= 'A' && c <= 'Z')
+                CLASSES[c] = UPPER_CASE;
+            else if (c >= 'a' && c <= 'z')
+                CLASSES[c] = LOWER_CASE;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == '-' || c == '.' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else if (c == '"' || c == '\'')
+                CLASSES[c] = QUOTE;
+            else
+                CLASSES[c] = ANY;
+
+            RESIDUES[c] = (byte) (CLASSES[c] == LOWER_CASE ? c - 'a' + 'A' : c);
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -49,15 +159,15 @@ public class PhylipReader implements Reader
     }
 
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        Phylip msa = PhylipParser.parseMSA(in);
+        Phylip msa = parse(in, threads);
 
         //Check if the number of sequences is equal to the given one
         if (msa.getSeqs().size() != msa.getTaxa())
@@ -65,22 +175,490 @@ public class PhylipReader implements Reader
 
         //Check if MSA is correctly constructed
         Sequence first = (Sequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != msa.getLength())
+            if (seq.length() != msa.getLength())
                 throw new ParseException("Sequence lengths are not equal to the given length.");
-            //Replace match characters
-            ReaderUtils.replaceMatch(seq, first);
+            //Replace match characters and count residues
+            ReaderUtils.normalize(seq, first, counts);
         }
 
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
 
         logger.log(Level.INFO, "MSA read in PHYLIP format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((Sequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
 
         return msa;
     }
+
+    /**
+     * Scans the input and returns a MSA in PHYLIP format.
+     * @param in Input scanner.
+     * @param threads Number of threads used for the blocks of an interleaved
+     * PHYLIP.
+     * @return MSA in PHYLIP format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Phylip parse(ByteScanner in, int threads) throws ParseException
+    {
+        long begin = in.position();
+        Vector<PhylipSequence> seqs = new Vector<PhylipSequence>();
+        byte[] chunk = new byte[CHUNK];
+
+        //Header
+        in.skip(CLASSES, EOL | BLANK);
+        int taxa = number(in);
+        if (in.skip(CLASSES, BLANK) == 0)
+            throw in.error("blank");
+        int length = number(in);
+        if (!in.skipEOL())
+        {
+            if (in.skip(CLASSES, BLANK) == 0)
+                throw in.error("blank or end of line");
+            //The rest of the line is omitted
+            if (!in.skipEOL() && (in.skip(CLASSES, LINE) == 0 || !in.skipEOL()))
+                throw in.error("end of line");
+        }
+        AlignmentMatrix matrix = new AlignmentMatrix(taxa, length);
+        in.skip(CLASSES, EOL | BLANK);
+
+        //First line
+        int row = matrix.addRow(id(in));
+        idEnd(in);
+        int read = dataLine(in, matrix, row, chunk);
+        if (!in.skipEOL())
+            throw in.error("end of line");
+        in.skip(CLASSES, EOL | BLANK);
+
+        //Second line, only counted until the layout is known
+        String id = id(in);
+        idEnd(in);
+        long data = in.position();
+        int count = dataLine(in, null, 0, chunk);
+        if (!in.skipEOL())
+            throw in.error("end of line");
+        in.skip(CLASSES, EOL | BLANK);
+        long next = in.position();
+
+        in.position(data);
+        seqs.add(new PhylipSequence(matrix, row));
+        if (read > count)
+        {
+            //It's sequential, the second line continues the first sequence
+            matrix.append(row, id);
+            dataLine(in, matrix, row, chunk);
+            in.position(next);
+            data(in, matrix, row, length - matrix.getLength(row), chunk);
+            sequential(in, matrix, seqs, length, chunk);
+        }
+        else
+        {
+            //It's interleaved
+            row = matrix.addRow(id);
+            dataLine(in, matrix, row, chunk);
+            seqs.add(new PhylipSequence(matrix, row));
+            in.position(next);
+            interleavedIds(in, matrix, seqs, taxa - 2, chunk);
+            if (seqs.size() == taxa && !parallelBlocks(in, matrix, threads))
+            {
+                matrix.close();
+                in.position(begin);
+                return parse(in, 1);
+            }
+            interleavedData(in, matrix, seqs.size(), taxa, chunk);
+        }
+        if (in.peek() != ByteScanner.EOF)
+            throw in.error("end of file");
+
+        matrix.trim();
+        return new Phylip(taxa, length, seqs);
+    }
+
+    /**
+     * Scans the first lines of an interleaved PHYLIP, adding a new sequence
+     * for every line.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param seqs Sequences vector.
+     * @param taxa Number of sequences to be scanned.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @throws ParseException If the input does not follow the format.
+     */
+    private static void interleavedIds(ByteScanner in, AlignmentMatrix matrix, Vector<PhylipSequence> seqs,
+            int taxa, byte[] chunk) throws ParseException
+    {
+        if (taxa == 0)
+            return;
+        int cont = 0;
+        do
+        {
+            int row = matrix.addRow(id(in));
+            idEnd(in);
+            dataLine(in, matrix, row, chunk);
+            seqs.add(new PhylipSequence(matrix, row));
+            lineEnd(in);
+            cont++;
+            if (cont == taxa)
+                return;
+        }
+        while (in.peek() != ByteScanner.EOF);
+    }
+
+    /**
+     * Scans the rest of the lines of an interleaved PHYLIP, appending each
+     * one to the row of its sequence.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param rows Number of rows in the matrix.
+     * @param taxa Number of sequences of every block.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @return Row of the line that would follow (0 after a complete block).
+     * @throws ParseException If the input does not follow the format.
+     */
+    private static int interleavedData(ByteScanner in, AlignmentMatrix matrix, int rows, int taxa,
+            byte[] chunk) throws ParseException
+    {
+        int cont = 0;
+        while (in.peek() != ByteScanner.EOF && (CLASSES[in.peek()] & RESIDUE) != 0)
+        {
+            //Rows are in the same order as the sequences
+            if (cont >= rows)
+                throw new ParseException("Number of sequences is not equal to the given number.");
+            dataLine(in, matrix, cont, chunk);
+            lineEnd(in);
+            cont++;
+            if (cont == taxa)
+                cont = 0;
+        }
+        return cont;
+    }
+
+    /**
+     * Scans the complete blocks of the rest of an interleaved PHYLIP with
+     * several threads, if the input is large enough. Groups of blocks are
+     * parsed concurrently into their own matrices, which are appended to the
+     * rows in input order, and the scanner is moved after them.
+     * @param in Input scanner, at the start of a block.
+     * @param matrix Alignment matrix, with every row.
+     * @param threads Number of threads.
+     * @return False if a group is not valid, and the input has to be parsed
+     * again in a single thread.
+     * @throws ParseException If the current thread is interrupted.
+     */
+    private static boolean parallelBlocks(ByteScanner in, AlignmentMatrix matrix, int threads) throws ParseException
+    {
+        int count = RangeParser.count(threads, in.limit() - in.position());
+        if (count < 2)
+            return true;
+        long[] bounds = RangeParser.cut(starts(in, matrix.getTaxa()), count);
+        if (bounds.length < 3)
+            return true;
+        if (!new Blocks(matrix).run(in, bounds, threads))
+            return false;
+        //Blocks are cut at the start of a line, before the blanks
+        in.position(bounds[bounds.length - 1]);
+        in.skip(CLASSES, EOL | BLANK);
+        return true;
+    }
+
+    /**
+     * Finds the complete blocks of the rest of an interleaved PHYLIP. Only
+     * the first byte and the end of every line are looked for, the blocks are
+     * checked when they are parsed.
+     * @param in Input scanner, at the start of a block.
+     * @param taxa Number of lines of every block.
+     * @return Start of every complete block, and the position after the last
+     * one (at the start of a line).
+     */
+    private static long[] starts(ByteScanner in, int taxa)
+    {
+        long limit = in.limit();
+        long pos = in.position();
+        long[] starts = new long[64];
+        int n = 0;
+        starts[n++] = pos;
+        while (true)
+        {
+            for (int i = 0; i < taxa; i++)
+            {
+                while (pos < limit && (CLASSES[in.get(pos)] & (EOL | BLANK)) != 0)
+                    pos++;
+                if (pos == limit || (CLASSES[in.get(pos)] & RESIDUE) == 0
+                        || (pos = in.lineEnd(pos)) < 0)
+                    return Arrays.copyOf(starts, n);
+            }
+            if (n == starts.length)
+                starts = Arrays.copyOf(starts, n * 2);
+            starts[n++] = pos;
+        }
+    }
+
+    /**
+     * Scans the sequences of a sequential PHYLIP, adding a new sequence for
+     * every identifier.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param seqs Sequences vector.
+     * @param length Length of the sequences.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @throws ParseException If the input does not follow the format.
+     */
+    private static void sequential(ByteScanner in, AlignmentMatrix matrix, Vector<PhylipSequence> seqs,
+            int length, byte[] chunk) throws ParseException
+    {
+        in.skip(CLASSES, BLANK | EOL);
+        while (in.peek() != ByteScanner.EOF)
+        {
+            int row = matrix.addRow(id(in));
+            int c = in.peek();
+            if (c == ' ' || c == '\t')
+                in.next();
+            else if (!in.skipEOL())
+                throw in.error("blank or end of line");
+            data(in, matrix, row, length, chunk);
+            seqs.add(new PhylipSequence(matrix, row));
+            in.skip(CLASSES, BLANK | EOL);
+        }
+    }
+
+    /**
+     * Scans a number.
+     * @param in Input scanner.
+     * @return Parsed number.
+     * @throws ParseException If there is no number.
+     */
+    private static int number(ByteScanner in) throws ParseException
+    {
+        long begin = in.position();
+        if (in.skip(CLASSES, NUMBER) == 0)
+            throw in.error("number");
+        return Integer.parseInt(in.text(begin, in.position()));
+    }
+
+    /**
+     * Scans a sequence identifier. It can be a quoted text without new lines
+     * or a word without blanks.
+     * @param in Input scanner.
+     * @return Identifier (without surrounding spaces).
+     * @throws ParseException If there is no identifier.
+     */
+    private static String id(ByteScanner in) throws ParseException
+    {
+        int c = in.peek();
+        if (c == '"' || c == '\'')
+        {
+            in.next();
+            long begin = in.position();
+            if (in.skip(CLASSES, QUOTED) == 0)
+                throw in.error("sequence identifier");
+            long end = in.position();
+            c = in.peek();
+            if (c != '"' && c != '\'')
+                throw in.error("quote");
+            in.next();
+            return in.text(begin, end).trim();
+        }
+
+        if (c == ByteScanner.EOF || (CLASSES[c] & WORD) == 0)
+            throw in.error("sequence identifier");
+        long begin = in.position();
+        in.skip(CLASSES, WORD | QUOTE);
+        return in.text(begin, in.position()).trim();
+    }
+
+    /**
+     * Scans the separation between an identifier and its data line: a new
+     * line, or blanks optionally followed by a new line.
+     * @param in Input scanner.
+     * @throws ParseException If there is no separation.
+     */
+    private static void idEnd(ByteScanner in) throws ParseException
+    {
+        if (!in.skipEOL())
+        {
+            if (in.skip(CLASSES, BLANK) == 0)
+                throw in.error("blank or end of line");
+            in.skipEOL();
+        }
+    }
+
+    /**
+     * Scans the end of an interleaved line, and any blank lines after it.
+     * @param in Input scanner.
+     * @throws ParseException If the line does not end there.
+     */
+    private static void lineEnd(ByteScanner in) throws ParseException
+    {
+        if (in.skipEOL())
+            in.skip(CLASSES, EOL | BLANK);
+        else if (in.peek() != ByteScanner.EOF)
+            throw in.error("end of line");
+    }
+
+    /**
+     * Scans a data line (residues, spaces and tabs) and appends its residues
+     * (in uppercase) to a row of the matrix.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix, or null to only count the residues.
+     * @param row Row of the sequence.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @return Number of residues in the line.
+     * @throws ParseException If the line does not start with a residue.
+     */
+    private static int dataLine(ByteScanner in, AlignmentMatrix matrix, int row, byte[] chunk)
+            throws ParseException
+    {
+        long pos = in.position();
+        long limit = in.limit();
+        if (pos == limit || (CLASSES[in.get(pos)] & RESIDUE) == 0)
+            throw in.error("sequence data");
+
+        int count = 0;
+        int n = 0;
+        for (; pos < limit; pos++)
+        {
+            int c = in.get(pos);
+            int type = CLASSES[c];
+            if ((type & RESIDUE) != 0)
+            {
+                count++;
+                if (matrix == null)
+                    continue;
+                chunk[n++] = RESIDUES[c];
+                if (n == chunk.length)
+                {
+                    matrix.append(row, chunk, 0, n);
+                    n = 0;
+                }
+            }
+            else if (type != BLANK)
+                break;
+        }
+        if (n > 0)
+            matrix.append(row, chunk, 0, n);
+        in.position(pos);
+        return count;
+    }
+
+    /**
+     * Scans the data of a sequence with the given length (residues, spaces,
+     * tabs and new lines) and appends its residues (in uppercase) to a row of
+     * the matrix. Scanning stops right after the last residue.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param row Row of the sequence.
+     * @param length Number of residues to be scanned.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @throws ParseException If there is no sequence data.
+     */
+    private static void data(ByteScanner in, AlignmentMatrix matrix, int row, int length, byte[] chunk)
+            throws ParseException
+    {
+        if (length == 0)
+            return;
+        long begin = in.position();
+        long limit = in.limit();
+        long pos = begin;
+        int count = 0;
+        int n = 0;
+        for (; pos < limit && count != length; pos++)
+        {
+            int c = in.get(pos);
+            int type = CLASSES[c];
+            if ((type & RESIDUE) != 0)
+            {
+                count++;
+                chunk[n++] = RESIDUES[c];
+                if (n == chunk.length)
+                {
+                    matrix.append(row, chunk, 0, n);
+                    n = 0;
+                }
+            }
+            else if ((type & (BLANK | EOL)) == 0)
+                break;
+        }
+        if (n > 0)
+            matrix.append(row, chunk, 0, n);
+
+        in.position(pos);
+        if (pos == begin)
+            throw in.error("sequence data");
+    }
+
+    /**
+     * Parser of groups of complete blocks of an interleaved PHYLIP.
+     */
+    private static class Blocks extends RangeParser<AlignmentMatrix>
+    {
+        /**
+         * Alignment matrix of the MSA.
+         */
+        private AlignmentMatrix matrix;
+        /**
+         * Number of rows.
+         */
+        private int taxa;
+
+        /**
+         * Class constructor.
+         * @param matrix Alignment matrix of the MSA, with every row.
+         */
+        Blocks(AlignmentMatrix matrix)
+        {
+            this.matrix = matrix;
+            this.taxa = matrix.getTaxa();
+        }
+
+        /**
+         * Parses a group of blocks into its own matrix.
+         * @param range Scanner of the group.
+         * @return Matrix with the rows of the group, or null if the group does
+         * not end with a complete block.
+         * @throws ParseException If the group does not follow the format.
+         */
+        @Override
+        AlignmentMatrix parse(ByteScanner range) throws ParseException
+        {
+            AlignmentMatrix rows = new AlignmentMatrix(taxa,
+                    (int) Math.min((range.limit() - range.position()) / taxa, Integer.MAX_VALUE));
+            for (int i = 0; i < taxa; i++)
+                rows.addRow(null);
+            range.skip(CLASSES, EOL | BLANK);
+            if (interleavedData(range, rows, taxa, taxa, new byte[CHUNK]) != 0 || range.peek() != ByteScanner.EOF)
+                return null;
+            return rows;
+        }
+
+        /**
+         * Appends the rows of a group to the matrix of the MSA.
+         * @param rows Matrix with the rows of the group.
+         * @return Always true.
+         */
+        @Override
+        boolean merge(AlignmentMatrix rows)
+        {
+            for (int i = 0; i < taxa; i++)
+                matrix.append(i, rows, i);
+            return true;
+        }
+
+        /**
+         * Releases the matrix of a group.
+         * @param rows Matrix with the rows of the group.
+         */
+        @Override
+        void close(AlignmentMatrix rows)
+        {
+            rows.close();
+        }
+    }
 }
@@ -14,24 +14,119 @@
  *  You should have received a copy of the GNU General Public License
  *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package es.uvigo.ei.sing.alter.reader;
 
+import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import es.uvigo.ei.sing.alter.parser.ParseException;
-import es.uvigo.ei.sing.alter.parser.PirParser;
+import es.uvigo.ei.sing.alter.types.AlignmentMatrix;
 import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.types.Pir;
 import es.uvigo.ei.sing.alter.types.PirSequence;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 
 /**
- * PIR format reader.
+ * PIR format reader. The input is scanned byte by byte with a table of
+ * character classes and the residues are written straight into the alignment
+ * matrix. Structure:<br>
+ * &nbsp;&nbsp;1. Any combination of spaces, tabs and new lines until ">".<br>
+ * &nbsp;&nbsp;2. Sequences with the following format:<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2a. ">".<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2b. Sequence type (an uppercase letter followed by
+ * an uppercase letter or a digit).<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2c. ";".<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2d. Sequence identifier (the rest of the line).<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2e. New line.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2f. Description, it can be empty.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2g. New line.<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2h. Sequence data (letters, "-", "." and "?"; spaces,
+ * tabs and new lines are omitted).<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;2i. "*".<br>
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.4
  */
-public class PirReader implements Reader
+public class PirReader extends AbstractReader
 {
+    /**
+     * New line characters.
+     */
+    private static final int EOL = 1;
+    /**
+     * Spaces and tabs.
+     */
+    private static final int BLANK = 2;
+    /**
+     * Uppercase letters.
+     */
+    private static final int UPPER_CASE = 4;
+    /**
+     * Lowercase letters.
+     */
+    private static final int LOWER_CASE = 8;
+    /**
+     * Digits.
+     */
+    private static final int NUMBER = 16;
+    /**
+     * Characters not in any other class.
+     */
+    private static final int ANY = 32;
+    /**
+     * Header symbols (">", ";" and "*").
+     */
+    private static final int HEADER = 64;
+    /**
+     * Gap, match and missing symbols ("-", "." and "?").
+     */
+    private static final int SYMBOL = 128;
+    /**
+     * Characters of an identifier or description line.
+     */
+    private static final int LINE = BLANK | UPPER_CASE | LOWER_CASE | NUMBER | ANY | HEADER | SYMBOL;
+    /**
+     * Residues.
+     */
+    private static final int RESIDUE = UPPER_CASE | LOWER_CASE | SYMBOL;
+    /**
+     * Size of the buffer used to copy residues into the matrix.
+     */
+    private static final int CHUNK = 8192;
+    /**
+     * Class of every byte value.
+     */
+    private static final int[] CLASSES = new int[256];
+    /**
+     * Uppercase form of every residue byte.
+     */
+    private static final byte[] RESIDUES = new byte[256];
+
+    static
+    {
+        for (int c = 0; c < 256; c++)
+        {
+            if (c == '\n' || c == '\r')
+                CLASSES[c] = EOL;
+            else if (c == ' ' || c == '\t')
+                CLASSES[c] = BLANK;
+            else if (c >= 'A' && c <= 'Z')
+                CLASSES[c] = UPPER_CASE;
+            else if (c >= 'a' && c <= 'z')
+                CLASSES[c] = LOWER_CASE;
+            else if (c >= '0' && c <= '9')
+                CLASSES[c] = NUMBER;
+            else if (c == '>' || c == ';' || c == '*')
+                CLASSES[c] = HEADER;
+            else if (c == '-' || c == '.' || c == '?')
+                CLASSES[c] = SYMBOL;
+            else
+                CLASSES[c] = ANY;
+
+            RESIDUES[c] = (byte) (CLASSES[c] == LOWER_CASE ? c - 'a' + 'A' : c);
+        }
+    }
+
     /**
      * Logger to register information messages.
      */
@@ -47,36 +142,161 @@ public class PirReader implements Reader
     }
 
     /**
-     * Parses an input string and returns an MSA object.
-     * @param in Input string.
-     * @return MSA object parsed from the input string.
+     * Parses the input of a scanner and returns an MSA object.
+     * @param in Input scanner.
+     * @return MSA object parsed from the input.
      * @throws ParseException If an error occurs while parsing.
      */
-    public MSA read(String in) throws ParseException
+    MSA read(ByteScanner in) throws ParseException
     {
         //Parse input
-        MSA msa = PirParser.parseMSA(in);
+        MSA msa = parse(in);
 
         //Check if MSA is correctly constructed
         PirSequence first = (PirSequence)msa.getSeqs().elementAt(0);
+        ResidueCounts counts = new ResidueCounts();
         for(int i=0;i<msa.getSeqs().size();i++)
         {
             PirSequence seq = (PirSequence)msa.getSeqs().elementAt(i);
             //Check if the sequences lengths are equal
-            if (seq.getData().length() != first.getData().length())
+            if (seq.length() != first.length())
                 throw new ParseException("Sequence lengths are not equal.");
             //Check if the types are equal
             if (seq.getType().getClass() != first.getType().getClass())
                 throw new ParseException("Sequence types are not equal.");
-            //Replace match characters
-            ReaderUtils.replaceMatch(seq, first);
+            //Replace match characters and count residues
+            ReaderUtils.normalize(seq, first, counts);
         }
 
+        msa.setCounts(counts);
+
+        //Pack sequences with the encoding of the MSA type
+        ReaderUtils.encode(msa);
+
         logger.log(Level.INFO, "MSA read in PIR format (" +
                 "Taxa = " + msa.getSeqs().size() + ", " +
-                "Length =  " + ((PirSequence)msa.getSeqs().elementAt(0)).getData().length() +
+                "Length =  " + ((PirSequence)msa.getSeqs().elementAt(0)).length() +
                 ").");
 
         return msa;
     }
+
+    /**
+     * Scans the input and returns a MSA in PIR format.
+     * @param in Input scanner.
+     * @return MSA in PIR format.
+     * @throws ParseException If the input does not follow the format.
+     */
+    static Pir parse(ByteScanner in) throws ParseException
+    {
+        AlignmentMatrix matrix = new AlignmentMatrix();
+        Vector<PirSequence> seqs = new Vector<PirSequence>();
+        byte[] chunk = new byte[CHUNK];
+        //The description is kept until another one is found
+        String desc = "";
+
+        in.skip(CLASSES, EOL | BLANK);
+        if (in.peek() != '>')
+            throw in.error("\">\"");
+        while (in.peek() == '>')
+        {
+            //Type and identifier line
+            in.next();
+            in.skip(CLASSES, BLANK);
+            int c = in.peek();
+            if (c == ByteScanner.EOF || CLASSES[c] != UPPER_CASE)
+                throw in.error("sequence type");
+            in.next();
+            int d = in.peek();
+            if (d == ByteScanner.EOF || (CLASSES[d] & (UPPER_CASE | NUMBER)) == 0)
+                throw in.error("sequence type");
+            in.next();
+            in.skip(CLASSES, BLANK);
+            if (in.peek() != ';')
+                throw in.error("\";\"");
+            in.next();
+            String id = line(in, "sequence identifier");
+
+            //Description line, an empty one keeps the last description
+            if (!in.skipEOL())
+                desc = line(in, "description or end of line");
+
+            //Sequence data, ended by "*"
+            int row = matrix.addRow(id);
+            data(in, matrix, row, chunk);
+            if (in.peek() != '*')
+                throw in.error("\"*\"");
+            in.next();
+            seqs.add(new PirSequence(matrix, row, PirSequence.decodeType((char) c, (char) d), desc));
+            //The rest of the rows are allocated with the length of the first
+            if (row == 0)
+                matrix.setRowCapacity(matrix.getLength(0));
+
+            in.skip(CLASSES, EOL | BLANK);
+            c = in.peek();
+            if (c != '>' && c != ByteScanner.EOF)
+                throw in.error("\">\" or end of file");
+        }
+
+        matrix.trim();
+        return new Pir(seqs);
+    }
+
+    /**
+     * Scans the rest of a line, which must not be empty, and its end.
+     * @param in Input scanner.
+     * @param expected Description of the line for error messages.
+     * @return Line (without surrounding spaces).
+     * @throws ParseException If the line is empty or it is not ended.
+     */
+    private static String line(ByteScanner in, String expected) throws ParseException
+    {
+        long begin = in.position();
+        if (in.skip(CLASSES, LINE) == 0)
+            throw in.error(expected);
+        long end = in.position();
+        if (!in.skipEOL())
+            throw in.error("end of line");
+        return in.text(begin, end).trim();
+    }
+
+    /**
+     * Scans sequence data and appends the residues (in uppercase) to a row of
+     * the matrix.
+     * @param in Input scanner.
+     * @param matrix Alignment matrix.
+     * @param row Row of the sequence.
+     * @param chunk Buffer where residues are gathered before copying them.
+     * @throws ParseException If there is no sequence data.
+     */
+    private static void data(ByteScanner in, AlignmentMatrix matrix, int row, byte[] chunk)
+            throws ParseException
+    {
+        long begin = in.position();
+        long limit = in.limit();
+        long pos = begin;
+        int n = 0;
+        for (; pos < limit; pos++)
+        {
+            int c = in.get(pos);
+            int type = CLASSES[c];
+            if ((type & RESIDUE) != 0)
+            {
+                chunk[n++] = RESIDUES[c];
+                if (n == chunk.length)
+                {
+                    matrix.append(row, chunk, 0, n);
+                    n = 0;
+                }
+            }
+            else if ((type & (BLANK | EOL)) == 0)
+                break;
+        }
+        if (n > 0)
+            matrix.append(row, chunk, 0, n);
+
+        in.position(pos);
+        if (pos == begin)
+            throw in.error("sequence data");
+    }
 }
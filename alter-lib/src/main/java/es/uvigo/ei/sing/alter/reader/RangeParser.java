@@ -0,0 +1,254 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.reader;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import es.uvigo.ei.sing.alter.parser.ParseException;
+
+/**
+ * Parses ranges of an input concurrently and merges them in input order. It
+ * is used by the readers whose inputs can be cut at known positions, such as
+ * the start of a sequence or of a block of an interleaved MSA. A range that
+ * is not valid stops the merge, and the reader then parses the whole input
+ * again in a single thread, so errors are the same whatever the number of
+ * threads.
+ * @param <T> Result of parsing a range.
+ * @author Daniel Gomez Blanco
+ * @version 1.2
+ */
+
+abstract class RangeParser<T>
+{
+    /**
+     * Minimum size (in bytes) of the input ranges parsed in parallel.
+     */
+    static final int MIN_RANGE = 1 << 20;
+    /**
+     * Parallel ranges per thread in which the input is cut.
+     */
+    static final int TASKS = 8;
+    /**
+     * Parallel ranges per thread parsed ahead of the merge.
+     */
+    static final int WINDOW = 2;
+
+    /**
+     * Returns the number of ranges in which an input is cut.
+     * @param threads Number of threads.
+     * @param size Size of the input in bytes.
+     * @return Number of ranges (lower than 2 if it is not worth cutting it).
+     */
+    static int count(int threads, long size)
+    {
+        if (threads < 2)
+            return 1;
+        return (int) Math.min((long) threads * TASKS, size / MIN_RANGE);
+    }
+
+    /**
+     * Picks the bounds of ranges of about the same size among the positions
+     * where an input can be cut.
+     * @param cuts Positions where the input can be cut, in order. The first
+     * and the last ones are the bounds of the whole input.
+     * @param count Number of ranges.
+     * @return Bounds of the non-empty ranges.
+     */
+    static long[] cut(long[] cuts, int count)
+    {
+        long begin = cuts[0];
+        long end = cuts[cuts.length - 1];
+        long[] bounds = new long[Math.max(count, 1) + 1];
+        int k = 0;
+        bounds[k++] = begin;
+        int j = 0;
+        for (int i = 1; i < count; i++)
+        {
+            long target = begin + (end - begin) * i / count;
+            while (cuts[j] < target)
+                j++;
+            if (cuts[j] > bounds[k - 1] && cuts[j] < end)
+                bounds[k++] = cuts[j];
+        }
+        if (end > begin)
+            bounds[k++] = end;
+        return Arrays.copyOf(bounds, k);
+    }
+
+    /**
+     * Parses a range of the input. It is called concurrently for different
+     * ranges.
+     * @param range Scanner of the range.
+     * @return Result of the range, or null if it is not valid.
+     * @throws ParseException If the range does not follow the format.
+     */
+    abstract T parse(ByteScanner range) throws ParseException;
+
+    /**
+     * Merges the result of a range. It is called in input order, from the
+     * thread that runs the parser.
+     * @param range Result of the range.
+     * @return False if the range is not valid after all.
+     */
+    abstract boolean merge(T range);
+
+    /**
+     * Releases the off-heap storage of the result of a range, once it has
+     * been merged or it is discarded.
+     * @param range Result of the range.
+     */
+    abstract void close(T range);
+
+    /**
+     * Parses the ranges between the given bounds with several threads, and
+     * merges them in input order as they are done. Only a window of ranges is
+     * parsed ahead of the merge.
+     * @param in Input scanner.
+     * @param bounds Bounds of the ranges.
+     * @param threads Number of threads.
+     * @return True if every range has been merged, false if any of them is not
+     * valid.
+     * @throws ParseException If the current thread is interrupted.
+     */
+    boolean run(ByteScanner in, long[] bounds, int threads) throws ParseException
+    {
+        ArrayDeque<Future<T>> pending = new ArrayDeque<Future<T>>();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try
+        {
+            int next = 0;
+            while (next < bounds.length - 1 || !pending.isEmpty())
+            {
+                //Keep the window of pending ranges full
+                while (next < bounds.length - 1 && pending.size() < threads * WINDOW)
+                {
+                    pending.add(pool.submit(new Range(in.region(bounds[next], bounds[next + 1]))));
+                    next++;
+                }
+                T range = get(pending.remove());
+                if (range == null)
+                    return false;
+                try
+                {
+                    if (!merge(range))
+                        return false;
+                }
+                finally
+                {
+                    close(range);
+                }
+            }
+            return true;
+        }
+        finally
+        {
+            pool.shutdownNow();
+            //Ranges parsed ahead of a range that is not valid are not merged
+            for (Future<T> task : pending)
+                discard(task);
+        }
+    }
+
+    /**
+     * Releases the result of a range that is not merged, if it is done. The
+     * ranges still running are released when they are collected.
+     * @param task Parallel task.
+     */
+    private void discard(Future<T> task)
+    {
+        if (!task.isDone() || task.isCancelled())
+            return;
+        try
+        {
+            T range = task.get();
+            if (range != null)
+                close(range);
+        }
+        catch (InterruptedException | ExecutionException ex)
+        {
+            //Nothing to release
+        }
+    }
+
+    /**
+     * Waits for a parallel range and returns its result.
+     * @param task Parallel task.
+     * @return Result of the range, or null if it is not valid.
+     * @throws ParseException If the current thread is interrupted.
+     */
+    private T get(Future<T> task) throws ParseException
+    {
+        try
+        {
+            return task.get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new ParseException("Interrupted while reading the input.");
+        }
+        catch (ExecutionException ex)
+        {
+            //The pool wraps the checked exceptions of the tasks
+            for (Throwable t = ex.getCause(); t != null; t = t.getCause())
+                if (t instanceof ParseException)
+                    return null;
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Parallel task that parses a range of the input.
+     */
+    private class Range implements Callable<T>
+    {
+        /**
+         * Scanner of the range.
+         */
+        private ByteScanner in;
+
+        /**
+         * Class constructor.
+         * @param in Scanner of the range.
+         */
+        Range(ByteScanner in)
+        {
+            this.in = in;
+        }
+
+        /**
+         * Parses the range.
+         * @return Result of the range, or null if it is not valid.
+         * @throws ParseException If the range does not follow the format.
+         */
+        @Override
+        public T call() throws ParseException
+        {
+            return parse(in);
+        }
+    }
+}
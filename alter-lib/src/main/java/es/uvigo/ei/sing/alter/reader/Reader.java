@@ -17,13 +17,22 @@
 
 package es.uvigo.ei.sing.alter.reader;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
 import es.uvigo.ei.sing.alter.parser.ParseException;
 import es.uvigo.ei.sing.alter.types.MSA;
 
 /**
- * Defines the method that readers must implement.
+ * Defines the methods that readers must implement. Besides strings, the input
+ * can be read from streams, channels and files, which are expected to hold
+ * UTF-8 text. Streams, channels and character readers are read until their
+ * end before parsing, so their whole content is held in memory once, while
+ * large files are mapped instead.
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.3
  */
 public interface Reader
 {
@@ -34,4 +43,51 @@ public interface Reader
      * @throws ParseException If an error occurs while parsing.
      */
     public MSA read(String in) throws ParseException;
+
+    /**
+     * Parses an input stream and returns an MSA object. The stream is read
+     * until its end, but it is not closed.
+     * @param in Input stream.
+     * @return MSA object parsed from the input stream.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the stream cannot be read.
+     */
+    public MSA read(InputStream in) throws ParseException, IOException;
+
+    /**
+     * Parses the characters of a reader and returns an MSA object. The reader
+     * is read until its end, but it is not closed.
+     * @param in Input reader.
+     * @return MSA object parsed from the input reader.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the reader cannot be read.
+     */
+    public MSA read(java.io.Reader in) throws ParseException, IOException;
+
+    /**
+     * Parses an input channel and returns an MSA object. The channel is read
+     * until its end, but it is not closed.
+     * @param in Input channel.
+     * @return MSA object parsed from the input channel.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the channel cannot be read.
+     */
+    public MSA read(ReadableByteChannel in) throws ParseException, IOException;
+
+    /**
+     * Parses an input file and returns an MSA object.
+     * @param in Input file.
+     * @return MSA object parsed from the input file.
+     * @throws ParseException If an error occurs while parsing.
+     * @throws IOException If the file cannot be read.
+     */
+    public MSA read(Path in) throws ParseException, IOException;
+
+    /**
+     * Sets the number of threads used to parse the input. Formats that are
+     * not parsed in parallel ignore it, and the MSA read is the same whatever
+     * the number of threads.
+     * @param threads Number of threads (a single thread is used if lower than 2).
+     */
+    public void setThreads(int threads);
 }
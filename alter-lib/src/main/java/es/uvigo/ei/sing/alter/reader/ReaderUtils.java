@@ -18,16 +18,27 @@
 package es.uvigo.ei.sing.alter.reader;
 
 import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
+import es.uvigo.ei.sing.alter.types.ResidueEncoding;
 import es.uvigo.ei.sing.alter.types.Sequence;
+import es.uvigo.ei.sing.alter.types.Type;
+import es.uvigo.ei.sing.alter.types.Typeable;
+import es.uvigo.ei.sing.alter.writer.WriterUtils;
 
 /**
  * Provides static methods common to every reader.
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.1
  */
 
 public class ReaderUtils
 {
+    /**
+     * Size of the buffers used to normalize sequences.
+     */
+    private static final int CHUNK = 8192;
+
     /**
      * Replaces match characters with the character in the same position of the
      * first sequence of the MSA.
@@ -37,17 +48,73 @@ public class ReaderUtils
      */
     public static void replaceMatch(Sequence seq, Sequence first) throws ParseException
     {
-        if (seq.getData().contains("."))
-            //Lanzar excepción si el caracter está en la primera secuencia
-            if (seq == first)
-                throw new ParseException("Match character \".\" in first sequence of MSA.");
-            else
-                for(int j=0;j<seq.getData().length();j++)
-                    if (seq.getData().charAt(j) == '.')
-                        if (first.getData().charAt(j) == '?'
-                            || first.getData().charAt(j) == '-')
-                            throw new ParseException("Match character \".\" cannot be replaced by \"?\" or \"-\".");
-                        else
-                            seq.replaceChar(j, first.getData().charAt(j));
+        normalize(seq, first, new ResidueCounts());
+    }
+
+    /**
+     * Normalizes a sequence of the MSA in a single pass over its data: match
+     * characters are replaced with the character in the same position of the
+     * first sequence, and the resulting characters are added to the counts of
+     * the MSA.
+     * @param seq Current sequence.
+     * @param first First sequence of the MSA.
+     * @param counts Character counts of the MSA.
+     * @throws ParseException If a match character is trying to be replaced by a "?", "." or "-" character.
+     */
+    public static void normalize(Sequence seq, Sequence first, ResidueCounts counts) throws ParseException
+    {
+        char[] data = new char[CHUNK];
+        char[] reference = null;
+        for (int begin = 0; begin < seq.length(); begin += CHUNK)
+        {
+            int end = Math.min(begin + CHUNK, seq.length());
+            seq.getChars(begin, end, data, 0);
+            //The first sequence is only copied if there are match characters
+            boolean copied = false;
+            for (int j = 0; j < end - begin; j++)
+                if (data[j] == '.')
+                {
+                    //Lanzar excepción si el caracter está en la primera secuencia
+                    if (seq == first)
+                        throw new ParseException("Match character \".\" in first sequence of MSA.");
+                    if (!copied)
+                    {
+                        if (reference == null)
+                            reference = new char[CHUNK];
+                        first.getChars(begin, end, reference, 0);
+                        copied = true;
+                    }
+                    if (reference[j] == '?' || reference[j] == '-')
+                        throw new ParseException("Match character \".\" cannot be replaced by \"?\" or \"-\".");
+                    data[j] = reference[j];
+                    seq.replaceChar(begin + j, data[j]);
+                }
+            counts.add(data, 0, end - begin);
+        }
+    }
+
+    /**
+     * Packs the sequences of a MSA with the encoding of its type. The type
+     * declared by the format is used if there is one, otherwise it is
+     * inferred from the character counts of the MSA. Sequences are decoded on
+     * the fly when read.
+     * @param msa MSA to be encoded.
+     */
+    public static void encode(MSA msa)
+    {
+        Type type = null;
+        if (msa instanceof Typeable)
+            type = ((Typeable) msa).getType();
+        if (type == null && msa.getCounts().residues() > 0)
+            type = WriterUtils.inferType(msa);
+        if (type == null || type.getEncoding() == null)
+            return;
+
+        ResidueEncoding encoding = type.getEncoding();
+        for (int i=0;i<msa.getSeqs().size();i++)
+        {
+            Sequence seq = (Sequence) msa.getSeqs().elementAt(i);
+            seq.getMatrix().encode(seq.getRow(), encoding);
+        }
     }
 }
@@ -0,0 +1,602 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Packed storage for the residues of a MSA. Every row of the matrix holds the
+ * data of one sequence as a slab of bytes (one byte per residue), and the
+ * sequence identifiers are kept in a table indexed by row. Sequences created
+ * by the parsers are views over one row of a shared matrix.
+ * <p>
+ * Once a row is complete it can be encoded with the ResidueEncoding of the
+ * MSA type (see {@link Type#getEncoding()}), packing nucleotides in 4 bits and
+ * amino acids in 5 bits. Characters outside the alphabet are kept in a sorted
+ * escape table, and rows with too many of them stay at one byte per residue.
+ * Encoded rows are decoded on the fly by the accessors, and go back to bytes
+ * if they are modified.
+ * <p>
+ * When the rows of a matrix take more heap than the limit set with
+ * {@link #setHeapLimit(long)} (a quarter of the maximum heap by default), they
+ * are moved to a memory mapped temporary file (see MappedRows) and every
+ * accessor reads and writes the mapped file directly. Rows stored off-heap are
+ * not encoded. The temporary file is released by {@link #close()}, once the
+ * matrix is no longer needed.
+ * <p>
+ * Accessors are not synchronized. Residues are stored as single bytes, so only
+ * characters in the range 0-255 are kept verbatim (the parsers only produce
+ * letters, "-", "." and "?").
+ * @author Daniel Gomez Blanco
+ * @version 1.3
+ */
+
+public class AlignmentMatrix implements Closeable
+{
+    /**
+     * Default number of rows allocated when no hint is given.
+     */
+    private static final int DEFAULT_TAXA = 16;
+    /**
+     * Default row capacity (in residues) when no hint is given.
+     */
+    private static final int DEFAULT_LENGTH = 2000;
+    /**
+     * Heap bytes a matrix may use before its rows are moved off-heap.
+     */
+    private static long heapLimit = Runtime.getRuntime().maxMemory() / 4;
+
+    /**
+     * Sequence identifiers table.
+     */
+    private String[] ids;
+    /**
+     * Row slabs, one per sequence.
+     */
+    private byte[][] rows;
+    /**
+     * Number of residues stored in each row.
+     */
+    private int[] lengths;
+    /**
+     * Encoding of each row (null for rows stored as bytes).
+     */
+    private ResidueEncoding[] encodings;
+    /**
+     * Positions of the escaped residues of each encoded row, sorted.
+     */
+    private int[][] escapes;
+    /**
+     * Escaped residues of each encoded row.
+     */
+    private byte[][] escaped;
+    /**
+     * Number of rows in use.
+     */
+    private int taxa;
+    /**
+     * Initial capacity of new rows.
+     */
+    private int rowCapacity;
+    /**
+     * Heap bytes taken by the row slabs.
+     */
+    private long heapBytes;
+    /**
+     * Off-heap rows (null while the rows are in the heap).
+     */
+    private MappedRows mapped;
+    /**
+     * False if moving the rows off-heap has failed, so it is not tried again.
+     */
+    private boolean mappable;
+
+    /**
+     * Class constructor. Creates an empty matrix with default capacity.
+     */
+    public AlignmentMatrix()
+    {
+        this(DEFAULT_TAXA, DEFAULT_LENGTH);
+    }
+
+    /**
+     * Class constructor. Creates an empty matrix preallocated for the given
+     * dimensions. Both values are hints, the matrix grows if needed.
+     * @param taxa Expected number of sequences.
+     * @param length Expected sequence length.
+     */
+    public AlignmentMatrix(int taxa, int length)
+    {
+        if (taxa < 1)
+            taxa = 1;
+        this.ids = new String[taxa];
+        this.rows = new byte[taxa][];
+        this.lengths = new int[taxa];
+        this.encodings = new ResidueEncoding[taxa];
+        this.escapes = new int[taxa][];
+        this.escaped = new byte[taxa][];
+        this.taxa = 0;
+        this.rowCapacity = Math.max(length, 16);
+        this.heapBytes = 0;
+        this.mapped = null;
+        this.mappable = true;
+
+        //Go off-heap from the start if the expected size is over the limit
+        if ((long) taxa * rowCapacity > heapLimit)
+            spill();
+    }
+
+    /**
+     * Sets the heap bytes a matrix may use before moving its rows to a memory
+     * mapped temporary file. It applies to every matrix.
+     * @param bytes Heap limit in bytes.
+     */
+    public static void setHeapLimit(long bytes)
+    {
+        heapLimit = bytes;
+    }
+
+    /**
+     * Returns the heap bytes a matrix may use before moving its rows to a
+     * memory mapped temporary file.
+     * @return Heap limit in bytes.
+     */
+    public static long getHeapLimit()
+    {
+        return heapLimit;
+    }
+
+    /**
+     * Indicates if the rows of the matrix are stored off-heap.
+     * @return True if the rows are in a memory mapped file.
+     */
+    public boolean isMapped()
+    {
+        return mapped != null;
+    }
+
+    /**
+     * Sets the initial capacity of the rows added from now on. Readers of
+     * sequential formats set it to the length of the first sequence, so the
+     * rest of the rows are allocated with their final size.
+     * @param length Expected sequence length.
+     */
+    public void setRowCapacity(int length)
+    {
+        this.rowCapacity = Math.max(length, 16);
+    }
+
+    /**
+     * Adds a new empty row to the matrix.
+     * @param id Sequence identifier.
+     * @return Index of the new row.
+     */
+    public int addRow(String id)
+    {
+        if (taxa == rows.length)
+        {
+            int capacity = Math.max(rows.length * 2, DEFAULT_TAXA);
+            ids = Arrays.copyOf(ids, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            encodings = Arrays.copyOf(encodings, capacity);
+            escapes = Arrays.copyOf(escapes, capacity);
+            escaped = Arrays.copyOf(escaped, capacity);
+        }
+        ids[taxa] = id;
+        lengths[taxa] = 0;
+        if (mapped == null)
+        {
+            heapBytes += rowCapacity;
+            if (heapBytes > heapLimit)
+                spill();
+        }
+        if (mapped == null)
+            rows[taxa] = new byte[rowCapacity];
+        return taxa++;
+    }
+
+    /**
+     * Returns the number of rows in the matrix.
+     * @return Number of rows.
+     */
+    public int getTaxa()
+    {
+        return taxa;
+    }
+
+    /**
+     * Returns the identifier of a row.
+     * @param row Row index.
+     * @return Sequence identifier.
+     */
+    public String getId(int row)
+    {
+        return ids[row];
+    }
+
+    /**
+     * Returns the number of residues stored in a row.
+     * @param row Row index.
+     * @return Row length.
+     */
+    public int getLength(int row)
+    {
+        return lengths[row];
+    }
+
+    /**
+     * Returns the residue at the given position.
+     * @param row Row index.
+     * @param index Column index.
+     * @return Residue.
+     */
+    public char charAt(int row, int index)
+    {
+        if (index >= lengths[row])
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + lengths[row]);
+        if (mapped != null)
+            return (char) (mapped.get(row, index) & 0xFF);
+        ResidueEncoding encoding = encodings[row];
+        if (encoding == null)
+            return (char) (rows[row][index] & 0xFF);
+        int code = encoding.get(rows[row], index);
+        if (code != encoding.getEscape())
+            return encoding.decode(code);
+        return (char) (escaped[row][Arrays.binarySearch(escapes[row], index)] & 0xFF);
+    }
+
+    /**
+     * Replaces the residue at the given position.
+     * @param row Row index.
+     * @param index Column index.
+     * @param c New residue.
+     */
+    public void setCharAt(int row, int index, char c)
+    {
+        if (index >= lengths[row])
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + lengths[row]);
+        if (mapped != null)
+            mapped.put(row, index, (byte) c);
+        else
+        {
+            if (encodings[row] != null)
+                decode(row);
+            rows[row][index] = (byte) c;
+        }
+    }
+
+    /**
+     * Appends a residue to a row.
+     * @param row Row index.
+     * @param c Residue to append.
+     */
+    public void append(int row, char c)
+    {
+        ensureCapacity(row, lengths[row] + 1);
+        if (mapped != null)
+            mapped.put(row, lengths[row]++, (byte) c);
+        else
+            rows[row][lengths[row]++] = (byte) c;
+    }
+
+    /**
+     * Appends the given characters to a row.
+     * @param row Row index.
+     * @param data Characters to append.
+     */
+    public void append(int row, CharSequence data)
+    {
+        int n = data.length();
+        ensureCapacity(row, lengths[row] + n);
+        int pos = lengths[row];
+        if (mapped != null)
+            for (int i = 0; i < n; i++)
+                mapped.put(row, pos++, (byte) data.charAt(i));
+        else
+        {
+            byte[] slab = rows[row];
+            for (int i = 0; i < n; i++)
+                slab[pos++] = (byte) data.charAt(i);
+        }
+        lengths[row] = pos;
+    }
+
+    /**
+     * Appends raw residue bytes to a row.
+     * @param row Row index.
+     * @param data Source buffer.
+     * @param offset First byte to copy.
+     * @param length Number of bytes to copy.
+     */
+    public void append(int row, byte[] data, int offset, int length)
+    {
+        ensureCapacity(row, lengths[row] + length);
+        if (mapped != null)
+            mapped.put(row, lengths[row], data, offset, length);
+        else
+            System.arraycopy(data, offset, rows[row], lengths[row], length);
+        lengths[row] += length;
+    }
+
+    /**
+     * Appends the residues of a row of another matrix to a row.
+     * @param row Row index.
+     * @param source Matrix to copy from.
+     * @param sourceRow Row of the source matrix.
+     */
+    public void append(int row, AlignmentMatrix source, int sourceRow)
+    {
+        int length = source.lengths[sourceRow];
+        if (source.mapped == null && source.encodings[sourceRow] == null)
+        {
+            append(row, source.rows[sourceRow], 0, length);
+            return;
+        }
+        //Rows stored off-heap or encoded are copied through a buffer
+        char[] chars = new char[Math.min(length, 8192)];
+        byte[] bytes = new byte[chars.length];
+        for (int begin = 0; begin < length; begin += chars.length)
+        {
+            int end = Math.min(begin + chars.length, length);
+            source.getChars(sourceRow, begin, end, chars, 0);
+            for (int i = begin; i < end; i++)
+                bytes[i - begin] = (byte) chars[i - begin];
+            append(row, bytes, 0, end - begin);
+        }
+    }
+
+    /**
+     * Copies residues of a row into a char array.
+     * @param row Row index.
+     * @param begin First column to copy.
+     * @param end Column after the last one to copy.
+     * @param dst Destination array.
+     * @param dstBegin First position to write in the destination array.
+     */
+    public void getChars(int row, int begin, int end, char[] dst, int dstBegin)
+    {
+        if (begin < 0 || end > lengths[row] || begin > end)
+            throw new IndexOutOfBoundsException("Begin: " + begin + ", End: " + end + ", Length: " + lengths[row]);
+        if (mapped != null)
+        {
+            mapped.get(row, begin, end, dst, dstBegin);
+            return;
+        }
+        byte[] slab = rows[row];
+        ResidueEncoding encoding = encodings[row];
+        if (encoding == null)
+        {
+            for (int i = begin; i < end; i++)
+                dst[dstBegin++] = (char) (slab[i] & 0xFF);
+            return;
+        }
+        //Walk the escape table along with the packed codes
+        int[] pos = escapes[row];
+        int next = Arrays.binarySearch(pos, begin);
+        if (next < 0)
+            next = -next - 1;
+        int escape = encoding.getEscape();
+        for (int i = begin; i < end; i++)
+        {
+            int code = encoding.get(slab, i);
+            if (code != escape)
+                dst[dstBegin++] = encoding.decode(code);
+            else
+                dst[dstBegin++] = (char) (escaped[row][next++] & 0xFF);
+        }
+    }
+
+    /**
+     * Returns the content of a row as a new string.
+     * @param row Row index.
+     * @return Row data.
+     */
+    public String getRow(int row)
+    {
+        char[] data = new char[lengths[row]];
+        getChars(row, 0, lengths[row], data, 0);
+        return new String(data);
+    }
+
+    /**
+     * Releases the unused capacity of every row. Parsers call it once the
+     * whole MSA has been read, so the matrix takes about one byte per residue.
+     */
+    public void trim()
+    {
+        if (mapped == null)
+            for (int i = 0; i < taxa; i++)
+                if (encodings[i] == null && rows[i].length != lengths[i])
+                {
+                    heapBytes -= rows[i].length - lengths[i];
+                    rows[i] = Arrays.copyOf(rows[i], lengths[i]);
+                }
+        if (ids.length != taxa)
+        {
+            ids = Arrays.copyOf(ids, taxa);
+            rows = Arrays.copyOf(rows, taxa);
+            lengths = Arrays.copyOf(lengths, taxa);
+            encodings = Arrays.copyOf(encodings, taxa);
+            escapes = Arrays.copyOf(escapes, taxa);
+            escaped = Arrays.copyOf(escaped, taxa);
+        }
+    }
+
+    /**
+     * Returns the encoding of a row.
+     * @param row Row index.
+     * @return Row encoding, or null if the row is stored as bytes.
+     */
+    public ResidueEncoding getEncoding(int row)
+    {
+        return encodings[row];
+    }
+
+    /**
+     * Packs a row with the given encoding. The row is left as bytes if more
+     * than one in sixteen of its residues are outside the encoding alphabet.
+     * @param row Row index.
+     * @param encoding Encoding to use.
+     * @return True if the row has been encoded.
+     */
+    public boolean encode(int row, ResidueEncoding encoding)
+    {
+        if (mapped != null)
+            return false;
+        if (encodings[row] == encoding)
+            return true;
+        if (encodings[row] != null)
+            decode(row);
+
+        byte[] slab = rows[row];
+        int length = lengths[row];
+        int escape = encoding.getEscape();
+
+        //Count residues outside the alphabet
+        int count = 0;
+        for (int i = 0; i < length; i++)
+            if (encoding.encode((char) (slab[i] & 0xFF)) == escape)
+                count++;
+        if (count > length / 16)
+            return false;
+
+        byte[] packed = new byte[encoding.size(length)];
+        int[] pos = new int[count];
+        byte[] chars = new byte[count];
+        count = 0;
+        for (int i = 0; i < length; i++)
+        {
+            int code = encoding.encode((char) (slab[i] & 0xFF));
+            encoding.put(packed, i, code);
+            if (code == escape)
+            {
+                pos[count] = i;
+                chars[count++] = slab[i];
+            }
+        }
+
+        heapBytes += packed.length - slab.length;
+        rows[row] = packed;
+        encodings[row] = encoding;
+        escapes[row] = pos;
+        escaped[row] = chars;
+        return true;
+    }
+
+    /**
+     * Takes an encoded row back to one byte per residue.
+     * @param row Row index.
+     */
+    private void decode(int row)
+    {
+        ResidueEncoding encoding = encodings[row];
+        byte[] packed = rows[row];
+        byte[] slab = new byte[lengths[row]];
+        int escape = encoding.getEscape();
+        int next = 0;
+        for (int i = 0; i < slab.length; i++)
+        {
+            int code = encoding.get(packed, i);
+            if (code != escape)
+                slab[i] = (byte) encoding.decode(code);
+            else
+                slab[i] = escaped[row][next++];
+        }
+
+        heapBytes += slab.length - packed.length;
+        rows[row] = slab;
+        encodings[row] = null;
+        escapes[row] = null;
+        escaped[row] = null;
+    }
+
+    /**
+     * Grows a row slab to hold at least the given number of residues.
+     * @param row Row index.
+     * @param capacity Minimum capacity.
+     */
+    private void ensureCapacity(int row, int capacity)
+    {
+        if (mapped != null)
+        {
+            mapped.ensureCapacity(row, capacity);
+            return;
+        }
+        if (encodings[row] != null)
+            decode(row);
+        byte[] slab = rows[row];
+        if (capacity > slab.length)
+        {
+            int grown = (int) Math.min(Math.max(capacity, slab.length * 2L), Integer.MAX_VALUE - 8);
+            heapBytes += grown - slab.length;
+            rows[row] = Arrays.copyOf(slab, grown);
+            if (heapBytes > heapLimit)
+                spill();
+        }
+    }
+
+    /**
+     * Releases the memory mapped temporary file of the rows, if they were
+     * moved off-heap. The matrix cannot be used after it is closed.
+     */
+    @Override
+    public void close()
+    {
+        if (mapped != null)
+        {
+            mapped.close();
+            mapped = null;
+            mappable = false;
+        }
+    }
+
+    /**
+     * Moves every row to a memory mapped temporary file. If the file cannot be
+     * created the rows stay in the heap.
+     */
+    private void spill()
+    {
+        if (!mappable)
+            return;
+
+        MappedRows store;
+        try
+        {
+            store = new MappedRows(rows.length);
+        }
+        catch (IOException e)
+        {
+            mappable = false;
+            return;
+        }
+
+        for (int i = 0; i < taxa; i++)
+        {
+            if (encodings[i] != null)
+                decode(i);
+            store.ensureCapacity(i, lengths[i]);
+            store.put(i, 0, rows[i], 0, lengths[i]);
+            rows[i] = null;
+        }
+        mapped = store;
+        heapBytes = 0;
+    }
+}
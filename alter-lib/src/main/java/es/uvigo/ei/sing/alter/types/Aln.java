@@ -19,8 +19,6 @@
 package es.uvigo.ei.sing.alter.types;
 
 import java.util.Vector;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * MSA in ALN format.
@@ -40,31 +38,20 @@ public class Aln extends MSA
     }
 
     /**
-     * Collapse sequences to haplotypes. It creates a new MSA object with the
-     * result sequences and then returns it.
+     * Collapse sequences to haplotypes using several threads. It creates a new
+     * MSA object with the result sequences and then returns it.
      * @param gapsAsMissing Treat gaps as missing data when collapsing.
      * @param countMissing Count missing data as differences when collapsing.
      * @param limit Connection limit (sequences differing at <= l sites will be collapsed).
+     * @param threads Number of threads (a single thread is used if lower than 2).
      * @param log Name of the logger to be instantiated.
      * @return New MSA containing the result sequences.
      */
     @Override
-    public MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, String log)
+    public MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, int threads, String log)
     {
-        Logger logger = Logger.getLogger(log);
         Vector<AlnSequence> newSeqs = new Vector<AlnSequence>();
-        newSeqs.add((AlnSequence) seqs.firstElement());
-
-        for(int i=1;i<seqs.size();i++)
-        {
-            AlnSequence seq = (AlnSequence) seqs.elementAt(i);
-            Sequence unique = isUnique(seq, newSeqs, gapsAsMissing, countMissing, limit);
-            if (unique != null)
-                logger.log(Level.INFO, "Sequence \"" + seq.getId() + "\" is equal" +
-                        " to sequence \"" + unique.getId() + "\". Sequence removed.");
-            else
-                newSeqs.add(seq);
-        }
+        collapseSeqs(newSeqs, gapsAsMissing, countMissing, limit, threads, log);
 
         return new Aln(newSeqs);
     }
@@ -32,6 +32,29 @@ public class AlnSequence extends Sequence
      */
     public AlnSequence(String id, String data)
     {
-        super(id,data);
+        this(new AlignmentMatrix(1, data.length()), id, data);
+    }
+
+    /**
+     * Class constructor. The sequence is stored in a new row of the given
+     * matrix.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param id Sequence identifier.
+     * @param data Sequence data.
+     */
+    public AlnSequence(AlignmentMatrix matrix, String id, String data)
+    {
+        super(matrix, id, data);
+    }
+
+    /**
+     * Class constructor. The sequence uses a row of the given matrix that
+     * already holds its identifier and data.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param row Row of the sequence.
+     */
+    public AlnSequence(AlignmentMatrix matrix, int row)
+    {
+        super(matrix, row);
     }
 }
@@ -0,0 +1,241 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+/**
+ * Bit-sliced copy of a sequence, used by Collapser to compare sequences 64
+ * sites at a time. Every residue is given a small code and bit p of the codes
+ * of 64 consecutive sites is stored in one word of plane p, so two sites hold
+ * different residues if any of their planes differ. A second mask marks the
+ * wildcard sites, whose differences are never counted.
+ * <p>
+ * Codes are assigned by the caller, and every sequence only gets the planes
+ * needed for its highest code. The missing planes of a sequence are zero.
+ * @author Daniel Gomez Blanco
+ * @version 1.1
+ */
+
+class BitSequence
+{
+    /**
+     * Number of sites.
+     */
+    private int length;
+    /**
+     * Number of planes.
+     */
+    private int planes;
+    /**
+     * Planes, interleaved by word (word w of plane p is at w * planes + p).
+     */
+    private long[] bits;
+    /**
+     * Wildcard mask, or null if the sequence has no wildcards.
+     */
+    private long[] wild;
+    /**
+     * Class constructor.
+     * @param codes Residue codes.
+     * @param length Number of sites.
+     * @param planes Number of planes (enough for the highest code).
+     * @param wildcards Wildcard sites, or null if there are none.
+     */
+    public BitSequence(int[] codes, int length, int planes, boolean[] wildcards)
+    {
+        int words = (length + 63) >>> 6;
+        this.length = length;
+        this.planes = planes;
+        this.bits = new long[words * planes];
+        if (wildcards != null)
+            this.wild = new long[words];
+
+        for (int w = 0, i = 0; w < words; w++)
+        {
+            //Gather 64 sites at a time, plane by plane
+            int end = Math.min(length, i + 64);
+            int base = w * planes;
+            long mask = 0;
+            for (int bit = 0; i < end; i++, bit++)
+            {
+                int code = codes[i];
+                for (int p = 0; p < planes; p++)
+                    bits[base + p] |= (long) ((code >>> p) & 1) << bit;
+                if (wildcards != null && wildcards[i])
+                    mask |= 1L << bit;
+            }
+            if (wild != null)
+                wild[w] = mask;
+        }
+
+    }
+
+    /**
+     * Returns the number of sites.
+     * @return Sequence length.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Returns a hash of the residues in a region. Regions with the same
+     * residues get the same hash as long as their codes are assigned by the
+     * same caller, whatever the number of planes of each sequence.
+     * @param begin First site of the region.
+     * @param end Site after the last one of the region.
+     * @return Hash of the region.
+     */
+    public long hash(int begin, int end)
+    {
+        long hash = 0;
+        for (int w = begin >>> 6; w << 6 < end; w++)
+        {
+            //Mask the sites of the word outside the region
+            long mask = -1L;
+            if (w == begin >>> 6)
+                mask &= -1L << begin;
+            if ((w + 1) << 6 > end)
+                mask &= (1L << end) - 1;
+
+            //Zero words are skipped, as missing planes are zero
+            for (int p = 0; p < planes; p++)
+            {
+                long word = bits[w * planes + p] & mask;
+                if (word != 0)
+                    hash += mix(word ^ ((long) w << 8 | p) * 0x9e3779b97f4a7c15L);
+            }
+        }
+        return mix(hash ^ begin);
+    }
+
+    /**
+     * Mixes the bits of a word (finalizer of SplitMix64).
+     * @param x Word.
+     * @return Mixed word.
+     */
+    private static long mix(long x)
+    {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * Indicates if the sequence has wildcard sites.
+     * @return True if there are wildcards.
+     */
+    public boolean hasWildcards()
+    {
+        return wild != null;
+    }
+
+    /**
+     * Returns the residue code at a site.
+     * @param site Site.
+     * @return Residue code.
+     */
+    public int code(int site)
+    {
+        int base = (site >>> 6) * planes;
+        int code = 0;
+        for (int p = 0; p < planes; p++)
+            code |= (int) ((bits[base + p] >>> site) & 1) << p;
+        return code;
+    }
+
+    /**
+     * Indicates if a site holds a wildcard.
+     * @param site Site.
+     * @return True if the site is a wildcard.
+     */
+    public boolean isWildcard(int site)
+    {
+        return wild != null && ((wild[site >>> 6] >>> site) & 1) != 0;
+    }
+
+    /**
+     * Indicates if the sequence has wildcards in a region.
+     * @param begin First site of the region.
+     * @param end Site after the last one of the region.
+     * @return True if there are wildcards in the region.
+     */
+    public boolean hasWildcards(int begin, int end)
+    {
+        if (wild == null)
+            return false;
+        for (int w = begin >>> 6; w << 6 < end; w++)
+        {
+            long mask = -1L;
+            if (w == begin >>> 6)
+                mask &= -1L << begin;
+            if ((w + 1) << 6 > end)
+                mask &= (1L << end) - 1;
+            if ((wild[w] & mask) != 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the sites where this sequence and a longer or equal one hold
+     * different residues and neither of them holds a wildcard. Only the sites
+     * of this sequence are compared. Counting stops as soon as the bound is
+     * exceeded, so any result above the bound is not exact.
+     * @param seq Sequence to compare to.
+     * @param bound Highest count of interest.
+     * @return Number of counted differences, or a number above the bound.
+     */
+    public int distance(BitSequence seq, int bound)
+    {
+        if (seq.length < length)
+            throw new IndexOutOfBoundsException("Begin: 0, End: " + length + ", Length: " + seq.length);
+
+        int words = (length + 63) >>> 6;
+        int common = Math.min(planes, seq.planes);
+        int count = 0;
+        for (int w = 0; w < words; w++)
+        {
+            //Sites where any plane differs
+            int a = w * planes;
+            int b = w * seq.planes;
+            long neq = 0;
+            for (int p = 0; p < common; p++)
+                neq |= bits[a + p] ^ seq.bits[b + p];
+            for (int p = common; p < planes; p++)
+                neq |= bits[a + p];
+            for (int p = common; p < seq.planes; p++)
+                neq |= seq.bits[b + p];
+
+            //Wildcards are never counted
+            if (wild != null)
+                neq &= ~wild[w];
+            if (seq.wild != null)
+                neq &= ~seq.wild[w];
+
+            //Sites beyond the end of this sequence
+            if (w == words - 1 && (length & 63) != 0)
+                neq &= (1L << length) - 1;
+
+            count += Long.bitCount(neq);
+            if (count > bound)
+                return count;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,887 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Haplotype collapse engine. Sequences are added in MSA order, and every
+ * sequence is either kept as a new haplotype or matched to the first kept
+ * haplotype it is equivalent to.
+ * <p>
+ * Two sequences are compared site by site. Equal sites are not counted. Among
+ * the rest, sites with missing data ("?") are counted as missing, sites with
+ * gaps ("-") as gaps and the others as differences. Gaps are added to missing
+ * data or to differences depending on gapsAsMissing, and missing data are
+ * added to differences if countMissing is set. Sequences are equivalent if
+ * the differences do not exceed the connection limit.
+ * <p>
+ * Sequences are compared through their BitSequence copies, 64 sites at a
+ * time, and every comparison stops as soon as the limit is exceeded. Wildcard
+ * sites (missing data, and gaps if they are treated as missing data, unless
+ * missing data are counted) are masked out, as their differences are never
+ * counted. The remaining differing sites are exactly the counted ones.
+ * <p>
+ * Candidates are found with a pigeonhole index. Sequences are split in
+ * segments, and two sequences within the limit have no counted differences
+ * in at least one of any limit + 1 segments. In a segment where neither of
+ * them has wildcards, that means equal residues, so every kept haplotype is
+ * indexed by a hash of each segment without wildcards. Wildcards are handled
+ * on a few sampled sites of every segment instead: for each of them, a bitset
+ * of the kept haplotypes holding every residue, and another one of those
+ * holding a wildcard. A haplotype without counted differences in a segment
+ * is found in the bitsets of the query residue or of the wildcards at every
+ * sampled site where the query has no wildcard, so ANDing them gives the
+ * compatible haplotypes whatever the wildcards of both sequences. These
+ * bitsets are only filled once a search needs them, so MSAs without wildcards
+ * do not pay for them.
+ * <p>
+ * A sequence takes its candidates for a segment from the hash of the segment
+ * and the compatible haplotypes with wildcards in it, or only from the
+ * compatible haplotypes if the sequence has wildcards in the segment. It picks
+ * the limit + 1 segments with fewest candidates, preferring those where it
+ * has no wildcards, and is only compared to their candidates. Sequences with
+ * a length other than the first sequence are compared to every kept
+ * haplotype.
+ * <p>
+ * A whole MSA can also be collapsed in parallel. Sequences are then processed
+ * in batches: every sequence of a batch is compared in parallel to the
+ * haplotypes kept before the batch, and the batch is then resolved in order
+ * against the haplotypes kept inside it. The result is the same as adding the
+ * sequences one by one.
+ * @author Daniel Gomez Blanco
+ * @version 1.4
+ */
+
+public class Collapser
+{
+    /**
+     * Sequences per thread in every parallel batch.
+     */
+    private static final int BATCH = 64;
+    /**
+     * Sequences compared by every parallel task.
+     */
+    private static final int GRAIN = 8;
+    /**
+     * Sequences are split in SPLIT * (limit + 1) segments, so a sequence with
+     * wildcards in some of them can still pick limit + 1 without wildcards.
+     */
+    private static final int SPLIT = 4;
+    /**
+     * Most sampled sites in every segment.
+     */
+    private static final int SAMPLES = 16;
+    /**
+     * Most sampled sites in all the segments, which bounds the size of the
+     * bitsets to SAMPLES * (residues + 1) bits per kept haplotype.
+     */
+    private static final int INDEXED = 256;
+    /**
+     * Haplotypes with wildcards in a segment are filtered on its sampled
+     * sites when comparing them all would read more words than the filter,
+     * counting FILTER words per comparison.
+     */
+    private static final int FILTER = 8;
+
+    /**
+     * Treat gaps as missing data.
+     */
+    private boolean gapsAsMissing;
+    /**
+     * Count missing data as differences.
+     */
+    private boolean countMissing;
+    /**
+     * Connection limit.
+     */
+    private int limit;
+    /**
+     * Kept haplotypes, in MSA order.
+     */
+    private ArrayList<Sequence> kept;
+    /**
+     * Bit-sliced data of the kept haplotypes.
+     */
+    private ArrayList<BitSequence> bits;
+    /**
+     * First site of every segment, plus the sequence length (null until the
+     * first sequence is added, or if the index is not used).
+     */
+    private int[] segments;
+    /**
+     * Indexed haplotypes, in MSA order, by hash of every segment without
+     * wildcards.
+     */
+    private HashMap<Long, ArrayList<Integer>> index;
+    /**
+     * Indexed haplotypes with wildcards in every segment (bitsets, null if
+     * there are none).
+     */
+    private long[][] wildSegments;
+    /**
+     * Number of indexed haplotypes with wildcards in every segment.
+     */
+    private int[] wildCounts;
+    /**
+     * Sampled sites, segment by segment.
+     */
+    private int[] sites;
+    /**
+     * First sampled site of every segment, plus the number of sampled sites.
+     */
+    private int[] samples;
+    /**
+     * Indexed haplotypes holding every residue code at every sampled site
+     * (bitsets, null if there are none).
+     */
+    private long[][][] residues;
+    /**
+     * Indexed haplotypes holding a wildcard at every sampled site (bitsets,
+     * null if there are none).
+     */
+    private long[][] wildSites;
+    /**
+     * Number of kept haplotypes added to the bitsets of the sampled sites,
+     * which are only filled once wildcards are found.
+     */
+    private int sampled;
+    /**
+     * Kept haplotypes that are not indexed (bitset, null if there are none).
+     */
+    private long[] unindexed;
+    /**
+     * Buffers for the sequences added one by one.
+     */
+    private Buffers buffers;
+    /**
+     * Codes of the residues from 0 to 255 found so far (-1 if not found).
+     */
+    private int[] alphabet;
+    /**
+     * Codes of the other residues found so far.
+     */
+    private HashMap<Character, Integer> extended;
+    /**
+     * Number of codes assigned.
+     */
+    private int symbols;
+
+    /**
+     * Class constructor.
+     * @param gapsAsMissing Treat gaps as missing data when collapsing.
+     * @param countMissing Count missing data as differences when collapsing.
+     * @param limit Connection limit (sequences differing at <= l sites will be collapsed).
+     */
+    public Collapser(boolean gapsAsMissing, boolean countMissing, int limit)
+    {
+        this.gapsAsMissing = gapsAsMissing;
+        this.countMissing = countMissing;
+        this.limit = limit;
+        this.kept = new ArrayList<Sequence>();
+        this.bits = new ArrayList<BitSequence>();
+        this.index = new HashMap<Long, ArrayList<Integer>>();
+        this.buffers = new Buffers();
+        this.alphabet = new int[256];
+        Arrays.fill(alphabet, -1);
+        this.extended = new HashMap<Character, Integer>();
+        this.symbols = 0;
+    }
+
+    /**
+     * Adds the next sequence of the MSA. If it is equivalent to a kept
+     * haplotype, the first of them is returned. Otherwise the sequence is kept
+     * as a new haplotype.
+     * @param seq Sequence to be added.
+     * @return First equivalent haplotype, or null if the sequence is kept.
+     */
+    public Sequence add(Sequence seq)
+    {
+        if (kept.isEmpty())
+            split(seq.length());
+        BitSequence query = encode(seq, buffers);
+        int k = search(query, 0, kept.size(), buffers);
+        if (k >= 0)
+            return kept.get(k);
+        keep(seq, query);
+        return null;
+    }
+
+    /**
+     * Adds the given sequences in order, comparing them in parallel. The
+     * result is the same as adding them one by one.
+     * @param seqs Sequences to be added.
+     * @param threads Number of threads (sequences are added one by one if
+     * lower than 2).
+     * @return First equivalent haplotype of every sequence, or null for the
+     * sequences kept.
+     */
+    public Sequence[] addAll(List<? extends Sequence> seqs, int threads)
+    {
+        Sequence[] unique = new Sequence[seqs.size()];
+        if (kept.isEmpty() && !seqs.isEmpty())
+            split(seqs.get(0).length());
+        if (threads < 2)
+        {
+            for (int i = 0; i < unique.length; i++)
+                unique[i] = add(seqs.get(i));
+            return unique;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try
+        {
+            BitSequence[] queries = new BitSequence[threads * BATCH];
+            int[] found = new int[queries.length];
+            for (int begin = 0; begin < unique.length; begin += queries.length)
+            {
+                int end = Math.min(unique.length, begin + queries.length);
+
+                //Compare the batch in parallel to the haplotypes kept before it
+                int frozen = kept.size();
+                pool.invoke(new Search(seqs, begin, end, begin, frozen, queries, found));
+
+                //Resolve it in order against the haplotypes kept inside it
+                for (int i = begin; i < end; i++)
+                {
+                    BitSequence query = queries[i - begin];
+                    int k = found[i - begin];
+                    if (k < 0)
+                        k = search(query, frozen, kept.size(), buffers);
+                    if (k >= 0)
+                        unique[i] = kept.get(k);
+                    else
+                        keep(seqs.get(i), query);
+                    queries[i - begin] = null;
+                }
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+        return unique;
+    }
+
+    /**
+     * Sets the segments and the sampled sites of the index for the given
+     * sequence length. The index is not used if there are fewer sites than
+     * segments, or if the limit is negative (no sequence is collapsed then).
+     * @param length Sequence length.
+     */
+    private void split(int length)
+    {
+        //The limit may be as high as Integer.MAX_VALUE
+        long segs = ((long) limit + 1) * SPLIT;
+        if (limit < 0 || segs > length)
+        {
+            segments = null;
+            return;
+        }
+        int count = (int) segs;
+        segments = new int[count + 1];
+        for (int s = 0; s <= count; s++)
+            segments[s] = (int) ((long) length * s / count);
+        wildSegments = new long[count][];
+        wildCounts = new int[count];
+
+        //Sample evenly spaced sites of every segment
+        int most = Math.min(SAMPLES, INDEXED / count);
+        samples = new int[count + 1];
+        sites = new int[count * most];
+        for (int s = 0; s < count; s++)
+        {
+            int width = segments[s + 1] - segments[s];
+            int taken = Math.min(width, most);
+            samples[s + 1] = samples[s] + taken;
+            for (int t = 0; t < taken; t++)
+                sites[samples[s] + t] = segments[s] + (int) ((long) width * t / taken);
+        }
+        sites = Arrays.copyOf(sites, samples[count]);
+        residues = new long[samples[count]][0][];
+        wildSites = new long[samples[count]][];
+        sampled = 0;
+    }
+
+    /**
+     * Indicates if a sequence can be indexed.
+     * @param query Bit-sliced data of the sequence.
+     * @return True if it has the length of the segments.
+     */
+    private boolean isIndexable(BitSequence query)
+    {
+        return segments != null && query.length() == segments[segments.length - 1];
+    }
+
+    /**
+     * Looks for the first kept haplotype in a range that is equivalent to a
+     * sequence.
+     * @param query Bit-sliced data of the sequence.
+     * @param from First kept haplotype to check.
+     * @param to Kept haplotype after the last one to check.
+     * @param buf Buffers to use.
+     * @return Index of the first equivalent haplotype, or -1 if there is none.
+     */
+    private int search(BitSequence query, int from, int to, Buffers buf)
+    {
+        //Distances are never negative
+        if (limit < 0 || from >= to)
+            return -1;
+
+        if (!isIndexable(query))
+        {
+            //Compare to every kept haplotype
+            for (int k = from; k < to; k++)
+                if (query.distance(bits.get(k), limit) <= limit)
+                    return k;
+            return -1;
+        }
+
+        //Check the candidates in MSA order
+        long[] found = candidates(query, from, to, buf);
+        int first = from >>> 6;
+        int words = ((to + 63) >>> 6) - first;
+        for (int w = 0; w < words; w++)
+        {
+            for (long word = found[w]; word != 0; word &= word - 1)
+            {
+                int k = (first + w) << 6 | Long.numberOfTrailingZeros(word);
+                if (query.distance(bits.get(k), limit) <= limit)
+                    return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Picks the limit + 1 segments of a sequence with fewest candidates, and
+     * returns their candidates in a range of kept haplotypes. Segments where
+     * the sequence has wildcards are only used if there are not enough
+     * segments without them.
+     * @param query Bit-sliced data of an indexable sequence.
+     * @param from First kept haplotype to check.
+     * @param to Kept haplotype after the last one to check.
+     * @param buf Buffers to use.
+     * @return Candidates (bitset starting at word from / 64, in the buffers).
+     */
+    private long[] candidates(BitSequence query, int from, int to, Buffers buf)
+    {
+        int count = segments.length - 1;
+        int first = from >>> 6;
+        int words = ((to + 63) >>> 6) - first;
+        ArrayList<Integer>[] buckets = bucketsOf(count);
+        long[][] compatible = new long[count][];
+        long[] sizes = new long[count];
+        int clean = 0;
+        for (int s = 0; s < count; s++)
+        {
+            if (query.hasWildcards(segments[s], segments[s + 1]))
+            {
+                sizes[s] = -1;
+                continue;
+            }
+            buckets[s] = index.get(query.hash(segments[s], segments[s + 1]));
+            sizes[s] = buckets[s] == null ? 0 : buckets[s].size();
+            if (wildSegments[s] != null)
+            {
+                if ((long) wildCounts[s] * FILTER > (long) (samples[s + 1] - samples[s]) * words)
+                {
+                    sample(to);
+                    compatible[s] = compatible(query, s, and(range(from, to), wildSegments[s], first), first);
+                    sizes[s] += count(compatible[s], words);
+                }
+                else
+                    sizes[s] += wildCounts[s];
+            }
+            clean++;
+        }
+        if (clean <= limit)
+        {
+            //Every kept haplotype may be compatible in segments with wildcards
+            sample(to);
+            for (int s = 0; s < count; s++)
+            {
+                if (sizes[s] >= 0)
+                    continue;
+                compatible[s] = compatible(query, s, range(from, to), first);
+                sizes[s] = count(compatible[s], words);
+            }
+        }
+
+        //Take the segments with fewest candidates
+        long[] order = new long[count];
+        int usable = 0;
+        for (int s = 0; s < count; s++)
+            if (sizes[s] >= 0)
+                order[usable++] = sizes[s] << 32 | s;
+        Arrays.sort(order, 0, usable);
+        long[] found = buf.candidates(words);
+        or(found, words, unindexed, first);
+        for (int n = 0; n <= limit; n++)
+        {
+            int s = (int) order[n];
+            if (buckets[s] != null)
+            {
+                ArrayList<Integer> bucket = buckets[s];
+                for (int i = start(bucket, from); i < bucket.size() && bucket.get(i) < to; i++)
+                    found[(bucket.get(i) >>> 6) - first] |= 1L << bucket.get(i);
+            }
+            if (compatible[s] != null)
+                or(found, words, compatible[s], 0);
+            else
+                or(found, words, wildSegments[s], first);
+        }
+
+        //Drop the haplotypes outside the range
+        found[0] &= -1L << from;
+        if ((to & 63) != 0)
+            found[words - 1] &= (1L << to) - 1;
+        return found;
+    }
+
+    /**
+     * Narrows a set of haplotypes to those compatible with a sequence at the
+     * sampled sites of a segment: holding the residue of the sequence or a
+     * wildcard at every site where the sequence has no wildcard.
+     * @param query Bit-sliced data of the sequence.
+     * @param s Segment.
+     * @param set Haplotypes (bitset starting at word first, narrowed in place).
+     * @param first First word of the bitset.
+     * @return The narrowed set.
+     */
+    private long[] compatible(BitSequence query, int s, long[] set, int first)
+    {
+        for (int j = samples[s]; j < samples[s + 1]; j++)
+        {
+            if (query.isWildcard(sites[j]))
+                continue;
+            int code = query.code(sites[j]);
+            long[] residue = code < residues[j].length ? residues[j][code] : null;
+            long any = 0;
+            for (int w = 0; w < set.length; w++)
+            {
+                set[w] &= word(residue, first + w) | word(wildSites[j], first + w);
+                any |= set[w];
+            }
+            if (any == 0)
+                break;
+        }
+        return set;
+    }
+
+    /**
+     * Creates a bitset of a range of haplotypes.
+     * @param from First haplotype of the range.
+     * @param to Haplotype after the last one of the range.
+     * @return Bitset starting at word from / 64.
+     */
+    private static long[] range(int from, int to)
+    {
+        int first = from >>> 6;
+        long[] set = new long[((to + 63) >>> 6) - first];
+        Arrays.fill(set, -1L);
+        set[0] &= -1L << from;
+        if ((to & 63) != 0)
+            set[set.length - 1] &= (1L << to) - 1;
+        return set;
+    }
+
+    /**
+     * Intersects a bitset with another one starting at word 0.
+     * @param set Bitset starting at word first (updated in place).
+     * @param other Bitset starting at word 0, or null if empty.
+     * @param first First word of the first bitset.
+     * @return The updated bitset.
+     */
+    private static long[] and(long[] set, long[] other, int first)
+    {
+        for (int w = 0; w < set.length; w++)
+            set[w] &= word(other, first + w);
+        return set;
+    }
+
+    /**
+     * Adds the words of a bitset to another one.
+     * @param set Bitset (updated in place).
+     * @param words Number of words to update.
+     * @param other Bitset, or null if empty.
+     * @param first Word of the second bitset matching the first word of the
+     * first one.
+     */
+    private static void or(long[] set, int words, long[] other, int first)
+    {
+        if (other == null)
+            return;
+        for (int w = 0; w < words && first + w < other.length; w++)
+            set[w] |= other[first + w];
+    }
+
+    /**
+     * Returns a word of a bitset.
+     * @param set Bitset, or null if empty.
+     * @param w Word.
+     * @return Word, or 0 if beyond the end of the bitset.
+     */
+    private static long word(long[] set, int w)
+    {
+        return set != null && w < set.length ? set[w] : 0;
+    }
+
+    /**
+     * Adds a haplotype to a bitset, growing it if needed.
+     * @param set Bitset, or null if empty.
+     * @param k Haplotype.
+     * @return Bitset holding the haplotype.
+     */
+    private static long[] set(long[] set, int k)
+    {
+        int w = k >>> 6;
+        if (set == null)
+            set = new long[w + 1];
+        else if (w >= set.length)
+            set = Arrays.copyOf(set, Math.max(w + 1, set.length * 2));
+        set[w] |= 1L << k;
+        return set;
+    }
+
+    /**
+     * Counts the haplotypes in a bitset.
+     * @param set Bitset.
+     * @param words Number of words to count.
+     * @return Number of haplotypes.
+     */
+    private static int count(long[] set, int words)
+    {
+        int count = 0;
+        for (int w = 0; w < words; w++)
+            count += Long.bitCount(set[w]);
+        return count;
+    }
+
+    /**
+     * Counts the kept haplotypes a sequence would be compared to.
+     * @param seq Sequence.
+     * @return Number of candidates.
+     */
+    int candidates(Sequence seq)
+    {
+        BitSequence query = encode(seq, buffers);
+        if (limit < 0 || kept.isEmpty() || !isIndexable(query))
+            return kept.size();
+        return count(candidates(query, 0, kept.size(), buffers), (kept.size() + 63) >>> 6);
+    }
+
+    /**
+     * Creates an array of haplotype lists.
+     * @param count Array length.
+     * @return Array of null lists.
+     */
+    @SuppressWarnings("unchecked")
+    private static ArrayList<Integer>[] bucketsOf(int count)
+    {
+        return new ArrayList[count];
+    }
+
+    /**
+     * Returns the position of the first haplotype index not lower than the
+     * given one in an ascending list.
+     * @param list Ascending list of haplotype indexes.
+     * @param from Lowest haplotype index.
+     * @return Position in the list.
+     */
+    private static int start(ArrayList<Integer> list, int from)
+    {
+        if (from == 0)
+            return 0;
+        int pos = Collections.binarySearch(list, from);
+        return pos < 0 ? -pos - 1 : pos;
+    }
+
+    /**
+     * Keeps a sequence as a new haplotype.
+     * @param seq Sequence.
+     * @param query Bit-sliced data of the sequence.
+     */
+    private void keep(Sequence seq, BitSequence query)
+    {
+        int k = kept.size();
+        if (isIndexable(query))
+        {
+            for (int s = 0; s < segments.length - 1; s++)
+            {
+                if (query.hasWildcards(segments[s], segments[s + 1]))
+                {
+                    wildSegments[s] = set(wildSegments[s], k);
+                    wildCounts[s]++;
+                    continue;
+                }
+                long key = query.hash(segments[s], segments[s + 1]);
+                ArrayList<Integer> bucket = index.get(key);
+                if (bucket == null)
+                {
+                    bucket = new ArrayList<Integer>(1);
+                    index.put(key, bucket);
+                }
+                //Segments may share a hash
+                if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != k)
+                    bucket.add(k);
+            }
+        }
+        else
+            unindexed = set(unindexed, k);
+        kept.add(seq);
+        bits.add(query);
+    }
+
+    /**
+     * Adds the kept haplotypes up to the given one to the bitsets of the
+     * sampled sites. Parallel searches only read the bitsets after calling
+     * this method, which is safe as no haplotype is kept while they run.
+     * @param to Kept haplotype after the last one to add.
+     */
+    private synchronized void sample(int to)
+    {
+        for (int j = 0; j < sites.length; j++)
+        {
+            for (int k = sampled; k < to; k++)
+            {
+                BitSequence seq = bits.get(k);
+                if (!isIndexable(seq))
+                    continue;
+                if (seq.isWildcard(sites[j]))
+                {
+                    wildSites[j] = set(wildSites[j], k);
+                    continue;
+                }
+                int code = seq.code(sites[j]);
+                if (code >= residues[j].length)
+                    residues[j] = Arrays.copyOf(residues[j], code + 1);
+                residues[j][code] = set(residues[j][code], k);
+            }
+        }
+        sampled = Math.max(sampled, to);
+    }
+
+    /**
+     * Builds the bit-sliced copy of a sequence.
+     * @param seq Sequence.
+     * @param buf Buffers to use.
+     * @return Bit-sliced data.
+     */
+    private BitSequence encode(Sequence seq, Buffers buf)
+    {
+        int length = seq.length();
+        buf.ensureCapacity(length);
+        seq.getChars(0, length, buf.data, 0);
+
+        boolean found = false;
+        int max = 0;
+        for (int i = 0; i < length; i++)
+        {
+            char c = buf.data[i];
+            int code = c < alphabet.length ? alphabet[c] : -1;
+            if (code < 0)
+                code = assign(c);
+            buf.codes[i] = code;
+            max = Math.max(max, code);
+            buf.wildcards[i] = isWildcard(c);
+            found |= buf.wildcards[i];
+        }
+
+        int planes = Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+        return new BitSequence(buf.codes, length, planes, found ? buf.wildcards : null);
+    }
+
+    /**
+     * Returns the code of a residue, assigning a new one if it was not found
+     * so far. Parallel searches read the codes of the residues from 0 to 255
+     * without locking, which is safe as every code is only written once.
+     * @param c Residue.
+     * @return Residue code.
+     */
+    private synchronized int assign(char c)
+    {
+        if (c < alphabet.length)
+        {
+            if (alphabet[c] < 0)
+                alphabet[c] = symbols++;
+            return alphabet[c];
+        }
+        Integer code = extended.get(c);
+        if (code == null)
+        {
+            code = symbols++;
+            extended.put(c, code);
+        }
+        return code;
+    }
+
+    /**
+     * Indicates if differences at a site holding the given residue are never
+     * counted: missing data, and gaps if they are treated as missing data,
+     * unless missing data are counted.
+     * @param c Residue.
+     * @return True if the residue is a wildcard.
+     */
+    private boolean isWildcard(char c)
+    {
+        if (countMissing)
+            return false;
+        return c == '?' || (gapsAsMissing && c == '-');
+    }
+
+    /**
+     * Buffers used to encode sequences, one set per thread.
+     */
+    private static class Buffers
+    {
+        /**
+         * Sequence data.
+         */
+        char[] data = new char[0];
+        /**
+         * Residue codes.
+         */
+        int[] codes = new int[0];
+        /**
+         * Wildcard sites.
+         */
+        boolean[] wildcards = new boolean[0];
+        /**
+         * Candidate haplotypes.
+         */
+        long[] candidates = new long[0];
+
+        /**
+         * Grows the buffers to hold the given number of residues.
+         * @param length Sequence length.
+         */
+        void ensureCapacity(int length)
+        {
+            if (data.length < length)
+            {
+                data = new char[length];
+                codes = new int[length];
+                wildcards = new boolean[length];
+            }
+        }
+
+        /**
+         * Returns the candidate buffer, cleared and grown to the given
+         * number of words.
+         * @param words Bitset words.
+         * @return Candidate buffer.
+         */
+        long[] candidates(int words)
+        {
+            if (candidates.length < words)
+                candidates = new long[Math.max(words, candidates.length * 2)];
+            else
+                Arrays.fill(candidates, 0, words, 0);
+            return candidates;
+        }
+    }
+
+    /**
+     * Parallel task comparing a range of a batch to the haplotypes kept
+     * before the batch.
+     */
+    private class Search extends RecursiveAction
+    {
+        /**
+         * Sequences being added.
+         */
+        private List<? extends Sequence> seqs;
+        /**
+         * First sequence of the range.
+         */
+        private int begin;
+        /**
+         * Sequence after the last one of the range.
+         */
+        private int end;
+        /**
+         * First sequence of the batch.
+         */
+        private int batch;
+        /**
+         * Number of haplotypes kept before the batch.
+         */
+        private int frozen;
+        /**
+         * Bit-sliced data of the batch sequences (output).
+         */
+        private BitSequence[] queries;
+        /**
+         * First equivalent haplotype of the batch sequences, or -1 (output).
+         */
+        private int[] found;
+
+        /**
+         * Class constructor.
+         * @param seqs Sequences being added.
+         * @param begin First sequence of the range.
+         * @param end Sequence after the last one of the range.
+         * @param batch First sequence of the batch.
+         * @param frozen Number of haplotypes kept before the batch.
+         * @param queries Bit-sliced data of the batch sequences (output).
+         * @param found First equivalent haplotype of the batch sequences (output).
+         */
+        Search(List<? extends Sequence> seqs, int begin, int end, int batch, int frozen,
+                BitSequence[] queries, int[] found)
+        {
+            this.seqs = seqs;
+            this.begin = begin;
+            this.end = end;
+            this.batch = batch;
+            this.frozen = frozen;
+            this.queries = queries;
+            this.found = found;
+        }
+
+        /**
+         * Splits the range until it is small enough, then compares its
+         * sequences.
+         */
+        @Override
+        protected void compute()
+        {
+            if (end - begin > GRAIN)
+            {
+                int middle = (begin + end) >>> 1;
+                invokeAll(new Search(seqs, begin, middle, batch, frozen, queries, found),
+                        new Search(seqs, middle, end, batch, frozen, queries, found));
+                return;
+            }
+
+            Buffers buf = new Buffers();
+            for (int i = begin; i < end; i++)
+            {
+                BitSequence query = encode(seqs.get(i), buf);
+                queries[i - batch] = query;
+                found[i - batch] = search(query, 0, frozen, buf);
+            }
+        }
+    }
+}
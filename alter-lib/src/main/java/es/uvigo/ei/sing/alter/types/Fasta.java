@@ -18,8 +18,6 @@
 package es.uvigo.ei.sing.alter.types;
 
 import java.util.Vector;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * MSA in FASTA format.
@@ -39,31 +37,20 @@ public class Fasta extends MSA
     }
 
     /**
-     * Collapse sequences to haplotypes. It creates a new MSA object with the
-     * result sequences and then returns it.
+     * Collapse sequences to haplotypes using several threads. It creates a new
+     * MSA object with the result sequences and then returns it.
      * @param gapsAsMissing Treat gaps as missing data when collapsing.
      * @param countMissing Count missing data as differences when collapsing.
      * @param limit Connection limit (sequences differing at <= l sites will be collapsed).
+     * @param threads Number of threads (a single thread is used if lower than 2).
      * @param log Name of the logger to be instantiated.
      * @return New MSA containing the result sequences.
      */
     @Override
-    public MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, String log)
+    public MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, int threads, String log)
     {
-        Logger logger = Logger.getLogger(log);
         Vector<FastaSequence> newSeqs = new Vector<FastaSequence>();
-        newSeqs.add((FastaSequence) seqs.firstElement());
-
-        for(int i=1;i<seqs.size();i++)
-        {
-            FastaSequence seq = (FastaSequence) seqs.elementAt(i);
-            Sequence unique = isUnique(seq, newSeqs, gapsAsMissing, countMissing, limit);
-            if (unique != null)
-                logger.log(Level.INFO, "Sequence \"" + seq.getId() + "\" is equal" +
-                        " to sequence \"" + unique.getId() + "\". Sequence removed.");
-            else
-                newSeqs.add(seq);
-        }
+        collapseSeqs(newSeqs, gapsAsMissing, countMissing, limit, threads, log);
 
         return new Fasta(newSeqs);
     }
@@ -38,7 +38,33 @@ public class FastaSequence extends Sequence implements Describable
      */
     public FastaSequence(String id, String desc, String data)
     {
-        super(id, data);
+        this(new AlignmentMatrix(1, data.length()), id, desc, data);
+    }
+
+    /**
+     * Class constructor. The sequence is stored in a new row of the given
+     * matrix.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param id Sequence identifier.
+     * @param desc Sequence description.
+     * @param data Sequence data.
+     */
+    public FastaSequence(AlignmentMatrix matrix, String id, String desc, String data)
+    {
+        super(matrix, id, data);
+        this.desc = desc;
+    }
+
+    /**
+     * Class constructor. The sequence uses a row of the given matrix that
+     * already holds its identifier and data.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param row Row of the sequence.
+     * @param desc Sequence description.
+     */
+    public FastaSequence(AlignmentMatrix matrix, int row, String desc)
+    {
+        super(matrix, row);
         this.desc = desc;
     }
 
@@ -17,20 +17,29 @@
 
 package es.uvigo.ei.sing.alter.types;
 
+import java.io.Closeable;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Vector;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Abstract class representing a MSA.
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.3
  */
 
-public abstract class MSA
+public abstract class MSA implements Closeable
 {
     /**
      * Aligned sequences vector.
      */
     protected Vector seqs;
+    /**
+     * Character counts of the sequences (null until they are needed).
+     */
+    private volatile ResidueCounts counts;
 
     /**
      * Class constructor.
@@ -57,6 +66,51 @@ public abstract class MSA
     public void addSeq(Sequence seq)
     {
         seqs.add(seq);
+        counts = null;
+    }
+
+    /**
+     * Returns the character counts of the sequences. They are gathered by the
+     * readers or, if not available, counted the first time they are needed,
+     * so they do not reflect changes made to the sequences afterwards.
+     * @return Character counts.
+     */
+    public ResidueCounts getCounts()
+    {
+        ResidueCounts toret = counts;
+        if (toret == null)
+        {
+            toret = ResidueCounts.of(this);
+            counts = toret;
+        }
+        return toret;
+    }
+
+    /**
+     * Sets the character counts of the sequences, gathered while reading
+     * them.
+     * @param counts Character counts.
+     */
+    public void setCounts(ResidueCounts counts)
+    {
+        this.counts = counts;
+    }
+
+    /**
+     * Releases the off-heap storage of the matrices that hold the sequences.
+     * Collapsed MSAs share the matrices of the MSA they come from, so closing
+     * any of them releases both, and none can be used afterwards.
+     */
+    @Override
+    public void close()
+    {
+        Map<AlignmentMatrix, Boolean> closed = new IdentityHashMap<AlignmentMatrix, Boolean>();
+        for (Object seq : seqs)
+        {
+            AlignmentMatrix matrix = ((Sequence) seq).getMatrix();
+            if (closed.put(matrix, Boolean.TRUE) == null)
+                matrix.close();
+        }
     }
 
     /**
@@ -68,66 +122,51 @@ public abstract class MSA
      * @param logger Name of the logger to be instantiated.
      * @return New MSA containing the result sequences.
      */
-    public abstract MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, String logger);
+    public MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, String logger)
+    {
+        return collapse(gapsAsMissing, countMissing, limit, 1, logger);
+    }
 
     /**
-     * Checks if a sequence is unique in the vector till his position in it,
-     * according to the given parameters. It compares all previous positions
-     * in the vector to the given one, checking for equivalent sequences.
-     * @param seq Sequence be checked.
-     * @param seqs Sequences vector.
+     * Collapse sequences to haplotypes using several threads. It creates a new
+     * MSA object with the result sequences and then returns it. The result is
+     * the same whatever the number of threads.
      * @param gapsAsMissing Treat gaps as missing data when collapsing.
      * @param countMissing Count missing data as differences when collapsing.
      * @param limit Connection limit (sequences differing at <= l sites will be collapsed).
-     * @return La secuencia a la que es equivalente la secuencia actual. Null en caso de que no exista ninguna secuencia equivalente.
+     * @param threads Number of threads (a single thread is used if lower than 2).
+     * @param logger Name of the logger to be instantiated.
+     * @return New MSA containing the result sequences.
      */
-    protected Sequence isUnique(Sequence seq, Vector seqs, boolean gapsAsMissing, boolean countMissing, int limit)
+    public abstract MSA collapse(boolean gapsAsMissing, boolean countMissing, int limit, int threads, String logger);
+
+    /**
+     * Collapses the sequences of the MSA to haplotypes, adding the kept
+     * sequences to the given vector in their original order. Removed
+     * sequences are logged along with the haplotype they are equal to.
+     * @param newSeqs Vector where kept sequences are added.
+     * @param gapsAsMissing Treat gaps as missing data when collapsing.
+     * @param countMissing Count missing data as differences when collapsing.
+     * @param limit Connection limit (sequences differing at <= l sites will be collapsed).
+     * @param threads Number of threads (a single thread is used if lower than 2).
+     * @param log Name of the logger to be instantiated.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T extends Sequence> void collapseSeqs(Vector<T> newSeqs, boolean gapsAsMissing, boolean countMissing, int limit, int threads, String log)
     {
-        //Sequence data
-        String data = seq.getData();
+        Logger logger = Logger.getLogger(log);
+        Collapser collapser = new Collapser(gapsAsMissing, countMissing, limit);
+        Sequence[] uniques = collapser.addAll((Vector<T>) seqs, threads);
 
-        //Sequence to compare to (start with the first)
-        Sequence uniqueSeq = (Sequence) seqs.firstElement();
-        //Counter
-        int cont = 0;
-        while(cont < seqs.size() && seq != uniqueSeq)
+        for(int i=0;i<seqs.size();i++)
         {
-            //Data to compare to
-            String unique = uniqueSeq.getData();
-            //Number of differences
-            int diff = 0;
-            int miss = 0;
-            int gaps = 0;
-            //For each site
-            for (int i=0; i<data.length();i++)
-            {
-                char c1 = data.charAt(i);
-                char c2 = unique.charAt(i);
-                if(c1 == c2)
-                    continue;
-                else if (c1 == '?' || c2 == '?')
-                    miss++;
-                else if (c1 == '-' || c2 == '-')
-                    gaps++;
-                else
-                    diff++;
-            }
-
-            if (gapsAsMissing)
-                miss += gaps;
+            T seq = (T) seqs.elementAt(i);
+            Sequence unique = uniques[i];
+            if (unique != null)
+                logger.log(Level.INFO, "Sequence \"" + seq.getId() + "\" is equal" +
+                        " to sequence \"" + unique.getId() + "\". Sequence removed.");
             else
-                diff += gaps;
-
-            if (countMissing)
-                diff += miss;
-
-            if (diff <= limit)
-                return uniqueSeq;
-            cont++;
-            if (cont < seqs.size())
-                uniqueSeq = (Sequence) seqs.elementAt(cont);
+                newSeqs.add(seq);
         }
-
-        return null;
     }
 }
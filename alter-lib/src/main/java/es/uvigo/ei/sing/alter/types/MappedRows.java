@@ -0,0 +1,294 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Off-heap storage for the rows of an AlignmentMatrix, backed by a temporary
+ * file mapped in memory. The file is divided in blocks of 4 KB and every row
+ * keeps the list of blocks it uses, so rows can grow independently (as they do
+ * while parsing interleaved formats). Blocks are mapped in segments of 256 MB,
+ * so the file can grow beyond the 2 GB limit of a single mapping.
+ * <p>
+ * Only the block tables live in the heap, the residues are paged in and out by
+ * the operating system. The file is closed, unmapped and deleted by
+ * {@link #close()}, and the rows cannot be used afterwards.
+ * @author Daniel Gomez Blanco
+ * @version 1.1
+ */
+
+class MappedRows implements Closeable
+{
+    /**
+     * Block size is 2^BLOCK_SHIFT bytes.
+     */
+    private static final int BLOCK_SHIFT = 12;
+    /**
+     * Block size in bytes.
+     */
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    /**
+     * Mask for the offset inside a block.
+     */
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    /**
+     * Segment size is 2^SEGMENT_SHIFT bytes.
+     */
+    private static final int SEGMENT_SHIFT = 28;
+    /**
+     * Number of blocks in a segment.
+     */
+    private static final int SEGMENT_BLOCKS = 1 << (SEGMENT_SHIFT - BLOCK_SHIFT);
+
+    /**
+     * Backing file.
+     */
+    private File file;
+    /**
+     * Channel of the backing file.
+     */
+    private FileChannel channel;
+    /**
+     * Mapped segments.
+     */
+    private MappedByteBuffer[] segments;
+    /**
+     * Blocks used by each row, in order.
+     */
+    private int[][] blocks;
+    /**
+     * Number of blocks used by each row.
+     */
+    private int[] counts;
+    /**
+     * Next free block in the file.
+     */
+    private int next;
+
+    /**
+     * Class constructor. Creates the backing temporary file.
+     * @param taxa Expected number of rows.
+     * @throws IOException If the file cannot be created.
+     */
+    public MappedRows(int taxa) throws IOException
+    {
+        file = File.createTempFile("alter", ".msa");
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        channel = raf.getChannel();
+        //Unix systems allow deleting a file while it is open, the rest delete it when it is closed
+        file.delete();
+
+        segments = new MappedByteBuffer[4];
+        blocks = new int[Math.max(taxa, 1)][];
+        counts = new int[blocks.length];
+        next = 0;
+    }
+
+    /**
+     * Reads a residue.
+     * @param row Row index.
+     * @param index Residue index.
+     * @return Residue byte.
+     */
+    public byte get(int row, int index)
+    {
+        int block = blocks[row][index >>> BLOCK_SHIFT];
+        return segments[block / SEGMENT_BLOCKS].get(((block % SEGMENT_BLOCKS) << BLOCK_SHIFT) | (index & BLOCK_MASK));
+    }
+
+    /**
+     * Writes a residue. The row must have enough capacity.
+     * @param row Row index.
+     * @param index Residue index.
+     * @param b Residue byte.
+     */
+    public void put(int row, int index, byte b)
+    {
+        int block = blocks[row][index >>> BLOCK_SHIFT];
+        segments[block / SEGMENT_BLOCKS].put(((block % SEGMENT_BLOCKS) << BLOCK_SHIFT) | (index & BLOCK_MASK), b);
+    }
+
+    /**
+     * Copies residues of a row into a char array.
+     * @param row Row index.
+     * @param begin First residue to copy.
+     * @param end Residue after the last one to copy.
+     * @param dst Destination array.
+     * @param dstBegin First position to write in the destination array.
+     */
+    public void get(int row, int begin, int end, char[] dst, int dstBegin)
+    {
+        while (begin < end)
+        {
+            int block = blocks[row][begin >>> BLOCK_SHIFT];
+            MappedByteBuffer segment = segments[block / SEGMENT_BLOCKS];
+            int pos = ((block % SEGMENT_BLOCKS) << BLOCK_SHIFT) | (begin & BLOCK_MASK);
+            int n = Math.min(end - begin, BLOCK_SIZE - (begin & BLOCK_MASK));
+            for (int i = 0; i < n; i++)
+                dst[dstBegin++] = (char) (segment.get(pos + i) & 0xFF);
+            begin += n;
+        }
+    }
+
+    /**
+     * Copies bytes into a row. The row must have enough capacity.
+     * @param row Row index.
+     * @param index First residue to write.
+     * @param src Source buffer.
+     * @param offset First byte to copy.
+     * @param length Number of bytes to copy.
+     */
+    public void put(int row, int index, byte[] src, int offset, int length)
+    {
+        while (length > 0)
+        {
+            int block = blocks[row][index >>> BLOCK_SHIFT];
+            MappedByteBuffer segment = segments[block / SEGMENT_BLOCKS];
+            int pos = ((block % SEGMENT_BLOCKS) << BLOCK_SHIFT) | (index & BLOCK_MASK);
+            int n = Math.min(length, BLOCK_SIZE - (index & BLOCK_MASK));
+            for (int i = 0; i < n; i++)
+                segment.put(pos + i, src[offset + i]);
+            index += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Allocates blocks for a row until it can hold the given number of residues.
+     * @param row Row index.
+     * @param capacity Minimum capacity.
+     */
+    public void ensureCapacity(int row, int capacity)
+    {
+        if (row >= blocks.length)
+        {
+            blocks = Arrays.copyOf(blocks, Math.max(row + 1, blocks.length * 2));
+            counts = Arrays.copyOf(counts, blocks.length);
+        }
+        if (blocks[row] == null)
+            blocks[row] = new int[4];
+
+        int needed = (int) (((long) capacity + BLOCK_MASK) >>> BLOCK_SHIFT);
+        while (counts[row] < needed)
+        {
+            if (counts[row] == blocks[row].length)
+                blocks[row] = Arrays.copyOf(blocks[row], blocks[row].length * 2);
+            blocks[row][counts[row]++] = allocate();
+        }
+    }
+
+    /**
+     * Closes the backing file, unmaps its segments and deletes it. Segments
+     * that cannot be unmapped by this JVM are released when they are
+     * collected, and the file is then deleted on exit if the system does not
+     * allow deleting it while it is mapped.
+     */
+    @Override
+    public void close()
+    {
+        if (segments == null)
+            return;
+        MappedByteBuffer[] mapped = segments;
+        segments = null;
+        blocks = null;
+        counts = null;
+        try
+        {
+            channel.close();
+        }
+        catch (IOException e)
+        {
+            //The file is deleted anyway
+        }
+        for (MappedByteBuffer segment : mapped)
+            if (segment != null)
+                unmap(segment);
+        if (file.exists() && !file.delete())
+            file.deleteOnExit();
+    }
+
+    /**
+     * Releases a mapped segment without waiting for it to be collected. The
+     * JDK offers no public way to do it, so the cleaner of the buffer is
+     * invoked through reflection when the JVM allows it.
+     * @param segment Mapped segment, which must not be used afterwards.
+     */
+    private static void unmap(MappedByteBuffer segment)
+    {
+        try
+        {
+            try
+            {
+                //Java 9 and later
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                invokeCleaner.invoke(theUnsafe.get(null), segment);
+            }
+            catch (NoSuchMethodException e)
+            {
+                //Java 7 and 8
+                Method cleanerMethod = segment.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(segment);
+                if (cleaner != null)
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            //Left to the garbage collector
+        }
+    }
+
+    /**
+     * Takes the next free block of the file, mapping a new segment if needed.
+     * @return Block index.
+     */
+    private int allocate()
+    {
+        int segment = next / SEGMENT_BLOCKS;
+        if (segment == segments.length)
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        if (segments[segment] == null)
+        {
+            try
+            {
+                segments[segment] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        (long) segment << SEGMENT_SHIFT, 1L << SEGMENT_SHIFT);
+            }
+            catch (IOException e)
+            {
+                throw new IllegalStateException("Unable to map alignment storage file " + file + ".", e);
+            }
+        }
+        return next++;
+    }
+}
@@ -48,7 +48,39 @@ public class MsfSequence extends Sequence implements Checksumable, Lengthable, W
      */
     public MsfSequence (String id, int length, int check, float weight, String data)
     {
-        super(id, data);
+        this(new AlignmentMatrix(1, data.length()), id, length, check, weight, data);
+    }
+
+    /**
+     * Class constructor. The sequence is stored in a new row of the given
+     * matrix.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param id Sequence identifier.
+     * @param length Sequence length.
+     * @param check Sequence checksum.
+     * @param weight Sequence weight.
+     * @param data Sequence data.
+     */
+    public MsfSequence (AlignmentMatrix matrix, String id, int length, int check, float weight, String data)
+    {
+        super(matrix, id, data);
+        this.length = length;
+        this.check = check;
+        this.weight = weight;
+    }
+
+    /**
+     * Class constructor. The sequence uses a row of the given matrix that
+     * already holds its identifier and data.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param row Row of the sequence.
+     * @param length Sequence length.
+     * @param check Sequence checksum.
+     * @param weight Sequence weight.
+     */
+    public MsfSequence (AlignmentMatrix matrix, int row, int length, int check, float weight)
+    {
+        super(matrix, row);
         this.length = length;
         this.check = check;
         this.weight = weight;
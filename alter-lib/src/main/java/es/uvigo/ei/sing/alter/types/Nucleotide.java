@@ -23,4 +23,15 @@ package es.uvigo.ei.sing.alter.types;
  * @version 1.0
  */
 
-public class Nucleotide extends Type{}
+public class Nucleotide extends Type
+{
+    /**
+     * Returns the 4 bit IUPAC nucleotide encoding.
+     * @return Residue encoding.
+     */
+    @Override
+    public ResidueEncoding getEncoding()
+    {
+        return ResidueEncoding.DNA;
+    }
+}
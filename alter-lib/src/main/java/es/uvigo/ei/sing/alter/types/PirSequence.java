@@ -20,11 +20,29 @@ package es.uvigo.ei.sing.alter.types;
 /**
  * Sequence in PIR format.
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.1
  */
 
 public class PirSequence extends Sequence implements Describable, Typeable
 {
+    /**
+     * Types of the PIR codes, indexed by the first and second character of
+     * the code.
+     */
+    private static final Type[][] TYPES = new Type[128][];
+
+    static
+    {
+        code("P1", new ProteinComplete());
+        code("F1", new ProteinFragment());
+        code("DL", new DNALinear());
+        code("DC", new DNACircular());
+        code("RL", new RNALinear());
+        code("RC", new RNACircular());
+        code("N3", new RNAt());
+        code("N1", new RNAOther());
+    }
+
     /**
      * Sequence type. In PIR format, every sequence has an individual type
      * but it must be equal in all of them.
@@ -44,28 +62,65 @@ public class PirSequence extends Sequence implements Describable, Typeable
      */
     public PirSequence(String id, String type, String desc, String data)
     {
-        super(id,data);
+        this(new AlignmentMatrix(1, data.length()), id, type, desc, data);
+    }
+
+    /**
+     * Class constructor. The sequence is stored in a new row of the given
+     * matrix.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param id Sequence identifier.
+     * @param type Sequence type.
+     * @param desc Sequence description.
+     * @param data Sequence data.
+     */
+    public PirSequence(AlignmentMatrix matrix, String id, String type, String desc, String data)
+    {
+        super(matrix, id, data);
+
+        this.desc = desc;
+        this.type = type.length() == 2 ? decodeType(type.charAt(0), type.charAt(1)) : null;
+    }
 
+    /**
+     * Class constructor. The sequence uses a row of the given matrix that
+     * already holds its identifier and data.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param row Row of the sequence.
+     * @param type Sequence type.
+     * @param desc Sequence description.
+     */
+    public PirSequence(AlignmentMatrix matrix, int row, Type type, String desc)
+    {
+        super(matrix, row);
+        this.type = type;
         this.desc = desc;
+    }
 
-        if (type.equals("P1"))
-            this.type =  new ProteinComplete();
-        else if (type.equals("F1"))
-            this.type = new ProteinFragment();
-        else if (type.equals("DL"))
-            this.type = new DNALinear();
-        else if (type.equals("DC"))
-            this.type = new DNACircular();
-        else if (type.equals("RL"))
-            this.type = new RNALinear();
-        else if (type.equals("RC"))
-            this.type = new RNACircular();
-        else if (type.equals("N3"))
-            this.type = new RNAt();
-        else if (type.equals("N1"))
-            this.type = new RNAOther();
-        else
-            this.type = null;
+    /**
+     * Adds a PIR code to the types table.
+     * @param code Two character code.
+     * @param type Type of the code.
+     */
+    private static void code(String code, Type type)
+    {
+        char first = code.charAt(0);
+        if (TYPES[first] == null)
+            TYPES[first] = new Type[128];
+        TYPES[first][code.charAt(1)] = type;
+    }
+
+    /**
+     * Returns the type of a PIR code.
+     * @param first First character of the code.
+     * @param second Second character of the code.
+     * @return Sequence type, or null if the code is unknown.
+     */
+    public static Type decodeType(char first, char second)
+    {
+        if (first >= 128 || second >= 128 || TYPES[first] == null)
+            return null;
+        return TYPES[first][second];
     }
 
     /**
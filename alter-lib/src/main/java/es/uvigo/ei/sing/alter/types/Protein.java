@@ -23,4 +23,15 @@ package es.uvigo.ei.sing.alter.types;
  * @version 1.0
  */
 
-public class Protein extends Type{}
+public class Protein extends Type
+{
+    /**
+     * Returns the 5 bit amino acid encoding.
+     * @return Residue encoding.
+     */
+    @Override
+    public ResidueEncoding getEncoding()
+    {
+        return ResidueEncoding.PROTEIN;
+    }
+}
@@ -24,4 +24,14 @@ package es.uvigo.ei.sing.alter.types;
  */
 
 public class RNA extends Nucleotide
-{}
+{
+    /**
+     * Returns the 4 bit IUPAC nucleotide encoding, with U instead of T.
+     * @return Residue encoding.
+     */
+    @Override
+    public ResidueEncoding getEncoding()
+    {
+        return ResidueEncoding.RNA;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.types;
+
+/**
+ * Number of times each character appears in the sequences of a MSA. Readers
+ * gather the counts while they normalize the sequences, so inferring the MSA
+ * type or looking for ambiguous characters does not need to scan the
+ * sequences again.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+public class ResidueCounts
+{
+    /**
+     * Size of the buffer used to copy residues when counting a MSA.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * Counts of every character (residues are stored as single bytes).
+     */
+    private long[] counts = new long[256];
+
+    /**
+     * Counts the characters of a MSA.
+     * @param msa Input MSA.
+     * @return Character counts of the MSA.
+     */
+    public static ResidueCounts of(MSA msa)
+    {
+        ResidueCounts counts = new ResidueCounts();
+        char[] chunk = new char[CHUNK];
+        for (int i = 0; i < msa.getSeqs().size(); i++)
+        {
+            Sequence seq = (Sequence) msa.getSeqs().elementAt(i);
+            for (int begin = 0; begin < seq.length(); begin += CHUNK)
+            {
+                int end = Math.min(begin + CHUNK, seq.length());
+                seq.getChars(begin, end, chunk, 0);
+                counts.add(chunk, 0, end - begin);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Adds a character to the counts.
+     * @param c Character.
+     */
+    public void add(char c)
+    {
+        counts[c]++;
+    }
+
+    /**
+     * Adds the characters of a buffer to the counts.
+     * @param data Characters buffer.
+     * @param begin First character to add.
+     * @param end Character after the last one to add.
+     */
+    public void add(char[] data, int begin, int end)
+    {
+        for (int i = begin; i < end; i++)
+            counts[data[i]]++;
+    }
+
+    /**
+     * Returns the number of times a character appears.
+     * @param c Character.
+     * @return Character count.
+     */
+    public long count(char c)
+    {
+        return c < counts.length ? counts[c] : 0;
+    }
+
+    /**
+     * Returns the number of residues (characters other than "-" and "?").
+     * @return Residues count.
+     */
+    public long residues()
+    {
+        long total = 0;
+        for (int c = 0; c < counts.length; c++)
+            if (c != '-' && c != '?')
+                total += counts[c];
+        return total;
+    }
+
+    /**
+     * Indicates if any of the given characters appears.
+     * @param chars Characters to look for.
+     * @return True if at least one of the characters appears.
+     */
+    public boolean containsAny(String chars)
+    {
+        for (int i = 0; i < chars.length(); i++)
+            if (count(chars.charAt(i)) > 0)
+                return true;
+        return false;
+    }
+}
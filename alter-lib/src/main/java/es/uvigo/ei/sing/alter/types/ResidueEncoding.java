@@ -0,0 +1,166 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+/**
+ * Fixed width encoding of residues, used by AlignmentMatrix to pack rows
+ * below one byte per residue. Every symbol of the alphabet gets a code of
+ * the given number of bits. The highest code is reserved as an escape for
+ * characters outside the alphabet, which the matrix stores apart.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+
+public class ResidueEncoding
+{
+    /**
+     * DNA encoding: IUPAC nucleotides, gaps and missing data in 4 bits.
+     * The least frequent ambiguity codes (H and V) are escaped.
+     */
+    public static final ResidueEncoding DNA = new ResidueEncoding(4, "-?ACGTRYSWKMNBD");
+    /**
+     * RNA encoding: same as DNA but with U instead of T.
+     */
+    public static final ResidueEncoding RNA = new ResidueEncoding(4, "-?ACGURYSWKMNBD");
+    /**
+     * Protein encoding: every uppercase letter, gaps, missing data, match
+     * characters and stop codons in 5 bits.
+     */
+    public static final ResidueEncoding PROTEIN = new ResidueEncoding(5, "-?ABCDEFGHIJKLMNOPQRSTUVWXYZ.*");
+
+    /**
+     * Bits per residue.
+     */
+    private int bits;
+    /**
+     * Escape code.
+     */
+    private int escape;
+    /**
+     * Mask with the lower "bits" bits set.
+     */
+    private int mask;
+    /**
+     * Symbol for each code.
+     */
+    private char[] symbols;
+    /**
+     * Code for each character from 0 to 255 (escape if not in the alphabet).
+     */
+    private byte[] codes;
+
+    /**
+     * Class constructor.
+     * @param bits Bits per residue (1 to 8).
+     * @param alphabet Symbols of the alphabet, in code order. At most
+     * 2^bits - 1 symbols, as the last code is the escape.
+     */
+    public ResidueEncoding(int bits, String alphabet)
+    {
+        if (bits < 1 || bits > 8 || alphabet.length() >= (1 << bits))
+            throw new IllegalArgumentException("Alphabet does not fit in " + bits + " bits.");
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.escape = mask;
+        this.symbols = alphabet.toCharArray();
+        this.codes = new byte[256];
+        for (int i = 0; i < codes.length; i++)
+            codes[i] = (byte) escape;
+        for (int i = 0; i < symbols.length; i++)
+            codes[symbols[i]] = (byte) i;
+    }
+
+    /**
+     * Returns the number of bits used by every residue.
+     * @return Bits per residue.
+     */
+    public int getBits()
+    {
+        return bits;
+    }
+
+    /**
+     * Returns the escape code.
+     * @return Escape code.
+     */
+    public int getEscape()
+    {
+        return escape;
+    }
+
+    /**
+     * Returns the code of a character.
+     * @param c Character to encode.
+     * @return Character code, or the escape code if it is not in the alphabet.
+     */
+    public int encode(char c)
+    {
+        return c < 256 ? codes[c] & 0xFF : escape;
+    }
+
+    /**
+     * Returns the character of a code.
+     * @param code Character code (not the escape code).
+     * @return Decoded character.
+     */
+    public char decode(int code)
+    {
+        return symbols[code];
+    }
+
+    /**
+     * Returns the number of bytes needed to pack the given number of residues.
+     * One extra byte is allocated so codes can always be read as a 16 bit window.
+     * @param length Number of residues.
+     * @return Number of bytes.
+     */
+    public int size(int length)
+    {
+        return (int) (((long) length * bits + 7) >>> 3) + 1;
+    }
+
+    /**
+     * Reads a code from a packed buffer.
+     * @param packed Packed buffer.
+     * @param index Residue index.
+     * @return Code at the given index.
+     */
+    public int get(byte[] packed, int index)
+    {
+        long bit = (long) index * bits;
+        int pos = (int) (bit >>> 3);
+        int window = (packed[pos] & 0xFF) | ((packed[pos + 1] & 0xFF) << 8);
+        return (window >>> (bit & 7)) & mask;
+    }
+
+    /**
+     * Writes a code in a packed buffer. The bits of the given position must be
+     * clear.
+     * @param packed Packed buffer.
+     * @param index Residue index.
+     * @param code Code to write.
+     */
+    public void put(byte[] packed, int index, int code)
+    {
+        long bit = (long) index * bits;
+        int pos = (int) (bit >>> 3);
+        int window = code << (bit & 7);
+        packed[pos] |= (byte) window;
+        packed[pos + 1] |= (byte) (window >>> 8);
+    }
+}
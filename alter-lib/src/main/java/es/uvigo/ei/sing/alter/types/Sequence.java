@@ -26,24 +26,48 @@ package es.uvigo.ei.sing.alter.types;
 public abstract class Sequence
 {
     /**
-     * Sequence identifier.
+     * Matrix holding the sequence identifier and data.
      */
-    private String id;
+    private AlignmentMatrix matrix;
     /**
-     * Sequence data.
+     * Row of the matrix used by this sequence.
      */
-    private StringBuffer data;
+    private int row;
 
     /**
-     * Class constructor.
+     * Class constructor. The sequence is stored in a matrix of its own.
      * @param id Sequence identifier.
      * @param data Sequence data.
      */
     public Sequence(String id, String data)
     {
-        this.id = id;
-        this.data = new StringBuffer(2000);
-        this.data.append(data);
+        this(new AlignmentMatrix(1, data.length()), id, data);
+    }
+
+    /**
+     * Class constructor. The sequence is stored in a new row of the given
+     * matrix.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param id Sequence identifier.
+     * @param data Sequence data.
+     */
+    public Sequence(AlignmentMatrix matrix, String id, String data)
+    {
+        this.matrix = matrix;
+        this.row = matrix.addRow(id);
+        matrix.append(row, data);
+    }
+
+    /**
+     * Class constructor. The sequence uses a row of the given matrix that
+     * already holds its identifier and data.
+     * @param matrix Matrix shared by the sequences of the MSA.
+     * @param row Row of the sequence.
+     */
+    public Sequence(AlignmentMatrix matrix, int row)
+    {
+        this.matrix = matrix;
+        this.row = row;
     }
 
     /**
@@ -52,7 +76,7 @@ public abstract class Sequence
      */
     public String getId()
     {
-        return id;
+        return matrix.getId(row);
     }
 
     /**
@@ -61,7 +85,77 @@ public abstract class Sequence
      */
     public String getData()
     {
-        return data.toString();
+        return matrix.getRow(row);
+    }
+
+    /**
+     * Returns the sequence length.
+     * @return Number of residues.
+     */
+    public int length()
+    {
+        return matrix.getLength(row);
+    }
+
+    /**
+     * Returns the residue in the given position, without copying the data.
+     * @param index Residue index.
+     * @return Residue.
+     */
+    public char charAt(int index)
+    {
+        return matrix.charAt(row, index);
+    }
+
+    /**
+     * Copies a region of the sequence data into a caller buffer.
+     * @param begin First residue to copy.
+     * @param end Residue after the last one to copy.
+     * @param dst Destination array.
+     * @param dstBegin First position to write in the destination array.
+     */
+    public void getChars(int begin, int end, char[] dst, int dstBegin)
+    {
+        matrix.getChars(row, begin, end, dst, dstBegin);
+    }
+
+    /**
+     * Returns a read-only view of the whole sequence data. The view reads the
+     * residues from the matrix, so it does not copy them.
+     * @return Sequence data view.
+     */
+    public SequenceView getView()
+    {
+        return new SequenceView(matrix, row, 0, matrix.getLength(row));
+    }
+
+    /**
+     * Returns a read-only view of a region of the sequence data.
+     * @param begin First residue of the region.
+     * @param end Residue after the last one of the region.
+     * @return Region view.
+     */
+    public SequenceView region(int begin, int end)
+    {
+        return new SequenceView(matrix, row, begin, end);
+    }
+
+    /**
+     * Returns the matrix where the sequence is stored.
+     * @return Alignment matrix.
+     */
+    public AlignmentMatrix getMatrix()
+    {
+        return matrix;
+    }
+
+    /**
+     * Returns the matrix row used by the sequence.
+     * @return Row index.
+     */
+    public int getRow()
+    {
+        return row;
     }
 
     /**
@@ -70,7 +164,7 @@ public abstract class Sequence
      */
     public void concat(String data)
     {
-        this.data.append(data);
+        matrix.append(row, data);
     }
 
     /**
@@ -80,6 +174,6 @@ public abstract class Sequence
      */
     public void replaceChar(int index, char character)
     {
-        this.data.setCharAt(index, character);
+        matrix.setCharAt(row, index, character);
     }
 }
@@ -0,0 +1,123 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+/**
+ * Read-only view over a region of a sequence. It reads the residues straight
+ * from the AlignmentMatrix, so creating a view or a subsequence of it does not
+ * copy any data. Only toString() makes a copy.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+
+public class SequenceView implements CharSequence
+{
+    /**
+     * Matrix holding the sequence.
+     */
+    private AlignmentMatrix matrix;
+    /**
+     * Matrix row of the sequence.
+     */
+    private int row;
+    /**
+     * First residue of the view.
+     */
+    private int begin;
+    /**
+     * Residue after the last one of the view.
+     */
+    private int end;
+
+    /**
+     * Class constructor.
+     * @param matrix Matrix holding the sequence.
+     * @param row Matrix row of the sequence.
+     * @param begin First residue of the view.
+     * @param end Residue after the last one of the view.
+     */
+    public SequenceView(AlignmentMatrix matrix, int row, int begin, int end)
+    {
+        if (begin < 0 || end > matrix.getLength(row) || begin > end)
+            throw new IndexOutOfBoundsException("Begin: " + begin + ", End: " + end + ", Length: " + matrix.getLength(row));
+        this.matrix = matrix;
+        this.row = row;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    /**
+     * Returns the number of residues in the view.
+     * @return View length.
+     */
+    public int length()
+    {
+        return end - begin;
+    }
+
+    /**
+     * Returns the residue at the given position of the view.
+     * @param index Position in the view.
+     * @return Residue.
+     */
+    public char charAt(int index)
+    {
+        if (index < 0 || index >= end - begin)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + (end - begin));
+        return matrix.charAt(row, begin + index);
+    }
+
+    /**
+     * Returns a view over a region of this view, without copying.
+     * @param start First position of the region.
+     * @param stop Position after the last one of the region.
+     * @return View of the region.
+     */
+    public CharSequence subSequence(int start, int stop)
+    {
+        if (start < 0 || stop > end - begin || start > stop)
+            throw new IndexOutOfBoundsException("Begin: " + start + ", End: " + stop + ", Length: " + (end - begin));
+        return new SequenceView(matrix, row, begin + start, begin + stop);
+    }
+
+    /**
+     * Copies residues of the view into a char array.
+     * @param start First position to copy.
+     * @param stop Position after the last one to copy.
+     * @param dst Destination array.
+     * @param dstBegin First position to write in the destination array.
+     */
+    public void getChars(int start, int stop, char[] dst, int dstBegin)
+    {
+        if (start < 0 || stop > end - begin || start > stop)
+            throw new IndexOutOfBoundsException("Begin: " + start + ", End: " + stop + ", Length: " + (end - begin));
+        matrix.getChars(row, begin + start, begin + stop, dst, dstBegin);
+    }
+
+    /**
+     * Returns the residues of the view as a new string.
+     * @return Copy of the view data.
+     */
+    @Override
+    public String toString()
+    {
+        char[] data = new char[end - begin];
+        matrix.getChars(row, begin, end, data, 0);
+        return new String(data);
+    }
+}
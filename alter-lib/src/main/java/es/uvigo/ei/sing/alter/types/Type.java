@@ -24,4 +24,14 @@ package es.uvigo.ei.sing.alter.types;
  */
 
 public abstract class Type
-{}
+{
+    /**
+     * Returns the encoding used to store residues of this type in an
+     * AlignmentMatrix.
+     * @return Residue encoding, or null to store one byte per residue.
+     */
+    public ResidueEncoding getEncoding()
+    {
+        return null;
+    }
+}
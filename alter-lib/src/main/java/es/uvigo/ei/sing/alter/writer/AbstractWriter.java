@@ -0,0 +1,264 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import es.uvigo.ei.sing.alter.types.MSA;
+
+/**
+ * Base class of the writers. Each writer only appends the formatted MSA to an
+ * Appendable as it goes, and the other outputs are built on top of it, so the
+ * whole output is only held in memory when a string is requested.<br>
+ * With several threads, the sequences or blocks of the output are formatted
+ * concurrently into buffers that are appended in order, so the output does not
+ * depend on the number of threads. Identifiers are always computed before, in
+ * a single thread, so renamings and warnings do not change either.
+ * @author Daniel Gomez Blanco
+ * @version 1.2
+ */
+public abstract class AbstractWriter implements Writer
+{
+    /**
+     * Size of the character buffer used when writing to an output stream.
+     */
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * Parallel tasks per thread in which the chunks of the output are split.
+     */
+    private static final int TASKS = 8;
+    /**
+     * Parallel tasks per thread formatted ahead of the output.
+     */
+    private static final int WINDOW = 2;
+
+    /**
+     * Number of threads used to format the output (default is 1).
+     */
+    int threads = 1;
+
+    /**
+     * Sets the number of threads used to format the output.
+     * @param threads Number of threads (a single thread is used if lower than 2).
+     */
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns a string with the MSA in the format of the writer.
+     * @param msa Input MSA.
+     * @return Formatted MSA.
+     */
+    public String write(MSA msa)
+    {
+        StringBuilder out = new StringBuilder(STRING_BUFFER_MSALENGTH);
+        try
+        {
+            write(msa, out);
+        }
+        catch (IOException ex)
+        {
+            //A StringBuilder never throws IOException
+            throw new IllegalStateException(ex);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the MSA in the format of the writer to an output stream, encoded
+     * with the given charset. The stream is flushed, but it is not closed.
+     * @param msa Input MSA.
+     * @param out Output stream.
+     * @param charset Output charset.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(MSA msa, OutputStream out, Charset charset) throws IOException
+    {
+        java.io.Writer writer = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+        write(msa, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the MSA in the format of the writer to an Appendable, as it is
+     * formatted.
+     * @param msa Input MSA.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
+     */
+    public abstract void write(MSA msa, Appendable out) throws IOException;
+
+    /**
+     * Writes the chunks of the output in order. With several threads, ranges
+     * of chunks are formatted concurrently into pooled buffers, which are
+     * appended to the output in the same order as they would be written by a
+     * single thread.
+     * @param out Output destination.
+     * @param count Number of chunks.
+     * @param chunk Chunk formatter.
+     * @throws IOException If the destination cannot be written.
+     */
+    protected void writeChunks(Appendable out, int count, Chunk chunk) throws IOException
+    {
+        if (threads < 2 || count < 2)
+        {
+            for (int i = 0; i < count; i++)
+                chunk.write(out, i);
+            return;
+        }
+
+        int size = Math.max(1, count / (threads * TASKS));
+        ArrayDeque<StringBuilder> buffers = new ArrayDeque<StringBuilder>();
+        ArrayDeque<Future<StringBuilder>> pending = new ArrayDeque<Future<StringBuilder>>();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try
+        {
+            int next = 0;
+            while (next < count || !pending.isEmpty())
+            {
+                //Keep the window of pending tasks full
+                while (next < count && pending.size() < threads * WINDOW)
+                {
+                    StringBuilder buffer = buffers.isEmpty() ? new StringBuilder() : buffers.pop();
+                    pending.add(pool.submit(new Format(chunk, next, Math.min(next + size, count), buffer)));
+                    next += size;
+                }
+                //Append the oldest buffer and return it to the pool
+                StringBuilder buffer = get(pending.remove());
+                out.append(buffer);
+                buffer.setLength(0);
+                buffers.push(buffer);
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for a parallel task and returns its buffer.
+     * @param task Parallel task.
+     * @return Buffer with the formatted chunks.
+     * @throws IOException If the task failed to format its chunks or the
+     * current thread is interrupted.
+     */
+    private static StringBuilder get(Future<StringBuilder> task) throws IOException
+    {
+        try
+        {
+            return task.get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing the output.");
+        }
+        catch (ExecutionException ex)
+        {
+            //The pool wraps checked exceptions in runtime exceptions
+            Throwable cause = ex.getCause();
+            while (cause.getClass() == RuntimeException.class && cause.getCause() != null)
+                cause = cause.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Part of the output (a sequence or a block of sequences) that can be
+     * formatted independently of the others.
+     */
+    protected interface Chunk
+    {
+        /**
+         * Appends a chunk of the output.
+         * @param out Output destination.
+         * @param index Index of the chunk.
+         * @throws IOException If the destination cannot be written.
+         */
+        void write(Appendable out, int index) throws IOException;
+    }
+
+    /**
+     * Parallel task that formats a range of chunks into a buffer.
+     */
+    private static class Format implements Callable<StringBuilder>
+    {
+        /**
+         * Chunk formatter.
+         */
+        private Chunk chunk;
+        /**
+         * First chunk of the range.
+         */
+        private int begin;
+        /**
+         * Chunk after the last one of the range.
+         */
+        private int end;
+        /**
+         * Buffer where the chunks are formatted.
+         */
+        private StringBuilder buffer;
+
+        /**
+         * Class constructor.
+         * @param chunk Chunk formatter.
+         * @param begin First chunk of the range.
+         * @param end Chunk after the last one of the range.
+         * @param buffer Buffer where the chunks are formatted.
+         */
+        Format(Chunk chunk, int begin, int end, StringBuilder buffer)
+        {
+            this.chunk = chunk;
+            this.begin = begin;
+            this.end = end;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Formats the range of chunks.
+         * @return Buffer with the formatted chunks.
+         * @throws IOException If a chunk cannot be formatted.
+         */
+        @Override
+        public StringBuilder call() throws IOException
+        {
+            for (int i = begin; i < end; i++)
+                chunk.write(buffer, i);
+            return buffer;
+        }
+    }
+}
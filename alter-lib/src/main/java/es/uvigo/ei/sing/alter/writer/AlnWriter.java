@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,14 +27,18 @@ import es.uvigo.ei.sing.alter.types.Sequence;
 
 /** Implements interface Writer for the ALN format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.4
  */
-public class AlnWriter implements Writer
+public class AlnWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of 60 characters).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -61,32 +66,41 @@ public class AlnWriter implements Writer
      */
     public AlnWriter(String os, boolean lowerCase, boolean resNumbers, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        this(os, lowerCase, resNumbers, match, 1, logger);
+    }
+
+    /**
+     * Class constructor.
+     * @param os Output operating system.
+     * @param lowerCase Lowercase output.
+     * @param resNumbers Output residue numbers.
+     * @param match Output match characters.
+     * @param threads Number of threads used to compute the consensus line and
+     * format the output (a single thread is used if lower than 2).
+     * @param logger Logger name.
+     */
+    public AlnWriter(String os, boolean lowerCase, boolean resNumbers, boolean match, int threads, String logger)
+    {
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 60, 1, "");
         this.lowerCase = lowerCase;
         this.resNumbers = resNumbers;
         this.match = match;
+        this.threads = threads;
         this.logger = Logger.getLogger(logger);
     }
 
     /**
      * Writes a MSA in ALN format.
      * @param msa Input MSA.
-     * @return MSA in ALN format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
-        //Output
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
         //Copy sequences and calculate longest ID in order to align
         String[] data = new String[msa.getSeqs().size()];
         LinkedHashSet<String> id = new LinkedHashSet<String>(msa.getSeqs().size());
-        int[] residues = new int[msa.getSeqs().size()];
         int longestId = 0;
         for (int i = 0; i < msa.getSeqs().size(); i++)
         {
@@ -98,29 +112,17 @@ public class AlnWriter implements Writer
             //Update longest ID
             if (uid.length() > longestId)
                 longestId = uid.length();
-            residues[i] = 0;
         }
 
         //Write header
-        outb.append(writeHeader());
+        out.append(writeHeader());
 
-        //Write sequences
-        while (!data[0].isEmpty())
-        {
-            String[] forConsensus = new String[data.length];
+        //Compute consensus line
+        String consensus = Consensus.of(data, threads);
 
-            int i = 0;
-            for (String uid:id)
-            {
-                outb.append(writeLine(uid, longestId, data, forConsensus, residues, i));
-                i++;
-            }
-            //Write consensus line
-            outb.append(consensusLine(forConsensus, longestId));
-            outb.append(nl);
-        }
+        //Write sequences
+        writeBlocks(out, id.toArray(new String[id.size()]), longestId, data, consensus);
         logger.log(Level.INFO, "MSA successfully converted to ALN format!");
-        return outb.toString();
     }
 
     /**
@@ -172,163 +174,122 @@ public class AlnWriter implements Writer
     }
 
     /**
-     * Writes a line corresponding to a sequence of the MSA.
-     * @param id Sequence identifier.
+     * Writes sequences of a MSA block by block, each one followed by its
+     * consensus line.
+     * @param out Output destination.
+     * @param id Sequences identifiers.
      * @param longestId Longest identifier length (needed to align).
      * @param data Sequences data.
-     * @param forConsensus Data to calculate consensus line.
-     * @param Residues written so far for every sequence.
-     * @param index Index of the current sequence in the array (needed to
-     * update data).
-     * @return Line in ALN format.
+     * @param consensus Consensus line of the whole MSA.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeLine(String id, int longestId, String data[],
-                            String forConsensus[], int residues[], int index)
+    private void writeBlocks(Appendable out, final String[] id, final int longestId, final String[] data,
+            final String consensus) throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId)
-                        + WriterUtils.align(longestId, 10) + "      ");
+        final int lines = layout.lineCount(data[0]);
+        //Residues written before every block, so blocks can be written in any order
+        final int[][] residues = resNumbers ? residuesBefore(data, lines) : null;
+        writeChunks(out, lines, new Chunk()
+        {
+            @Override
+            public void write(Appendable out, int line) throws IOException
+            {
+                int[] written = residues != null ? residues[line] : new int[data.length];
+                for (int i = 0; i < data.length; i++)
+                    writeLine(out, id[i], longestId, data[i], layout.offset(data[i], line), written, i);
+                //Write consensus line
+                consensusLine(out, consensus, layout.offset(data[0], line),
+                        layout.offset(data[0], line + 1), longestId);
+                out.append(nl);
+            }
+        });
+    }
 
-        //Write a line if possible
-        if (data[index].length() > 60)
+    /**
+     * Counts the residues of every sequence written before each block.
+     * @param data Sequences data.
+     * @param lines Number of blocks.
+     * @return Residues written before each block (indexed by block and
+     * sequence).
+     */
+    private int[][] residuesBefore(String[] data, int lines)
+    {
+        int[][] residues = new int[lines][data.length];
+        for (int i = 0; i < data.length; i++)
         {
-            forConsensus[index] = data[index].substring(0, 60);
-            outb.append(forConsensus[index]);
-            if (resNumbers)
+            int res = 0;
+            for (int line = 0; line < lines; line++)
             {
-                int res = countResidues(forConsensus[index]);
-                if (res != 0)
-                {
-                    residues[index] += res;
-                    outb.append(" " + residues[index]);
-                }
+                residues[line][i] = res;
+                res += countResidues(data[i], layout.offset(data[i], line), layout.offset(data[i], line + 1));
             }
-            data[index] = data[index].substring(60);
         }
-        else
+        return residues;
+    }
+
+    /**
+     * Writes a line corresponding to a sequence of the MSA.
+     * @param out Output destination.
+     * @param id Sequence identifier.
+     * @param longestId Longest identifier length (needed to align).
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @param residues Residues written so far for every sequence.
+     * @param index Index of the current sequence in the array (needed to
+     * update residues).
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
+     */
+    protected int writeLine(Appendable out, String id, int longestId, String data,
+                            int offset, int residues[], int index) throws IOException
+    {
+        Layout.id(out, id, longestId, "      ");
+
+        //Write a line
+        int end = layout.line(out, data, offset);
+        if (resNumbers)
         {
-            forConsensus[index] = data[index];
-            outb.append(forConsensus[index]);
-            if (resNumbers)
+            int res = countResidues(data, offset, end);
+            if (res != 0)
             {
-                int res = countResidues(forConsensus[index]);
-                if (res != 0)
-                {
-                    residues[index] += res;
-                    outb.append(" " + residues[index]);
-                }
+                residues[index] += res;
+                out.append(" ").append(String.valueOf(residues[index]));
             }
-            data[index] = "";
         }
-        outb.append(nl);
-        return outb.toString();
+        out.append(nl);
+        return end;
     }
 
     /**
-     * Counts residues (characters that are not "?" or "-") in the input string.
+     * Counts residues (characters that are not "?" or "-") in a range of the
+     * input string.
      * @param s Input string.
-     * @return Number of residues in the string.
+     * @param begin Offset of the first character of the range.
+     * @param end Offset after the last character of the range.
+     * @return Number of residues in the range.
      */
-    protected int countResidues(String s)
+    protected int countResidues(String s, int begin, int end)
     {
         int toret = 0;
-        for(int i=0;i<s.length();i++)
+        for(int i=begin;i<end;i++)
             if ( s.charAt(i) != '-' && s.charAt(i) != '?')
                 toret++;
         return toret;
     }
 
-     /**
-     * Calculates the consesus line of a block of sequences.
-     * @param data Block of sequences.
-     * @return Consensus line for the given sequences.
+    /**
+     * Writes the consesus line of a block of sequences.
+     * @param out Output destination.
+     * @param consensus Consensus line of the whole MSA.
+     * @param begin Offset of the first column of the block.
+     * @param end Offset after the last column of the block.
+     * @param longestId Longest identifier length (needed to align).
+     * @throws IOException If the destination cannot be written.
      */
-    protected String consensusLine(String[] data, int longestId)
+    protected void consensusLine(Appendable out, String consensus, int begin, int end, int longestId)
+            throws IOException
     {
-        //String to return
-        String out = "";
-
-        out += WriterUtils.align(0, longestId) + WriterUtils.align(longestId, 10) + "      ";
-
-        //For each character
-        for (int i = 0; i < data[0].length(); i++)
-        {
-            boolean fully = true;
-            boolean nores = false;
-            char residue = data[0].charAt(i);
-            //Build string with the characters in a column
-            String col = "";
-            for (int j = 0; j < data.length; j++)
-            {
-                char c = data[j].charAt(i);
-                if (c == '.')
-                    c = residue;
-                //If there is no residue break the loop
-                if (c == '-' || c == '?')
-                {
-                    nores = true;
-                    break;
-                }
-                //If the current residue is different from the first one flag it
-                if (c != residue)
-                    fully = false;
-                col += c;
-            }
-
-            //If there is no residue
-            if (nores)
-                out += ' ';
-            //If the residue is fully preserved
-            else if (fully)
-                out += '*';
-            //Check strong groups
-            else if (col.replaceAll("[STA]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[NEQK]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[NHQK]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[NDEQ]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[QHRK]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[MILV]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[MILF]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[HY]", "").isEmpty())
-                out += ':';
-            else if (col.replaceAll("[FYW]", "").isEmpty())
-                out += ':';
-            //Check weak groups
-            else if (col.replaceAll("[CSA]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[ATV]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[SAG]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[STNK]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[STPA]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[SGND]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[SNDEQK]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[NDEQHK]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[NEQHRK]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[FVLIM]", "").isEmpty())
-                out += '.';
-            else if (col.replaceAll("[HFY]", "").isEmpty())
-                out += '.';
-            //If none is preserved
-            else
-                out += ' ';
-        }
-        out += nl;
-
-        return out;
+        Layout.id(out, null, longestId, "      ");
+        out.append(consensus, begin, end).append(nl);
     }
 }
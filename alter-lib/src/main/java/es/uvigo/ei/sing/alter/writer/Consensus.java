@@ -0,0 +1,229 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.writer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the consensus line of an ALN alignment. Every column keeps a
+ * bitmask with the Clustal groups that contain all its residues so far, so
+ * each column is classified in a single pass over the sequences:<br>
+ * &nbsp;&nbsp;"*": the residue is fully conserved.<br>
+ * &nbsp;&nbsp;":": all residues belong to a strong group.<br>
+ * &nbsp;&nbsp;".": all residues belong to a weak group.<br>
+ * &nbsp;&nbsp;" ": otherwise, or if the column contains "-" or "?".<br>
+ * Match characters (".") stand for the residue of the first sequence.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+class Consensus
+{
+    /**
+     * Strong groups.
+     */
+    private static final String[] STRONG = {"STA", "NEQK", "NHQK", "NDEQ", "QHRK",
+        "MILV", "MILF", "HY", "FYW"};
+    /**
+     * Weak groups.
+     */
+    private static final String[] WEAK = {"CSA", "ATV", "SAG", "STNK", "STPA", "SGND",
+        "SNDEQK", "NDEQHK", "NEQHRK", "FVLIM", "HFY"};
+    /**
+     * Bits of the strong groups.
+     */
+    private static final int STRONG_BITS = (1 << STRONG.length) - 1;
+    /**
+     * Bits of the weak groups.
+     */
+    private static final int WEAK_BITS = ((1 << WEAK.length) - 1) << STRONG.length;
+    /**
+     * Bit set while the residue of the column is fully conserved.
+     */
+    private static final int FULLY = 1 << (STRONG.length + WEAK.length);
+    /**
+     * State of a column with "-" or "?".
+     */
+    private static final int NO_RESIDUE = -1;
+    /**
+     * Columns computed by each parallel task.
+     */
+    private static final int GRAIN = 4096;
+    /**
+     * Groups that contain every ASCII character.
+     */
+    private static final int[] GROUPS = new int[128];
+
+    static
+    {
+        for (int g = 0; g < STRONG.length; g++)
+            for (char c : STRONG[g].toCharArray())
+                GROUPS[c] |= 1 << g;
+        for (int g = 0; g < WEAK.length; g++)
+            for (char c : WEAK[g].toCharArray())
+                GROUPS[c] |= 1 << (STRONG.length + g);
+    }
+
+    /**
+     * Computes the consensus line of the whole alignment.
+     * @param data Sequences data (the first one is the reference for match
+     * characters).
+     * @param threads Number of threads (a single thread is used if lower than 2).
+     * @return Consensus line, with a character per column of the first sequence.
+     */
+    static String of(String[] data, int threads)
+    {
+        char[] line = new char[data[0].length()];
+        if (threads < 2 || line.length <= GRAIN)
+            fill(data, 0, line.length, line);
+        else
+        {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try
+            {
+                pool.invoke(new Fill(data, 0, line.length, line));
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+        return new String(line);
+    }
+
+    /**
+     * Computes the consensus characters of a range of columns.
+     * @param data Sequences data.
+     * @param begin First column of the range.
+     * @param end Column after the last one of the range.
+     * @param line Consensus line (output).
+     */
+    private static void fill(String[] data, int begin, int end, char[] line)
+    {
+        String first = data[0];
+        int[] state = new int[end - begin];
+        for (int i = begin; i < end; i++)
+        {
+            char c = first.charAt(i);
+            state[i - begin] = c == '-' || c == '?' ? NO_RESIDUE : FULLY | groups(c);
+        }
+
+        //Narrow the groups of every column sequence by sequence
+        for (int j = 1; j < data.length; j++)
+        {
+            String seq = data[j];
+            for (int i = begin; i < end; i++)
+            {
+                int s = state[i - begin];
+                if (s == NO_RESIDUE)
+                    continue;
+                char residue = first.charAt(i);
+                char c = seq.charAt(i);
+                if (c == '.')
+                    c = residue;
+                if (c == '-' || c == '?')
+                    s = NO_RESIDUE;
+                else
+                {
+                    if (c != residue)
+                        s &= ~FULLY;
+                    s &= FULLY | groups(c);
+                }
+                state[i - begin] = s;
+            }
+        }
+
+        for (int i = begin; i < end; i++)
+        {
+            int s = state[i - begin];
+            if (s == NO_RESIDUE)
+                line[i] = ' ';
+            else if ((s & FULLY) != 0)
+                line[i] = '*';
+            else if ((s & STRONG_BITS) != 0)
+                line[i] = ':';
+            else if ((s & WEAK_BITS) != 0)
+                line[i] = '.';
+            else
+                line[i] = ' ';
+        }
+    }
+
+    /**
+     * Returns the groups that contain a character.
+     * @param c Character.
+     * @return Bits of the groups.
+     */
+    private static int groups(char c)
+    {
+        return c < GROUPS.length ? GROUPS[c] : 0;
+    }
+
+    /**
+     * Task that computes a range of columns, splitting it while it is too
+     * large.
+     */
+    private static class Fill extends RecursiveAction
+    {
+        /**
+         * Sequences data.
+         */
+        private String[] data;
+        /**
+         * First column of the range.
+         */
+        private int begin;
+        /**
+         * Column after the last one of the range.
+         */
+        private int end;
+        /**
+         * Consensus line (output).
+         */
+        private char[] line;
+
+        /**
+         * Class constructor.
+         * @param data Sequences data.
+         * @param begin First column of the range.
+         * @param end Column after the last one of the range.
+         * @param line Consensus line (output).
+         */
+        Fill(String[] data, int begin, int end, char[] line)
+        {
+            this.data = data;
+            this.begin = begin;
+            this.end = end;
+            this.line = line;
+        }
+
+        /**
+         * Splits the range until it is small enough, then computes it.
+         */
+        @Override
+        protected void compute()
+        {
+            if (end - begin > GRAIN)
+            {
+                int middle = (begin + end) >>> 1;
+                invokeAll(new Fill(data, begin, middle, line), new Fill(data, middle, end, line));
+            }
+            else
+                fill(data, begin, end, line);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -49,10 +50,11 @@ public class FastaJModelTestWriter extends FastaWriter
      * that the MSA is not a protein MSA and that it contains 4 or more sequences.
      * It then calls the method in the superclass.
      * @param msa Input MSA.
-     * @return String with the MSA in FASTA format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         if (msa.getSeqs().size() < 4)
             logger.log(Level.WARNING, "MSA contains less than 4 sequences. " +
@@ -69,6 +71,6 @@ public class FastaJModelTestWriter extends FastaWriter
             logger.log(Level.WARNING,"MSA is an amino acids MSA. " +
                     "It will not be processed by jModelTest (only DNA is processed).");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 }
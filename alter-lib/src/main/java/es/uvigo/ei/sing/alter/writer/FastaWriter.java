@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -28,15 +29,19 @@ import es.uvigo.ei.sing.alter.types.Sequence;
 /**
  * Implements interface Writer for the FASTA format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
-public class FastaWriter implements Writer
+public class FastaWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of 60 characters).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -59,12 +64,8 @@ public class FastaWriter implements Writer
      */
     public FastaWriter(String os, boolean lowerCase, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 60, 1, "");
         this.lowerCase = lowerCase;
         this.match = match;
         this.logger = Logger.getLogger(logger);
@@ -73,25 +74,32 @@ public class FastaWriter implements Writer
     /**
      * Writes a MSA in FASTA format.
      * @param msa Input MSA.
-     * @return MSA in FASTA format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(final MSA msa, Appendable out) throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
+        //Get identifiers first, so they are renamed in order
+        final String[] id = new String[msa.getSeqs().size()];
         LinkedHashSet<String> ids = new LinkedHashSet<String>(msa.getSeqs().size());
-        //Write sequences
         for(int i=0;i<msa.getSeqs().size();i++)
         {
-            Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
-            String id = getId(seq, ids);
-            ids.add(id);
-            String data = getData(seq, (Sequence) msa.getSeqs().firstElement());
-            outb.append(writeSequence(id, data));
+            id[i] = getId((Sequence)msa.getSeqs().elementAt(i), ids);
+            ids.add(id[i]);
         }
+        //Write sequences
+        writeChunks(out, id.length, new Chunk()
+        {
+            @Override
+            public void write(Appendable out, int i) throws IOException
+            {
+                Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
+                String data = getData(seq, (Sequence) msa.getSeqs().firstElement());
+                writeSequence(out, id[i], data);
+            }
+        });
 
         logger.log(Level.INFO, "MSA successfully converted to FASTA format!");
-        return outb.toString();
     }
 
     /**
@@ -132,33 +140,17 @@ public class FastaWriter implements Writer
 
     /**
      * Writes a complete sequence.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeSequence(String id, String data)
+    protected void writeSequence(Appendable out, String id, String data) throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
         //Escribir ID y descripcion
-        outb.append(">" + id);
-        outb.append(nl);
+        out.append(">").append(id).append(nl);
 
-        //Mientras queden caracteres por escribir
-        while(!data.isEmpty())
-        {
-            //Si hay caracteres para hacer una línea
-            if (data.length() > 60)
-            {            
-                outb.append(data.substring(0, 60));
-                data = data.substring(60);
-            }
-            else
-            {           
-                outb.append(data);
-                data = "";
-            }
-            outb.append(nl);
-        }
-        return outb.toString();
+        //Escribir los datos en lineas de 60 caracteres
+        layout.lines(out, data, "");
     }
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,15 +32,19 @@ import es.uvigo.ei.sing.alter.types.Typeable;
 /**
  * Implements interface Writer for the GDE format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
-public class GdeWriter implements Writer
+public class GdeWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of 60 characters).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -62,12 +67,8 @@ public class GdeWriter implements Writer
      */
     public GdeWriter(String os, boolean lowerCase, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 60, 1, "");
         this.lowerCase = lowerCase;
         this.match = match;
         this.logger = Logger.getLogger(logger);
@@ -76,26 +77,33 @@ public class GdeWriter implements Writer
     /**
      * Writes a MSA in GDE format.
      * @param msa Input MSA.
-     * @return MSA in GDE format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(final MSA msa, Appendable out) throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
         //Start character
-        char start = getStart(msa);
+        final char start = getStart(msa);
+        //Get identifiers first, so they are renamed in order
+        final String[] id = new String[msa.getSeqs().size()];
         LinkedHashSet<String> ids = new LinkedHashSet<String>(msa.getSeqs().size());
-        //Write sequences
         for(int i=0;i<msa.getSeqs().size();i++)
         {
-            Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
-            String id = getId(seq,ids);
-            ids.add(id);
-            String data = getData(seq, (Sequence)msa.getSeqs().firstElement());
-            outb.append(writeSequence(id, data, start));
+            id[i] = getId((Sequence)msa.getSeqs().elementAt(i), ids);
+            ids.add(id[i]);
         }
+        //Write sequences
+        writeChunks(out, id.length, new Chunk()
+        {
+            @Override
+            public void write(Appendable out, int i) throws IOException
+            {
+                Sequence seq = (Sequence)msa.getSeqs().elementAt(i);
+                String data = getData(seq, (Sequence)msa.getSeqs().firstElement());
+                writeSequence(out, id[i], data, start);
+            }
+        });
         logger.log(Level.INFO, "MSA successfully converted to GDE format!");
-        return outb.toString();
     }
 
     /**
@@ -161,34 +169,19 @@ public class GdeWriter implements Writer
 
     /**
      * Writes a complete sequence.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param data Sequence data.
      * @param start Start character.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeSequence(String id, String data, char start)
+    protected void writeSequence(Appendable out, String id, String data, char start)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
         //Write ID
-        outb.append(start + id + nl);
-
-        //While there are characters to be written
-        while(!data.isEmpty())
-        {
-            //If there are enough characters to make a line
-            if (data.length() > 60)
-            {
-                outb.append(data.substring(0,60));
-                data = data.substring(60);
-            }
-            else
-            {
-                outb.append(data);
-                data = "";
-            }
-            outb.append(nl);
-        }
+        out.append(start).append(id).append(nl);
 
-        return outb.toString();
+        //Write data in lines of 60 characters
+        layout.lines(out, data, "");
     }
 }
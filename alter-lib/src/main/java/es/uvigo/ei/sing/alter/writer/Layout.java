@@ -0,0 +1,199 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package es.uvigo.ei.sing.alter.writer;
+
+import java.io.IOException;
+
+/**
+ * Line layout shared by the writers. Sequence data is walked by offset and
+ * laid out in lines made of blocks of a fixed width, so the data is never
+ * copied to split it. Every block followed by more data ends with a
+ * separator, and every line ends with the new line characters of the output
+ * OS. Identifiers are padded with spaces to align the data after them.
+ * @author Daniel Gomez Blanco
+ * @version 1.1
+ */
+public class Layout
+{
+    /**
+     * Spaces appended when padding.
+     */
+    private static final String SPACES = "                                                                ";
+    /**
+     * Minimum width of the padded identifiers.
+     */
+    private static final int ID_WIDTH = 10;
+
+    /**
+     * New line characters.
+     */
+    private final String nl;
+    /**
+     * Characters per block.
+     */
+    private final int width;
+    /**
+     * Blocks per line.
+     */
+    private final int blocks;
+    /**
+     * Separator after a block followed by more data.
+     */
+    private final String separator;
+
+    /**
+     * Class constructor.
+     * @param nl New line characters.
+     * @param width Characters per block.
+     * @param blocks Blocks per line.
+     * @param separator Separator after a block followed by more data.
+     */
+    public Layout(String nl, int width, int blocks, String separator)
+    {
+        this.nl = nl;
+        this.width = width;
+        this.blocks = blocks;
+        this.separator = separator;
+    }
+
+    /**
+     * Returns the new line characters of an output operating system.
+     * @param os Output operating system ("macos", "linux" or other for
+     * Windows).
+     * @return New line characters.
+     */
+    public static String newLine(String os)
+    {
+        if (os.equals("macos"))
+            return "\r";
+        else if (os.equals("linux"))
+            return "\n";
+        else
+            return "\r\n";
+    }
+
+    /**
+     * Appends the number of spaces needed to align two strings.
+     * @param out Output destination.
+     * @param cur Current string length.
+     * @param longest Longest string length.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void pad(Appendable out, int cur, int longest) throws IOException
+    {
+        for (int n = longest - cur; n > 0; n -= SPACES.length())
+            out.append(SPACES, 0, Math.min(n, SPACES.length()));
+    }
+
+    /**
+     * Appends an identifier padded to the longest identifier length and to a
+     * minimum of 10 characters, followed by a gap before the data.
+     * @param out Output destination.
+     * @param id Sequence identifier (null to write only the padding).
+     * @param longestId Longest identifier length.
+     * @param gap Characters between the padded identifier and the data.
+     * @throws IOException If the destination cannot be written.
+     */
+    public static void id(Appendable out, String id, int longestId, String gap) throws IOException
+    {
+        int length = 0;
+        if (id != null)
+        {
+            out.append(id);
+            length = id.length();
+        }
+        pad(out, length, longestId);
+        pad(out, longestId, ID_WIDTH);
+        out.append(gap);
+    }
+
+    /**
+     * Returns the new line characters of the layout.
+     * @return New line characters.
+     */
+    public String nl()
+    {
+        return nl;
+    }
+
+    /**
+     * Returns the number of lines needed to write the data.
+     * @param data Sequence data.
+     * @return Number of lines.
+     */
+    public int lineCount(CharSequence data)
+    {
+        int length = width * blocks;
+        return (data.length() + length - 1) / length;
+    }
+
+    /**
+     * Returns the offset of the first character of a line of data, the same
+     * that {@link #line} returns after writing all the previous lines.
+     * @param data Sequence data.
+     * @param line Index of the line.
+     * @return Offset of the first character of the line.
+     */
+    public int offset(CharSequence data, int line)
+    {
+        return (int) Math.min((long) line * width * blocks, data.length());
+    }
+
+    /**
+     * Appends a line of data, without new line characters.
+     * @param out Output destination.
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
+     */
+    public int line(Appendable out, CharSequence data, int offset) throws IOException
+    {
+        int end = data.length();
+        for (int j = 0; j < blocks; j++)
+        {
+            //Last block of the sequence
+            if (end - offset <= width)
+            {
+                out.append(data, offset, end);
+                return end;
+            }
+            out.append(data, offset, offset + width).append(separator);
+            offset += width;
+        }
+        return offset;
+    }
+
+    /**
+     * Appends the whole data of a sequence, line by line.
+     * @param out Output destination.
+     * @param data Sequence data.
+     * @param indent Characters written before every line but the first one.
+     * @throws IOException If the destination cannot be written.
+     */
+    public void lines(Appendable out, CharSequence data, CharSequence indent) throws IOException
+    {
+        int offset = 0;
+        while (offset < data.length())
+        {
+            if (offset > 0)
+                out.append(indent);
+            offset = line(out, data, offset);
+            out.append(nl);
+        }
+    }
+}
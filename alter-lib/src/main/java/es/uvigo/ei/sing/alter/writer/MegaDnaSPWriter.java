@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -48,10 +49,11 @@ public class MegaDnaSPWriter extends MegaWriter
      * Writes a MSA in MEGA format, adapted to dnaSP. It checks that the MSA is
      * not a protein MSA. It then calls the method in the superclass.
      * @param msa Input MSA.
-     * @return MSA in MEGA format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -65,6 +67,6 @@ public class MegaDnaSPWriter extends MegaWriter
             logger.log(Level.WARNING,"MSA is an amino acids MSA. " +
                     "It will not be processed by dnaSP (only DNA is processed).");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,15 +28,19 @@ import es.uvigo.ei.sing.alter.types.Sequence;
 /**
  * Implements interface Writer for the MEGA format.
  * @author Daniel Gomez Blanco
- * @version 1.0
+ * @version 1.2
  */
 
-public class MegaWriter implements Writer
+public class MegaWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of five 10 character blocks).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -58,12 +63,8 @@ public class MegaWriter implements Writer
      */
     public MegaWriter(String os, boolean lowerCase, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 10, 5, " ");
         this.lowerCase = lowerCase;
         this.match = match;
         this.logger = Logger.getLogger(logger);
@@ -73,14 +74,12 @@ public class MegaWriter implements Writer
     /**
      * Writes a MSA in MEGA format.
      * @param msa Input MSA.
-     * @return MSA in MEGA format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
-        //Output
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
-        outb.append(writeHeader());
+        out.append(writeHeader());
 
         //Copy sequences
         String[] data = new String[msa.getSeqs().size()];
@@ -98,19 +97,32 @@ public class MegaWriter implements Writer
                 longestId = uid.length();
         }
         //Write sequences
-        while(!data[0].isEmpty())
+        writeBlocks(out, id.toArray(new String[id.size()]), longestId, data);
+
+        logger.log(Level.INFO, "MSA successfully converted to MEGA format!");
+    }
+
+    /**
+     * Writes sequences of a MSA block by block.
+     * @param out Output destination.
+     * @param id Sequences identifiers.
+     * @param longestId Longest identifier length (needed to align).
+     * @param data Sequences data.
+     * @throws IOException If the destination cannot be written.
+     */
+    private void writeBlocks(Appendable out, final String[] id, final int longestId, final String[] data)
+            throws IOException
+    {
+        writeChunks(out, layout.lineCount(data[0]), new Chunk()
         {
-            int i=0;
-            for (String uid:id)
+            @Override
+            public void write(Appendable out, int line) throws IOException
             {
-                outb.append(writeLine(uid, longestId, data, i));
-                i++;
+                for (int i = 0; i < data.length; i++)
+                    writeLine(out, id[i], longestId, data[i], layout.offset(data[i], line));
+                out.append(nl);
             }
-            outb.append(nl);
-        }
-
-        logger.log(Level.INFO, "MSA successfully converted to MEGA format!");
-        return outb.toString();
+        });
     }
 
     /**
@@ -158,40 +170,25 @@ public class MegaWriter implements Writer
 
     /**
      * Writes a line corresponding to a sequence of the MSA.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length (needed to align).
-     * @param data Sequences data.
-     * @param index Index of the current sequence in the array (needed to
-     * update data).
-     * @return Line in MEGA format.
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeLine(String id, int longestId, String[] data, int index)
+    protected int writeLine(Appendable out, String id, int longestId, String data, int offset)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append("#" + id + WriterUtils.align(id.length(), longestId) +
-                WriterUtils.align(longestId, 10) + "  ");
+        out.append("#");
+        Layout.id(out, id, longestId, "  ");
 
         //Write a line of 10 characters blocks
-        for (int j = 0; j < 5; j++)
-        {
-            //If there are enough characters to make a 10 characters block
-            if (data[index].length() > 10)
-            {
-                outb.append(data[index].substring(0, 10) + " ");
-                data[index] = data[index].substring(10);
-            }
-            else
-            {
-                outb.append(data[index]);
-                data[index] = "";
-            }
-            //If there are no more data exit the loop
-            if (data[index].isEmpty())
-                break;
-        }
-        outb.append(nl);
-        return outb.toString();
+        offset = layout.line(out, data, offset);
+        out.append(nl);
+        return offset;
     }
 
 }
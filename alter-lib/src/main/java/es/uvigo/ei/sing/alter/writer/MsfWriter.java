@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -33,15 +34,19 @@ import es.uvigo.ei.sing.alter.types.Weightable;
 /**
  * Implements interface Writer for the MSF format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
-public class MsfWriter implements Writer
+public class MsfWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of six 10 character blocks).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -59,12 +64,8 @@ public class MsfWriter implements Writer
      */
     public MsfWriter(String os, boolean lowerCase, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 10, 6, " ");
         this.lowerCase = lowerCase;
         this.logger = Logger.getLogger(logger);
     }
@@ -72,12 +73,11 @@ public class MsfWriter implements Writer
     /**
      * Writes a MSA in MSF format.
      * @param msa Input MSA.
-     * @return MSA in MSF format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
         //Copy sequence data and find longest strings
         String[] data = new String[msa.getSeqs().size()];
         LinkedHashSet<String> id = new LinkedHashSet<String>(msa.getSeqs().size());
@@ -112,32 +112,45 @@ public class MsfWriter implements Writer
         int msaLength = getLength(msa);
         int msaCheck = getChecksum(check);
         char msaType = getType(msa);
-        outb.append(writeHeader(msaLength, msaType, msaCheck));
+        out.append(writeHeader(msaLength, msaType, msaCheck));
 
         //Write sequences information
         int i=0;
         for (String uid:id)
         {
-            outb.append(writeInfo(uid, longestId, length[i], longestLength,
+            out.append(writeInfo(uid, longestId, length[i], longestLength,
                     check[i], longestCheck, weight[i], longestWeight));
             i++;
         }
 
-        outb.append(nl + "//" + nl + nl + nl + nl);
+        out.append(nl + "//" + nl + nl + nl + nl);
 
-        while (!data[0].isEmpty())
+        //Write sequences
+        writeBlocks(out, id.toArray(new String[id.size()]), longestId, data);
+        logger.log(Level.INFO, "MSA successfully converted to MSF format!");
+    }
+
+    /**
+     * Writes sequences of a MSA block by block.
+     * @param out Output destination.
+     * @param id Sequences identifiers.
+     * @param longestId Longest identifier length (needed to align).
+     * @param data Sequences data.
+     * @throws IOException If the destination cannot be written.
+     */
+    private void writeBlocks(Appendable out, final String[] id, final int longestId, final String[] data)
+            throws IOException
+    {
+        writeChunks(out, layout.lineCount(data[0]), new Chunk()
         {
-            i = 0;
-            for (String uid:id)
+            @Override
+            public void write(Appendable out, int line) throws IOException
             {
-                outb.append(writeLine(uid, longestId, data, i));
-                i++;
+                for (int i = 0; i < data.length; i++)
+                    writeLine(out, id[i], longestId, data[i], layout.offset(data[i], line));
+                out.append(nl);
             }
-                
-            outb.append(nl);
-        }
-        logger.log(Level.INFO, "MSA successfully converted to MSF format!");
-        return outb.toString();
+        });
     }
 
     /**
@@ -169,10 +182,15 @@ public class MsfWriter implements Writer
      */
     protected String getData(Sequence seq)
     {
+        char[] data = new char[seq.length()];
+        seq.getChars(0, data.length, data, 0);
+        for (int i=0;i<data.length;i++)
+            if (data[i] == '-')
+                data[i] = '.';
         if (lowerCase)
-            return seq.getData().replace('-','.').toLowerCase();
+            return new String(data).toLowerCase();
         else
-            return seq.getData().replace('-', '.');
+            return new String(data);
     }
 
     /**
@@ -185,7 +203,7 @@ public class MsfWriter implements Writer
         if (seq instanceof Lengthable)
             return ((Lengthable) seq).getLength();
         else
-            return seq.getData().length();
+            return seq.length();
     }
 
     /**
@@ -198,7 +216,7 @@ public class MsfWriter implements Writer
         if (msa instanceof Lengthable)
             return ((Lengthable) msa).getLength();
         else
-            return ((Sequence) msa.getSeqs().firstElement()).getData().length();
+            return ((Sequence) msa.getSeqs().firstElement()).length();
     }
 
     /**
@@ -319,36 +337,22 @@ public class MsfWriter implements Writer
 
     /**
      * Writes a line corresponding to a sequence of the MSA.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length (needed to align).
-     * @param data Sequences data.
-     * @param index Index of the current sequence in the array (needed to
-     * update data).
-     * @return Line in MSF format.
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeLine(String id, int longestId, String[] data, int index)
+    protected int writeLine(Appendable out, String id, int longestId, String data, int offset)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(),longestId));
-        outb.append(WriterUtils.align(longestId, 10) + "      ");
+        Layout.id(out, id, longestId, "      ");
 
-        //Write a row
-        for (int j = 0; j < 6; j++)
-        {
-            //If there are enough characters to make a 10 characters block
-            if (data[index].length() > 10)
-            {
-                outb.append(data[index].substring(0, 10) + " ");
-                data[index] = data[index].substring(10);
-            }
-            else
-            {
-                outb.append(data[index]);
-                data[index] = "";
-                break;
-            }
-        }
-        outb.append(nl);
-        return outb.toString();
+        //Write a row of 10 characters blocks
+        offset = layout.line(out, data, offset);
+        out.append(nl);
+        return offset;
     }
 }
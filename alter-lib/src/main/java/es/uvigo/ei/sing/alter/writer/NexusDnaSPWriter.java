@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -49,10 +50,11 @@ public class NexusDnaSPWriter extends NexusWriter
      * Writes a MSA in NEXUS format, adapted to dnaSP. It checks that the MSA is
      * not a protein MSA. It then calls the method in the superclass.
      * @param msa Input MSA.
-     * @return MSA in NEXUS format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -66,6 +68,6 @@ public class NexusDnaSPWriter extends NexusWriter
             logger.log(Level.WARNING,"MSA is an amino acids MSA. " +
                     "It will not be processed by dnaSP (only DNA is processed).");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -49,10 +50,11 @@ public class NexusProtTestWriter extends NexusWriter
      * Writes a MSA in NEXUS format adapted to ProtTest. It checks that it is
      * a proteins MSA and calls the superclass method.
      * @param msa Input MSA.
-     * @return MSA in NEXUS format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -66,6 +68,6 @@ public class NexusProtTestWriter extends NexusWriter
             logger.log(Level.WARNING,"MSA is a nucleotides MSA. " +
                     "It will not be processed by ProtTest (only protein is processed).");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 }
\ No newline at end of file
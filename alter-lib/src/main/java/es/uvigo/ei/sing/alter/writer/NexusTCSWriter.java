@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -50,10 +51,11 @@ public class NexusTCSWriter extends NexusWriter
      * not a proteins MSA and that it not contains ambiguous caracters. It then
      * calls the superclass method.
      * @param msa Input MSA.
-     * @return MSA in NEXUS format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -72,6 +74,6 @@ public class NexusTCSWriter extends NexusWriter
             logger.log(Level.WARNING,"MSA contains IUPAC ambiguous characters. " +
                     "They will be treated as missing data by TCS.");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 }
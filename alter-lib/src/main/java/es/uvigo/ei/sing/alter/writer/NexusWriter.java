@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,15 +36,19 @@ import es.uvigo.ei.sing.alter.types.Typeable;
 /**
  * Implements interface Writer for the NEXUS format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
-public class NexusWriter implements Writer
+public class NexusWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the interleaved sequence data (lines of 50 characters).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -71,12 +76,8 @@ public class NexusWriter implements Writer
      */
     public NexusWriter(String os, boolean lowerCase, boolean sequential, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 50, 1, "");
         this.lowerCase = lowerCase;
         this.sequential = sequential;
         this.match = match;
@@ -86,12 +87,11 @@ public class NexusWriter implements Writer
     /**
      * Writes a MSA in NEXUS format.
      * @param msa Input MSA.
-     * @return MSA in NEXUS format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-       
         //Copy sequences and find longest ID
         String[] data = new String[msa.getSeqs().size()];
         LinkedHashSet<String> id = new LinkedHashSet<String>(msa.getSeqs().size());
@@ -116,63 +116,62 @@ public class NexusWriter implements Writer
         String type = getType(msa);
 
         //Write header
-        outb.append(writeHeader(taxa, length, type));
+        out.append(writeHeader(taxa, length, type));
 
         if (sequential)
-            outb.append(sequential(id, longestId, data));
+            sequential(out, id.toArray(new String[id.size()]), longestId, data);
         else
-            outb.append(interleaved(id, longestId, data));
+            interleaved(out, id.toArray(new String[id.size()]), longestId, data);
 
-        outb.append(writeFooter());
+        out.append(writeFooter());
         
         logger.log(Level.INFO, "MSA successfully converted to NEXUS format!");
-        return outb.toString();
     }
 
     /**
      * Writes sequences of a MSA in sequential NEXUS.
+     * @param out Output destination.
      * @param id Sequences identifiers.
      * @param longestId Longest identifier length (needed to align).
      * @param data Sequences data.
-     * @return Sequences in sequential NEXUS.
+     * @throws IOException If the destination cannot be written.
      */
-    private String sequential (LinkedHashSet<String> id, int longestId, String[] data)
+    private void sequential(Appendable out, final String[] id, final int longestId, final String[] data)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
         //Write sequences
-        int i= 0;
-        for(String uid:id)
+        writeChunks(out, data.length, new Chunk()
         {
-            outb.append(writeSequence(uid, longestId, data[i]));
-            i++;
-        }
-        return outb.toString();
+            @Override
+            public void write(Appendable out, int i) throws IOException
+            {
+                writeSequence(out, id[i], longestId, data[i]);
+            }
+        });
     }
 
     /**
      * Writes sequences of a MSA in interleaved NEXUS.
+     * @param out Output destination.
      * @param id Sequences identifiers.
      * @param longestId Longest identifier length (needed to align).
      * @param data Sequences data.
-     * @return Sequences in interleaved NEXUS.
+     * @throws IOException If the destination cannot be written.
      */
-    private String interleaved (LinkedHashSet<String> id, int longestId, String[] data)
+    private void interleaved(Appendable out, final String[] id, final int longestId, final String[] data)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-        //Write sequences
-        while (!data[0].isEmpty())
+        //Write sequences block by block
+        writeChunks(out, layout.lineCount(data[0]), new Chunk()
         {
-            int i=0;
-            for(String uid:id)
+            @Override
+            public void write(Appendable out, int line) throws IOException
             {
-                outb.append(writeLine(uid, longestId, data, i));
-                i++;
+                for (int i = 0; i < data.length; i++)
+                    writeLine(out, id[i], longestId, data[i], layout.offset(data[i], line));
+                out.append(nl);
             }
-                
-            outb.append(nl);
-        }
-        
-        return outb.toString();
+        });
     }
 
     /**
@@ -247,7 +246,7 @@ public class NexusWriter implements Writer
         if (msa instanceof Lengthable)
             return ((Lengthable) msa).getLength();
         else
-            return ((Sequence) msa.getSeqs().firstElement()).getData().length();
+            return ((Sequence) msa.getSeqs().firstElement()).length();
     }
 
     /**
@@ -314,48 +313,37 @@ public class NexusWriter implements Writer
 
     /**
      * Writes a complete sequence.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeSequence(String id, int longestId, String data)
+    protected void writeSequence(Appendable out, String id, int longestId, String data)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(),longestId)
-                        + WriterUtils.align(longestId, 10) + "  ");
-
-        outb.append(data + nl);
-        return outb.toString();
+        Layout.id(out, id, longestId, "  ");
+        out.append(data).append(nl);
     }
 
      /**
      * Writes a line corresponding to a sequence of the MSA.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length (needed to align).
-     * @param data Sequences data.
-     * @param index Index of the current sequence in the array (needed to
-     * update data).
-     * @return Line in NEXUS format.
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeLine(String id, int longestId, String[] data, int index)
+    protected int writeLine(Appendable out, String id, int longestId, String data, int offset)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(),longestId)
-                        + WriterUtils.align(longestId, 10) + "  ");
+        Layout.id(out, id, longestId, "  ");
 
         //Escribir una línea si es posible
-        if (data[index].length() > 50)
-        {
-            outb.append(data[index].substring(0, 50));
-            data[index] = data[index].substring(50);
-        }
-        else
-        {
-            outb.append(data[index]);
-            data[index] =  "";
-        }
-        outb.append(nl);
-        return outb.toString();
+        offset = layout.line(out, data, offset);
+        out.append(nl);
+        return offset;
     }
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 
@@ -76,18 +77,18 @@ public class PhylipMegaWriter extends PhylipWriter
     /**
      * Writes a complete sequence, adapted to MEGA. It writes the whole sequence
      * in a single line.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    protected String writeSequence(String id, int longestId, String data)
+    protected void writeSequence(Appendable out, String id, int longestId, String data)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId)
-                            + WriterUtils.align(longestId, 10)+ "  " + data + nl);
-        return outb.toString();
+        Layout.id(out, id, longestId, "  ");
+        out.append(data).append(nl);
     }
 }
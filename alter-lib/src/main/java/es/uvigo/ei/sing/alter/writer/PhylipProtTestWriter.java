@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -49,10 +50,11 @@ public class PhylipProtTestWriter extends PhylipWriter
      * Writes a MSA in PHYLIP format adapted to ProtTest. It checks that it is
      * a proteins MSA and calls the superclass method.
      * @param msa Input MSA.
-     * @return MSA in PHYLIP format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -66,24 +68,24 @@ public class PhylipProtTestWriter extends PhylipWriter
             logger.log(Level.WARNING,"MSA is a nucleotides MSA. " +
                     "It will not be processed by ProtTest (only protein is processed).");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 
     /**
      * Writes a complete sequence, adapted to ProtTest. It writes the whole sequence
      * in a single line.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    protected String writeSequence(String id, int longestId, String data)
+    protected void writeSequence(Appendable out, String id, int longestId, String data)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId)
-                            + WriterUtils.align(longestId, 10) + "  " + data + nl);
-        return outb.toString();
+        Layout.id(out, id, longestId, "  ");
+        out.append(data).append(nl);
     }
 }
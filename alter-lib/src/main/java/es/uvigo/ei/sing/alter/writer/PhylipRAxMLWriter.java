@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 
@@ -49,15 +50,16 @@ public class PhylipRAxMLWriter extends PhylipWriter
      * that the MSA contains 4 or more sequences.
      * It then calls the method in the superclass.
      * @param msa Input MSA.
-     * @return String with the MSA in PHYLIP format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         if (msa.getSeqs().size() < 4)
             logger.log(Level.WARNING, "MSA contains less than 4 sequences. " +
                     "It will not be processed by RAxML.");
-        return super.write(msa);
+        super.write(msa, out);
     }
 
     /**
@@ -103,18 +105,18 @@ public class PhylipRAxMLWriter extends PhylipWriter
     /**
      * Writes a complete sequence, adapted to RAxML. It writes the whole sequence
      * in a single line.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    protected String writeSequence(String id, int longestId, String data)
+    protected void writeSequence(Appendable out, String id, int longestId, String data)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId)
-                            + WriterUtils.align(longestId, 10) + "  " + data + nl);
-        return outb.toString();
+        Layout.id(out, id, longestId, "  ");
+        out.append(data).append(nl);
     }
 }
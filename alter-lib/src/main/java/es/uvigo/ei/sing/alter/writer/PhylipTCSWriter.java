@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -50,10 +51,11 @@ public class PhylipTCSWriter extends PhylipWriter
      * not a proteins MSA and that it not contains ambiguous caracters. It then
      * calls the superclass method.
      * @param msa Input MSA.
-     * @return MSA in NEXUS format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -72,24 +74,24 @@ public class PhylipTCSWriter extends PhylipWriter
             logger.log(Level.WARNING,"MSA contains IUPAC ambiguous characters. " +
                     "They will be treated as missing data by TCS.");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 
     /**
      * Writes a complete sequence, adaptaed to TCS. It writes the whole sequence
      * in a single line.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
     @Override
-    protected String writeSequence(String id, int longestId, String data)
+    protected void writeSequence(Appendable out, String id, int longestId, String data)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId)
-                            + WriterUtils.align(longestId, 10) + data + nl);
-        return outb.toString();
+        Layout.id(out, id, longestId, "");
+        out.append(data).append(nl);
     }
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,15 +30,19 @@ import es.uvigo.ei.sing.alter.types.Taxable;
 /**
  * Implements interface Writer for the PHYLIP format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
-public class PhylipWriter implements Writer
+public class PhylipWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of five 10 character blocks).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -65,12 +70,8 @@ public class PhylipWriter implements Writer
      */
     public PhylipWriter(String os, boolean lowerCase, boolean sequential, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 10, 5, " ");
         this.lowerCase = lowerCase;
         this.sequential = sequential;
         this.match = match;
@@ -80,18 +81,16 @@ public class PhylipWriter implements Writer
     /**
      * Writes a MSA in PHYLIP format.
      * @param msa Input MSA.
-     * @return MSA in PHYLIP format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
-        //Output
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-        
         //Instantiate taxa and length
         int taxa = getTaxa(msa);
         int length = getLength(msa);
 
-        outb.append(writeHeader(taxa, length));
+        out.append(writeHeader(taxa, length));
 
         //Copy sequences
         String[] data = new String[msa.getSeqs().size()];
@@ -109,67 +108,63 @@ public class PhylipWriter implements Writer
                 longestId = uid.length();
         }
         if (sequential)
-            outb.append(sequential(id, longestId, data));
+            sequential(out, id.toArray(new String[id.size()]), longestId, data);
         else
-            outb.append(interleaved(id, longestId, data));
+            interleaved(out, id.toArray(new String[id.size()]), longestId, data);
 
         logger.log(Level.INFO, "MSA successfully converted to PHYLIP format!");
-        return outb.toString();
     }
 
     /**
      * Writes sequences of a MSA in interleaved PHYLIP.
+     * @param out Output destination.
      * @param id Sequences identifiers.
      * @param longestId Longest identifier length (needed to align).
      * @param data Sequences data.
-     * @return Sequences in interleaved PHYLIP.
+     * @throws IOException If the destination cannot be written.
      */
-    private String interleaved(LinkedHashSet<String> id, int longestId, String[] data)
+    private void interleaved(Appendable out, final String[] id, final int longestId, final String[] data)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
-        //Write first sequences with identifier
-        int i = 0;
-        for (String uid:id)
+        //The first block is written even if there is no data
+        writeChunks(out, Math.max(1, layout.lineCount(data[0])), new Chunk()
         {
-            outb.append(writeLine(uid, longestId, data, i));
-            i++;
-        }
-
-        outb.append(nl);
-
-        //Write the rest of the sequences
-        while (!data[0].isEmpty())
-        {
-            i = 0;
-            for (String uid:id)
+            @Override
+            public void write(Appendable out, int line) throws IOException
             {
-                outb.append(writeLine(longestId, data, i));
-                i++;
+                for (int i = 0; i < data.length; i++)
+                {
+                    int offset = layout.offset(data[i], line);
+                    //Only the first sequences are written with identifier
+                    if (line == 0)
+                        writeLine(out, id[i], longestId, data[i], offset);
+                    else
+                        writeLine(out, longestId, data[i], offset);
+                }
+                out.append(nl);
             }
-            outb.append(nl);
-        }
-        return outb.toString();
+        });
     }
 
     /**
      * Writes sequences of a MSA in sequential PHYLIP.
+     * @param out Output destination.
      * @param id Sequences identifiers.
      * @param longestId Longest identifier length (needed to align).
      * @param data Sequences data.
-     * @return Sequences in sequential PHYLIP.
+     * @throws IOException If the destination cannot be written.
      */
-    private String sequential(LinkedHashSet<String> id, int longestId, String[] data)
+    private void sequential(Appendable out, final String[] id, final int longestId, final String[] data)
+            throws IOException
     {
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
-        int i = 0;
-        for (String uid:id)
+        writeChunks(out, data.length, new Chunk()
         {
-            outb.append(writeSequence(uid, longestId, data[i]));
-            i++;
-        }
-        return outb.toString();
+            @Override
+            public void write(Appendable out, int i) throws IOException
+            {
+                writeSequence(out, id[i], longestId, data[i]);
+            }
+        });
     }
 
     /**
@@ -195,7 +190,7 @@ public class PhylipWriter implements Writer
         if (msa instanceof Lengthable)
             return ((Lengthable) msa).getLength();
         else
-            return ((Sequence) msa.getSeqs().firstElement()).getData().length();
+            return ((Sequence) msa.getSeqs().firstElement()).length();
     }
 
     /**
@@ -252,123 +247,66 @@ public class PhylipWriter implements Writer
 
     /**
      * Writes a line corresponding to a sequence of the MSA.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length (needed to align).
-     * @param data Sequences data.
-     * @param index Index of the current sequence in the array (needed to
-     * update data).
-     * @return Line in PHYLIP format.
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeLine(String id, int longestId, String[] data, int index)
+    protected int writeLine(Appendable out, String id, int longestId, String data, int offset)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId) +
-                WriterUtils.align(longestId, 10) + "  ");
+        Layout.id(out, id, longestId, "  ");
 
         //Write a row of 10 character blocks
-        for (int j = 0; j < 5; j++)
-        {
-            //If there are enough characters to make a 10 character block
-            if (data[index].length() > 10)
-            {
-
-                outb.append(data[index].substring(0, 10) + " ");
-                data[index] = data[index].substring(10);
-            }
-            else
-            {
-                outb.append(data[index]);
-                data[index] = "";
-            }
-            //If there are no more characters to write exit the loop
-            if (data[index].isEmpty())
-                break;
-        }
-        outb.append(nl);
-        return outb.toString();
+        offset = layout.line(out, data, offset);
+        out.append(nl);
+        return offset;
     }
 
     /**
      * Writes a line corresponding to a sequence of the MSA. This method is
      * used in interleaved PHYLIP when the identifier is omitted before the data.
+     * @param out Output destination.
      * @param longestId Longest identifier length (needed to align).
-     * @param data Sequences data.
-     * @param index Index of the current sequence in the array (needed to
-     * update data).
-     * @return Line in PHYLIP format.
+     * @param data Sequence data.
+     * @param offset Offset of the first character of the line.
+     * @return Offset of the first character after the line.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeLine(int longestId, String[] data, int index)
+    protected int writeLine(Appendable out, int longestId, String data, int offset)
+            throws IOException
     {
         //Write spaces to align
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(WriterUtils.align(0, longestId)
-                        + WriterUtils.align(longestId, 10) + "  ");
-        //Write a row of 10 character blocks
-        for (int j = 0; j < 5; j++)
-        {
-            //If there are enough chracters to make a 10 character block
-            if (data[index].length() > 10)
-            {
-                outb.append(data[index].substring(0, 10) + " ");
-                data[index] = data[index].substring(10);
-            }
-            else
-            {
-                outb.append(data[index]);
-                data[index] = "";
-            }
+        Layout.id(out, null, longestId, "  ");
 
-            //If there are no more characters to write, exit the loop.
-            if (data[index].isEmpty())
-                break;
-        }
-        outb.append(nl);
-        return outb.toString();
+        //Write a row of 10 character blocks
+        offset = layout.line(out, data, offset);
+        out.append(nl);
+        return offset;
     }
 
     /**
      * Writes a complete sequence.
+     * @param out Output destination.
      * @param id Sequence identifier.
      * @param longestId Longest identifier length.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeSequence(String id, int longestId, String data)
+    protected void writeSequence(Appendable out, String id, int longestId, String data)
+            throws IOException
     {
         //Write ID
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_SEQLENGTH);
-        outb.append(id + WriterUtils.align(id.length(), longestId)
-                            + WriterUtils.align(longestId, 10) + "  ");
+        Layout.id(out, id, longestId, "  ");
 
-        while(!data.isEmpty())
-        {
-            //Write a row with 10 character blocks
-            for (int j = 0; j < 5; j++)
-            {
-                //If there are enough characters to make a 10 character block
-                if (data.length() > 10)
-                {
-                    outb.append(data.substring(0, 10) + " ");
-                    data = data.substring(10);
-                }
-                else
-                {
-                    outb.append(data);
-                    data = "";
-                }
-                //If there are no more characters to write, exit the loop
-                if (data.isEmpty())
-                    break;
-            }
-            outb.append(nl);
-            if (!data.isEmpty())
-            {
-                outb.append(WriterUtils.align(0, longestId)
-                        + WriterUtils.align(longestId, 10) + "  ");
-            }
-        }
-        outb.append(nl);
-        return outb.toString();
+        //Write rows of 10 character blocks, aligned with the first one
+        StringBuilder indent = new StringBuilder();
+        Layout.id(indent, null, longestId, "  ");
+        layout.lines(out, data, indent);
+        out.append(nl);
     }
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import es.uvigo.ei.sing.alter.types.MSA;
@@ -48,10 +49,11 @@ public class PirDnaSPWriter extends PirWriter
      * Escribe un MSA en formato PIR adaptado a dnaSP. Para ello
      * comprueba que el MSA no sea de proteínas. Luego llama al método de la superclase.
      * @param msa MSA de entrada.
-     * @return Cadena con la el MSA en formato PIR.
+     * @param out Destino de la salida.
+     * @throws IOException Si no se puede escribir en el destino.
      */
     @Override
-    public String write(MSA msa)
+    public void write(MSA msa, Appendable out) throws IOException
     {
         Type type = null;
         if (msa instanceof Typeable)
@@ -65,6 +67,6 @@ public class PirDnaSPWriter extends PirWriter
             logger.log(Level.WARNING,"MSA is an amino acids MSA. " +
                     "It will not be processed by dnaSP (only DNA is processed).");
         }
-        return super.write(msa);
+        super.write(msa, out);
     }
 }
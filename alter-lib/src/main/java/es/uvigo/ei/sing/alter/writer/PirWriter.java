@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,14 +43,18 @@ import es.uvigo.ei.sing.alter.types.Typeable;
 /**
  * Implements interface Writer for the PIR format.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
-public class PirWriter implements Writer
+public class PirWriter extends AbstractWriter
 {
     /**
      * New line characters according to the given output OS.
      */
     String nl;
+    /**
+     * Layout of the sequence data (lines of 60 characters).
+     */
+    Layout layout;
     /**
      * Lowercase output.
      */
@@ -72,12 +77,8 @@ public class PirWriter implements Writer
      */
     public PirWriter(String os, boolean lowerCase, boolean match, String logger)
     {
-        if (os.equals("macos"))
-            nl = "\r";
-        else if (os.equals("linux"))
-            nl = "\n";
-        else
-            nl = "\r\n";
+        nl = Layout.newLine(os);
+        layout = new Layout(nl, 60, 1, "");
         this.lowerCase = lowerCase;
         this.match = match;
         this.logger = Logger.getLogger(logger);
@@ -86,31 +87,37 @@ public class PirWriter implements Writer
     /**
      * Writes a MSA in PIR format.
      * @param msa Input MSA.
-     * @return MSA in PIR format.
+     * @param out Output destination.
+     * @throws IOException If the destination cannot be written.
      */
-    public String write(MSA msa)
+    public void write(final MSA msa, Appendable out) throws IOException
     {
-        //Output
-        StringBuffer outb = new StringBuffer(STRING_BUFFER_MSALENGTH);
-
-        String type = getType(msa);
+        final String type = getType(msa);
+        //Get identifiers first, so they are renamed in order
+        final String[] id = new String[msa.getSeqs().size()];
         LinkedHashSet<String> ids = new LinkedHashSet<String>(msa.getSeqs().size());
-        //Write sequences
         for (int i = 0; i < msa.getSeqs().size(); i++)
         {
-            //Get sequence
-            Sequence seq = (Sequence) msa.getSeqs().elementAt(i);
-            //Instantiate attributes
-            String id = getId(seq, ids);
-            ids.add(id);
-            String data = getData(seq, (Sequence) msa.getSeqs().firstElement());
-            String desc = getDesc(seq);
-            //Write sequence
-            outb.append(writeSequence(type, id, desc, data));
+            id[i] = getId((Sequence) msa.getSeqs().elementAt(i), ids);
+            ids.add(id[i]);
         }
+        //Write sequences
+        writeChunks(out, id.length, new Chunk()
+        {
+            @Override
+            public void write(Appendable out, int i) throws IOException
+            {
+                //Get sequence
+                Sequence seq = (Sequence) msa.getSeqs().elementAt(i);
+                //Instantiate attributes
+                String data = getData(seq, (Sequence) msa.getSeqs().firstElement());
+                String desc = getDesc(seq);
+                //Write sequence
+                writeSequence(out, type, id[i], desc, data);
+            }
+        });
         
         logger.log(Level.INFO, "MSA successfully converted to PIR format!");
-        return outb.toString();
     }
 
     /**
@@ -213,37 +220,22 @@ public class PirWriter implements Writer
 
     /**
      * Writes a complete sequence.
+     * @param out Output destination.
      * @param type Sequence type.
      * @param id Sequence identifier.
      * @param desc Sequence description.
      * @param data Sequence data.
-     * @return Formatted sequence.
+     * @throws IOException If the destination cannot be written.
      */
-    protected String writeSequence(String type, String id, String desc, String data)
+    protected void writeSequence(Appendable out, String type, String id, String desc, String data)
+            throws IOException
     {
-        String out = "";
         //Write type, ID and description.
-        out += ">" + type + ";" + id + nl;
-        out += desc + nl;
-
-        //While there are characters to write
-        while (data.length() > 0)
-        {
-            //If there are enough characters to make a line
-            if (data.length() > 60)
-            {
-                out += data.substring(0, 60);
-                data = data.substring(60);
-            }
-            else
-            {
-                out += data;
-                data = "";
-            }
-            out += nl;
-        }
-        out += "*" + nl;
+        out.append(">").append(type).append(";").append(id).append(nl);
+        out.append(desc).append(nl);
 
-        return out;
+        //Write data in lines of 60 characters
+        layout.lines(out, data, "");
+        out.append("*").append(nl);
     }
 }
@@ -17,12 +17,18 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
 import es.uvigo.ei.sing.alter.types.MSA;
 
 /**
- * Define los métodos que deben implementar todos los escritores.
+ * Define los métodos que deben implementar todos los escritores. Además de
+ * devolver una cadena, el MSA puede escribirse sobre cualquier Appendable o
+ * flujo de salida a medida que se formatea.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
 public interface Writer
@@ -34,6 +40,32 @@ public interface Writer
      */
     public String write(MSA msa);
 
+    /**
+     * Escribe el MSA en un formato determinado sobre un Appendable, a medida
+     * que se formatea.
+     * @param msa MSA de entrada.
+     * @param out Destino de la salida.
+     * @throws IOException Si no se puede escribir en el destino.
+     */
+    public void write(MSA msa, Appendable out) throws IOException;
+
+    /**
+     * Escribe el MSA en un formato determinado sobre un flujo de salida,
+     * codificado con el juego de caracteres indicado. El flujo no se cierra.
+     * @param msa MSA de entrada.
+     * @param out Flujo de salida.
+     * @param charset Juego de caracteres de la salida.
+     * @throws IOException Si no se puede escribir en el flujo.
+     */
+    public void write(MSA msa, OutputStream out, Charset charset) throws IOException;
+
+    /**
+     * Establece el número de hilos usados para formatear la salida. La salida
+     * es la misma sea cual sea el número de hilos.
+     * @param threads Número de hilos (se usa un solo hilo si es menor que 2).
+     */
+    public void setThreads(int threads);
+
     public int STRING_BUFFER_MSALENGTH = 10000;
     public int STRING_BUFFER_SEQLENGTH = 2000;
 }
@@ -17,6 +17,7 @@
 
 package es.uvigo.ei.sing.alter.writer;
 
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,13 +25,14 @@ import java.util.logging.Logger;
 import es.uvigo.ei.sing.alter.types.MSA;
 import es.uvigo.ei.sing.alter.types.Nucleotide;
 import es.uvigo.ei.sing.alter.types.Protein;
+import es.uvigo.ei.sing.alter.types.ResidueCounts;
 import es.uvigo.ei.sing.alter.types.Sequence;
 import es.uvigo.ei.sing.alter.types.Type;
 
 /**
  * Class with static methods commonly used by all writers.
  * @author Daniel Gomez Blanco
- * @version 1.1
+ * @version 1.3
  */
 
 public class WriterUtils
@@ -43,12 +45,11 @@ public class WriterUtils
      */
     public static String align (int cur, int longest)
     {
-        String toret = "";
-        for(int i=cur;i<longest;i++)
-        {
-            toret = toret.concat(" ");
-        }
-        return toret;
+        if (cur >= longest)
+            return "";
+        char[] toret = new char[longest - cur];
+        Arrays.fill(toret, ' ');
+        return new String(toret);
     }
 
     /**
@@ -62,25 +63,10 @@ public class WriterUtils
     public static Type inferType(MSA msa)
     {
         //Counters for total read and and nucleotide read
-        int total = 0;
-        int n = 0;
-
-        //Para cada secuencia
-        for (int i=0;i<msa.getSeqs().size();i++)
-        {
-            String seq = ((Sequence) msa.getSeqs().elementAt(i)).getData();
-            for(int j=0;j<seq.length();j++)
-            {
-                if (seq.charAt(j) != '-' && seq.charAt(j) != '?')
-                {
-                    total++;
-                    if (seq.charAt(j) == 'A' || seq.charAt(j) == 'C'
-                            || seq.charAt(j) == 'G' || seq.charAt(j) == 'T'
-                            || seq.charAt(j) == 'U')
-                        n++;
-                }
-            }
-        }
+        ResidueCounts counts = msa.getCounts();
+        long total = counts.residues();
+        long n = counts.count('A') + counts.count('C') + counts.count('G')
+                + counts.count('T') + counts.count('U');
 
         //Return adequate type
         if ((100 * n) / total >= 85)
@@ -97,36 +83,14 @@ public class WriterUtils
      */
     public static boolean isIUPAC(MSA msa, Type type)
     {
-        boolean toret = false;
-
         //If it is a protein
         if (type instanceof Protein)
-            for(int i=0; i<msa.getSeqs().size();i++)
-            {
-                String data = ((Sequence) msa.getSeqs().elementAt(i)).getData();
-
-                for(int j=0; j<data.length();j++)
-                    if (data.charAt(j) == 'B' || data.charAt(j) == 'Z'
-                            || data.charAt(j) == 'X')
-                        toret = true;
-            }
+            return msa.getCounts().containsAny("BZX");
         //If it is a nucleotide
         else if (type instanceof Nucleotide)
-            for(int i=0; i<msa.getSeqs().size();i++)
-            {
-                String data = ((Sequence) msa.getSeqs().elementAt(i)).getData();
+            return msa.getCounts().containsAny("RYMKWSBDHVN");
 
-                for(int j=0; j<data.length();j++)
-                    if (data.charAt(j) == 'R' || data.charAt(j) == 'Y'
-                        || data.charAt(j) == 'M' || data.charAt(j) == 'K'
-                        || data.charAt(j) == 'W' || data.charAt(j) == 'S'
-                        || data.charAt(j) == 'B' || data.charAt(j) == 'D'
-                        || data.charAt(j) == 'H' || data.charAt(j) == 'V'
-                        || data.charAt(j) == 'N')
-                        toret = true;
-            }
-        
-        return toret;
+        return false;
     }
 
     /**
@@ -140,16 +104,15 @@ public class WriterUtils
     {
         if(seq != firstSeq)
         {
-            StringBuffer toret = new StringBuffer();
-            String data = seq.getData();
-            String first = firstSeq.getData();
-            for (int i=0;i<data.length();i++)
-                if (first.charAt(i) != '-' && first.charAt(i) != '?'
-                        && data.charAt(i) == first.charAt(i))
-                    toret.append(".");
-                else
-                    toret.append(data.charAt(i));
-            return toret.toString();
+            char[] toret = new char[seq.length()];
+            seq.getChars(0, toret.length, toret, 0);
+            for (int i=0;i<toret.length;i++)
+            {
+                char c = firstSeq.charAt(i);
+                if (c != '-' && c != '?' && toret[i] == c)
+                    toret[i] = '.';
+            }
+            return new String(toret);
         }
         else
             return seq.getData();
@@ -0,0 +1,163 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import es.uvigo.ei.sing.alter.converter.DefaultFactory;
+import es.uvigo.ei.sing.alter.parser.ParseException;
+
+/**
+ * Checks the messages of the parse errors of malformed inputs, which tell
+ * the users where their input is wrong.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+public class ReaderErrorsTest
+{
+    /**
+     * Line separator used in the messages.
+     */
+    private static final String NL = System.getProperty("line.separator", "\n");
+    /**
+     * Name of the logger used by the readers.
+     */
+    private static final String LOGGER = ReaderErrorsTest.class.getName();
+    /**
+     * First words expected by autodetection.
+     */
+    private static final String HEADERS = "\"#\", \"%\", \"#NEXUS\", \"CLUSTAL\", \"MUSCLE\", \"PROBCONS\", \"PileUp\", "
+            + "\"!!AA_MULTIPLE_ALIGNMENT\", \"!!NA_MULTIPLE_ALIGNMENT\", \">\" or a number";
+
+    @Test
+    public void aln()
+    {
+        check("aln", "CLUSTAL W\n\na ACGT\nb ACGT\n\n\na ACGT\nc ACGT\n\n",
+                "ID for sequence \"b\"does not match with ID in line 8");
+        check("aln", "CLUSTAL W\n\na ACGT\nb ACGT\n\n\na ACGT\nb ACGT\nc ACGT\n\n",
+                "Number of sequences in block is greater than in the first block.");
+    }
+
+    @Test
+    public void fasta()
+    {
+        check("fasta", "a\nACGT\n", "Encountered \"a\" at line 1, column 1." + NL + "Was expecting \">\".");
+        check("fasta", ">a\nAC!T\n", "Encountered \"!\" at line 2, column 3." + NL
+                + "Was expecting \">\" or end of file.");
+        check("fasta", ">a\nACGT\n>b\nAC\n", "Sequence lengths are not equal.");
+    }
+
+    @Test
+    public void gde()
+    {
+        check("gde", "#a\nACGT\n%b\nAC\n", "Sequence lengths are not equal.");
+    }
+
+    @Test
+    public void msf()
+    {
+        check("msf", "PileUp\n\n MSF: 4 Type: N Check: 0 ..\n\n Name: a oo Len: 4 Check: 0 Weight: 1.0\n\n//\n\nb ACGT\n",
+                "ID for sequence \"a\"does not match with ID in line 9");
+    }
+
+    @Test
+    public void nexus()
+    {
+        check("nexus", "#NEXUS\nbegin data;\ndimensions ntax=2 nchar=4;\nformat datatype=dna;\nmatrix\na ACGT\nb ACGT\n",
+                "Encountered end of file at line 7, column 7." + NL + "Was expecting \"end;\".");
+    }
+
+    @Test
+    public void phylip()
+    {
+        check("phylip", "x 4\n", "Encountered \"x\" at line 1, column 1." + NL + "Was expecting number.");
+        check("phylip", "2 4\na         ACGT\n", "Encountered end of file at line 2, column 15." + NL
+                + "Was expecting sequence identifier.");
+        check("phylip", "2 4\na         ACGT\nb         AC\n", "Encountered end of file at line 3, column 13." + NL
+                + "Was expecting sequence data.");
+    }
+
+    @Test
+    public void pir()
+    {
+        check("pir", ">P1;a\n\nACGT\n", "Encountered end of file at line 3, column 5." + NL + "Was expecting \"*\".");
+    }
+
+    @Test
+    public void autodetection()
+    {
+        check(new AutodetectionReader(LOGGER), "hello\n", "Encountered \"h\" at line 1, column 1." + NL + "Was expecting " + HEADERS + ".");
+        check(new AutodetectionReader(LOGGER), "", "Encountered end of file at line 1, column 0." + NL + "Was expecting " + HEADERS + ".");
+    }
+
+    @Test
+    public void parallel()
+    {
+        //The first error is reported even if the input is parsed in ranges
+        StringBuilder fasta = new StringBuilder();
+        int lines = 0;
+        for (int i = 0; fasta.length() < 3 << 20; i++)
+        {
+            fasta.append(">seq").append(i).append('\n');
+            fasta.append("ACGTACGTACGTACGTACGTACGTACGTACGTACGTACGT\n");
+            lines += 2;
+        }
+        fasta.append(">bad\nAC!T\n");
+        String message = "Encountered \"!\" at line " + (lines + 2) + ", column 3." + NL
+                + "Was expecting \">\" or end of file.";
+        for (int threads : new int[] {1, 4})
+        {
+            AbstractReader reader = new FastaReader(LOGGER);
+            reader.setThreads(threads);
+            check(reader, fasta.toString(), message);
+        }
+    }
+
+    /**
+     * Checks the message of the error of a malformed input.
+     * @param format Format of the input.
+     * @param in Malformed input.
+     * @param message Expected message.
+     */
+    private static void check(String format, String in, String message)
+    {
+        check(new DefaultFactory().getReader("linux", "clustal", format, false, LOGGER), in, message);
+    }
+
+    /**
+     * Checks the message of the error of a malformed input.
+     * @param reader Reader of the input.
+     * @param in Malformed input.
+     * @param message Expected message.
+     */
+    private static void check(Reader reader, String in, String message)
+    {
+        try
+        {
+            reader.read(in);
+            fail("Parsed malformed input: " + in);
+        }
+        catch (ParseException ex)
+        {
+            assertEquals(message, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import es.uvigo.ei.sing.alter.converter.DefaultFactory;
+import es.uvigo.ei.sing.alter.parser.ParseException;
+import es.uvigo.ei.sing.alter.types.MSA;
+import es.uvigo.ei.sing.alter.types.Sequence;
+
+/**
+ * Reads the sample alignments bundled with the web application. The samples
+ * written by the same run of an aligner must give the same sequences in every
+ * format as the FASTA sample of that run.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+public class ReaderSamplesTest
+{
+    /**
+     * Directory of the samples, relative to this module.
+     */
+    private static final Path SAMPLES = Paths.get("..", "alter-web", "src", "main", "resources");
+    /**
+     * Name of the logger used by the readers.
+     */
+    private static final String LOGGER = ReaderSamplesTest.class.getName();
+
+    @Test
+    public void clustal() throws ParseException, IOException
+    {
+        check("clustal.fas", "clustal.msf", "clustal.nex", "clustal.phy", "clustal.pir");
+        //The ALN and GDE samples come from another run
+        check("clustal.aln", "clustal.gde");
+    }
+
+    @Test
+    public void mafft() throws ParseException, IOException
+    {
+        check("mafft.fas", "mafft.aln");
+    }
+
+    @Test
+    public void muscle() throws ParseException, IOException
+    {
+        check("muscle.fas", "muscle.aln", "muscle.msf", "muscle.phy");
+    }
+
+    @Test
+    public void probcons() throws ParseException, IOException
+    {
+        check("probcons.fas", "probcons.aln");
+    }
+
+    @Test
+    public void tcoffee() throws ParseException, IOException
+    {
+        check("tcoffee.fas", "tcoffee.aln", "tcoffee.msf", "tcoffee.phy", "tcoffee.pir");
+    }
+
+    @Test
+    public void largeInput() throws ParseException, IOException
+    {
+        //Large enough to be mapped and parsed in several ranges
+        StringBuilder fasta = new StringBuilder();
+        for (int i = 0; fasta.length() < 3 << 20; i++)
+        {
+            fasta.append(">seq").append(i).append('\n');
+            for (int j = 0; j < 5; j++)
+                fasta.append("ACGT-ACGTN".charAt((i + j) % 10)).append("CGTACGTACGTACGTACGTACGTACGTACGTACGTACG\n");
+        }
+        String text = fasta.toString();
+
+        Reader serial = new FastaReader(LOGGER);
+        List<String> expected = sequences(serial.read(text));
+        AbstractReader parallel = new FastaReader(LOGGER);
+        parallel.setThreads(4);
+        assertEquals(expected, sequences(parallel.read(text)));
+
+        Path file = Files.createTempFile("alter", ".fas");
+        try
+        {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+            assertEquals(expected, sequences(parallel.read(file)));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Checks that some samples give the same sequences as a reference one,
+     * both with their own reader and with autodetection.
+     * @param reference Name of the reference sample.
+     * @param samples Names of the other samples.
+     * @throws ParseException If a sample cannot be parsed.
+     * @throws IOException If a sample cannot be read.
+     */
+    private static void check(String reference, String... samples) throws ParseException, IOException
+    {
+        List<String> expected = read(reference, false);
+        assertEquals(reference, 35, expected.size());
+        assertEquals(reference, expected, read(reference, true));
+        for (String sample : samples)
+        {
+            assertEquals(sample, expected, read(sample, false));
+            assertEquals(sample, expected, read(sample, true));
+        }
+    }
+
+    /**
+     * Reads a sample.
+     * @param name Name of the sample, with the extension of its format.
+     * @param autodetect True to detect the format instead of using the
+     * reader of the extension.
+     * @return Identifier and data of every sequence.
+     * @throws ParseException If the sample cannot be parsed.
+     * @throws IOException If the sample cannot be read.
+     */
+    private static List<String> read(String name, boolean autodetect) throws ParseException, IOException
+    {
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        String format = extension.equals("fas") ? "fasta" : extension.equals("nex") ? "nexus"
+                : extension.equals("phy") ? "phylip" : extension;
+        Reader reader = new DefaultFactory().getReader("linux", "clustal", format, autodetect, LOGGER);
+        return sequences(reader.read(SAMPLES.resolve(name)));
+    }
+
+    /**
+     * Returns the identifier and data of every sequence of an MSA, and
+     * releases it.
+     * @param msa Parsed MSA.
+     * @return Identifier and data of every sequence.
+     */
+    private static List<String> sequences(MSA msa)
+    {
+        List<String> seqs = new ArrayList<String>();
+        try
+        {
+            for (Object seq : msa.getSeqs())
+                seqs.add(((Sequence) seq).getId() + "\t" + ((Sequence) seq).getData());
+        }
+        finally
+        {
+            msa.close();
+        }
+        assertTrue(!seqs.isEmpty());
+        return seqs;
+    }
+}
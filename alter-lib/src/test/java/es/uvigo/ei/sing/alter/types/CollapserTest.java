@@ -0,0 +1,285 @@
+/*
+ *  This file is part of ALTER.
+ *
+ *  ALTER is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  ALTER is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with ALTER.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package es.uvigo.ei.sing.alter.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Vector;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Compares the haplotype collapse of MSA.collapse to a plain linear scan, in
+ * which every sequence is compared site by site to every haplotype kept
+ * before it.
+ * @author Daniel Gomez Blanco
+ * @version 1.0
+ */
+public class CollapserTest
+{
+    /**
+     * Message logged for every removed sequence.
+     */
+    private static final Pattern REMOVED = Pattern.compile(
+            "Sequence \"(.*)\" is equal to sequence \"(.*)\"\\. Sequence removed\\.");
+
+    @Test
+    public void randomized()
+    {
+        //Up to 300 sequences, so 4 threads resolve more than one batch
+        Random random = new Random(7);
+        for (int trial = 0; trial < 20; trial++)
+        {
+            int length = 1 + random.nextInt(300);
+            List<FastaSequence> seqs = sequences(random, 1 + random.nextInt(300), length, 1 + random.nextInt(10),
+                    random.nextDouble() * 0.05, random.nextDouble() * 0.1, random.nextDouble() * 0.1);
+            for (int limit : new int[] {0, 1, 2, 3, length, length + 1})
+                for (boolean gapsAsMissing : new boolean[] {false, true})
+                    for (boolean countMissing : new boolean[] {false, true})
+                        check(seqs, gapsAsMissing, countMissing, limit);
+        }
+    }
+
+    @Test
+    public void hugeLimits()
+    {
+        Random random = new Random(9);
+        int length = 40;
+        List<FastaSequence> seqs = sequences(random, 60, length, 3, 0.3, 0.1, 0.1);
+        for (int limit : new int[] {length - 1, length, length + 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE})
+            for (boolean gapsAsMissing : new boolean[] {false, true})
+                for (boolean countMissing : new boolean[] {false, true})
+                    check(seqs, gapsAsMissing, countMissing, limit);
+    }
+
+    @Test
+    public void sparseWildcards()
+    {
+        //Segments with and without wildcards, in queries and kept haplotypes
+        Random random = new Random(13);
+        List<FastaSequence> seqs = sequences(random, 500, 600, 300, 0.002, 0.002, 0.002);
+        for (int limit = 0; limit <= 3; limit++)
+            for (boolean gapsAsMissing : new boolean[] {false, true})
+                check(seqs, gapsAsMissing, false, limit);
+    }
+
+    @Test
+    public void wildcardDense()
+    {
+        //Half of the sites are missing data, so every segment has wildcards
+        Random random = new Random(11);
+        int limit = 2;
+        List<FastaSequence> seqs = sequences(random, 800, 600, 600, 0.001, 0.5, 0);
+        check(seqs, false, false, limit);
+
+        //Every sequence is compared to a few kept haplotypes only
+        Collapser collapser = new Collapser(false, false, limit);
+        collapser.addAll(seqs, 1);
+        long kept = (long) scan(seqs, false, false, limit).size() * seqs.size();
+        long candidates = 0;
+        for (FastaSequence seq : seqs)
+            candidates += collapser.candidates(seq);
+        assertTrue(candidates + " candidates out of " + kept, candidates * 10 < kept);
+    }
+
+    /**
+     * Checks that the collapse of some sequences, with 1 and 4 threads, keeps
+     * the same haplotypes as the linear scan, and removes the same sequences
+     * for each of them.
+     * @param seqs Sequences.
+     * @param gapsAsMissing Treat gaps as missing data.
+     * @param countMissing Count missing data as differences.
+     * @param limit Connection limit.
+     */
+    static void check(List<FastaSequence> seqs, boolean gapsAsMissing, boolean countMissing, int limit)
+    {
+        Map<String, List<String>> expected = scan(seqs, gapsAsMissing, countMissing, limit);
+        for (int threads : new int[] {1, 4})
+        {
+            String options = "gapsAsMissing=" + gapsAsMissing + ", countMissing=" + countMissing + ", limit="
+                    + limit + ", threads=" + threads;
+            assertEquals(options, expected, collapse(seqs, gapsAsMissing, countMissing, limit, threads));
+        }
+    }
+
+    /**
+     * Collapses some sequences with MSA.collapse.
+     * @param seqs Sequences.
+     * @param gapsAsMissing Treat gaps as missing data.
+     * @param countMissing Count missing data as differences.
+     * @param limit Connection limit.
+     * @param threads Number of threads.
+     * @return Identifiers of the sequences removed for every kept haplotype,
+     * by haplotype identifier in MSA order.
+     */
+    private static Map<String, List<String>> collapse(List<FastaSequence> seqs, boolean gapsAsMissing,
+            boolean countMissing, int limit, int threads)
+    {
+        final List<String> removed = new ArrayList<String>();
+        Logger logger = Logger.getLogger(CollapserTest.class.getName());
+        logger.setUseParentHandlers(false);
+        Handler handler = new Handler()
+        {
+            @Override
+            public void publish(LogRecord record)
+            {
+                removed.add(record.getMessage());
+            }
+
+            @Override
+            public void flush()
+            {
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+        logger.addHandler(handler);
+        MSA collapsed;
+        try
+        {
+            collapsed = new Fasta(new Vector<FastaSequence>(seqs)).collapse(gapsAsMissing, countMissing, limit,
+                    threads, logger.getName());
+        }
+        finally
+        {
+            logger.removeHandler(handler);
+        }
+
+        Map<String, List<String>> haplotypes = new LinkedHashMap<String, List<String>>();
+        for (Object seq : collapsed.getSeqs())
+            haplotypes.put(((Sequence) seq).getId(), new ArrayList<String>());
+        for (String message : removed)
+        {
+            Matcher matcher = REMOVED.matcher(message);
+            assertEquals(message, true, matcher.matches());
+            haplotypes.get(matcher.group(2)).add(matcher.group(1));
+        }
+        return haplotypes;
+    }
+
+    /**
+     * Collapses some sequences comparing each of them, site by site, to
+     * every haplotype kept before it.
+     * @param seqs Sequences.
+     * @param gapsAsMissing Treat gaps as missing data.
+     * @param countMissing Count missing data as differences.
+     * @param limit Connection limit.
+     * @return Identifiers of the sequences removed for every kept haplotype,
+     * by haplotype identifier in MSA order.
+     */
+    static Map<String, List<String>> scan(List<FastaSequence> seqs, boolean gapsAsMissing, boolean countMissing,
+            int limit)
+    {
+        Map<String, List<String>> haplotypes = new LinkedHashMap<String, List<String>>();
+        List<String> kept = new ArrayList<String>();
+        for (FastaSequence seq : seqs)
+        {
+            String data = seq.getData();
+            String unique = null;
+            for (int k = 0; k < kept.size() && unique == null; k++)
+            {
+                String other = kept.get(k);
+                int diff = 0;
+                int miss = 0;
+                int gaps = 0;
+                for (int i = 0; i < data.length(); i++)
+                {
+                    char c1 = data.charAt(i);
+                    char c2 = other.charAt(i);
+                    if (c1 == c2)
+                        continue;
+                    else if (c1 == '?' || c2 == '?')
+                        miss++;
+                    else if (c1 == '-' || c2 == '-')
+                        gaps++;
+                    else
+                        diff++;
+                }
+                if (gapsAsMissing)
+                    miss += gaps;
+                else
+                    diff += gaps;
+                if (countMissing)
+                    diff += miss;
+                if (diff <= limit)
+                    unique = new ArrayList<String>(haplotypes.keySet()).get(k);
+            }
+            if (unique == null)
+            {
+                haplotypes.put(seq.getId(), new ArrayList<String>());
+                kept.add(data);
+            }
+            else
+                haplotypes.get(unique).add(seq.getId());
+        }
+        return haplotypes;
+    }
+
+    /**
+     * Generates sequences as mutated copies of a few ancestors.
+     * @param random Random generator.
+     * @param count Number of sequences.
+     * @param length Sequence length.
+     * @param ancestors Number of ancestors.
+     * @param mutations Probability of a site to be mutated.
+     * @param missing Probability of a site to hold missing data.
+     * @param gaps Probability of a site to hold a gap.
+     * @return Generated sequences.
+     */
+    static List<FastaSequence> sequences(Random random, int count, int length, int ancestors, double mutations,
+            double missing, double gaps)
+    {
+        String residues = "ACGT";
+        char[][] roots = new char[ancestors][length];
+        for (char[] root : roots)
+            for (int i = 0; i < length; i++)
+                root[i] = residues.charAt(random.nextInt(residues.length()));
+
+        List<FastaSequence> seqs = new ArrayList<FastaSequence>();
+        for (int n = 0; n < count; n++)
+        {
+            char[] data = roots[random.nextInt(ancestors)].clone();
+            for (int i = 0; i < length; i++)
+            {
+                double p = random.nextDouble();
+                if (p < missing)
+                    data[i] = '?';
+                else if (p < missing + gaps)
+                    data[i] = '-';
+                else if (random.nextDouble() < mutations)
+                    data[i] = residues.charAt(random.nextInt(residues.length()));
+            }
+            seqs.add(new FastaSequence("s" + n, "", new String(data)));
+        }
+        return seqs;
+    }
+}
@@ -29,8 +29,10 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.io.IOUtils;
 import org.zkoss.util.media.Media;
+import org.zkoss.zk.ui.Desktop;
 import org.zkoss.zk.ui.Executions;
 import org.zkoss.zk.ui.event.UploadEvent;
+import org.zkoss.zk.ui.util.DesktopCleanup;
 import org.zkoss.zul.Button;
 import org.zkoss.zul.Center;
 import org.zkoss.zul.Checkbox;
@@ -53,10 +55,11 @@ import es.uvigo.ei.sing.alter.reader.Reader;
 import es.uvigo.ei.sing.alter.types.MSA;
 import es.uvigo.ei.sing.alter.writer.Writer;
 
-public class Controller extends Window
+public class Controller extends Window implements DesktopCleanup
 {
     Logger logger;
     MSA msa;
+    boolean cleanup = false;
     String ext = "";
     boolean collapsed;
     String filename = "";
@@ -147,7 +150,6 @@ public class Controller extends Window
 
     public void save()
     {
-        String out = outputText.toString();
         Listitem outputOSItem = ((Listbox) getFellow("outputOS")).getSelectedItem();
         if (outputOSItem == null)
             outputOSItem = ((Listbox) getFellow("outputOS")).getItemAtIndex(0);
@@ -180,11 +182,25 @@ public class Controller extends Window
             name += ".pir";
 
         if (outputOS.equals("Linux"))
-            Filedownload.save(out, null, name);
+            Filedownload.save(outputText.toString(), null, name);
         else if (outputOS.equals("MacOS"))
-            Filedownload.save(out.replace("\n", "\r"), null, name);
+            Filedownload.save(newLines(outputText, "\r"), null, name);
         else
-            Filedownload.save(out.replace("\n", "\r\n"), null, name);
+            Filedownload.save(newLines(outputText, "\r\n"), null, name);
+    }
+
+    //Copies the output replacing its "\n" new lines in a single pass
+    private static String newLines(StringBuffer text, String nl)
+    {
+        StringBuilder out = new StringBuilder(text.length() + text.length() / 32);
+        int from = 0;
+        for (int i = text.indexOf("\n"); i >= 0; i = text.indexOf("\n", from))
+        {
+            out.append(text, from, i).append(nl);
+            from = i + 1;
+        }
+        out.append(text, from, text.length());
+        return out.toString();
     }
 
     public void onAutodetectCheck()
@@ -703,7 +719,7 @@ public class Controller extends Window
         boolean countMissing = ((Checkbox) getFellow("countMissing")).isChecked();
         int limit = ((Spinner) getFellow("limit")).getValue().intValue();
 
-        String out = "";
+        StringBuffer out = new StringBuffer(20000);
         String outO = "Linux";
         String outP = ((Listbox) getFellow("outputProgram")).getSelectedItem().getLabel().substring(4);
         String outF = ((Listbox) getFellow("outputFormat")).getSelectedItem().getLabel();
@@ -725,12 +741,12 @@ public class Controller extends Window
                 logger.log(Level.INFO, "***[haplotype collapse begin]***");
                 MSA col = msa.collapse(gapsAsMissing, countMissing, limit, logger.getName());
                 logger.log(Level.INFO, "***[haplotype collapse end]***");
-                out = writer.write(col);
+                writer.write(col, out);
                 collapsed = true;
             }
             else
             {
-                out = writer.write(msa);
+                writer.write(msa, out);
                 collapsed = false;
             }
         }
@@ -748,9 +764,9 @@ public class Controller extends Window
         ((Button) getFellow("save")).setDisabled(false);
         ((Center) getFellow("step4")).setZclass("step4");
 
-        outputText = new StringBuffer(out);
+        outputText = out;
         if (out.length() < maxChars)
-            ((Textbox) getFellow("output")).setRawValue(out);
+            ((Textbox) getFellow("output")).setRawValue(out.toString());
         else
         {
             ((Textbox) getFellow("output")).setRawValue(outputText.substring(0, maxChars));
@@ -809,6 +825,9 @@ public class Controller extends Window
                 inF = ((Listbox) getFellow("inputFormat")).getSelectedItem().getLabel();
             }
 
+            //Release the off-heap storage of the previous MSA
+            release();
+
             //Get reader and read
             Factory factory = new DefaultFactory();
             Reader reader;
@@ -816,6 +835,12 @@ public class Controller extends Window
             {
                 reader = factory.getReader(inO, inP, inF, autodetect, logger.getName());
                 msa = reader.read(in);
+                //Release the MSA when the desktop is destroyed too
+                if (!cleanup)
+                {
+                    getDesktop().addListener(this);
+                    cleanup = true;
+                }
             }
             catch (ParseException ex)
             {
@@ -840,6 +865,20 @@ public class Controller extends Window
         }
     }
 
+    public void cleanup(Desktop desktop)
+    {
+        release();
+    }
+
+    void release()
+    {
+        if (msa != null)
+        {
+            msa.close();
+            msa = null;
+        }
+    }
+
     public void onPanelOpen()
     {
         North north = (North) getFellow("step3");
@@ -19,12 +19,14 @@ package es.uvigo.ei.sing.alter.web.rest;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import javax.ws.rs.Consumes;
 import javax.ws.rs.FormParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
@@ -93,6 +95,7 @@ class RestLogHandler extends Handler
 @Path("/")
 public class RestProvider {
 	@POST
+	@Consumes("application/x-www-form-urlencoded")
 	@Produces("text/plain")
 	@Path("/convert") 
 	public String getPathways(
@@ -104,6 +107,7 @@ public class RestProvider {
 	  @QueryParam("gapsAsMissing") boolean gapsAsMissing_QP,
 	  @QueryParam("countMissing") boolean countMissing_QP,
 	  @QueryParam("limit") int limit_QP,
+	  @QueryParam("threads") int threads_QP,
 	  @QueryParam("outO") String outO_QP,
 	  @QueryParam("outP") String outP_QP,
 	  @QueryParam("outF") String outF_QP,
@@ -119,6 +123,7 @@ public class RestProvider {
 	  @FormParam("gapsAsMissing") boolean gapsAsMissing_FP,
 	  @FormParam("countMissing") boolean countMissing_FP,
 	  @FormParam("limit") int limit_FP,
+	  @FormParam("threads") int threads_FP,
 	  @FormParam("outO") String outO_FP,
 	  @FormParam("outP") String outP_FP,
 	  @FormParam("outF") String outF_FP,
@@ -128,8 +133,6 @@ public class RestProvider {
 	  @FormParam("match") boolean match_FP,
 	  @FormParam("sequence") String sequence){
 	  
-	  StringBuffer result = new StringBuffer();
-	  try{
 	    // PARAMS
 	    String inO = inO_QP;
 	    if (inO == null && inO_FP !=null){
@@ -172,6 +175,11 @@ public class RestProvider {
 	      limit = limit_FP;
 	    }
 	    
+	    int threads = threads_QP;
+	    if (threads_QP==0 && threads_FP!=0){
+	      threads = threads_FP;
+	    }
+	    
 	    String outO = outO_QP;
 	    if (outO == null && outO_FP !=null){
 	      outO = outO_FP;
@@ -207,6 +215,43 @@ public class RestProvider {
 	      match = true;
 	    }
 
+	    return convert(inO, inP, inF, autodetect, collapse, gapsAsMissing, countMissing, limit, threads, outO, outP, outF, lowercase, resNumbers, sequential, match, sequence, null);
+	}
+	
+	@POST
+	@Consumes({"text/plain", "application/octet-stream"})
+	@Produces("text/plain")
+	@Path("/convert")
+	public String convertBody(
+	  @QueryParam("inO") String inO,
+	  @QueryParam("inP") String inP,
+	  @QueryParam("inF") String inF,
+	  @QueryParam("autodetect") boolean autodetect,
+	  @QueryParam("collapse") boolean collapse,
+	  @QueryParam("gapsAsMissing") boolean gapsAsMissing,
+	  @QueryParam("countMissing") boolean countMissing,
+	  @QueryParam("limit") int limit,
+	  @QueryParam("threads") int threads,
+	  @QueryParam("outO") String outO,
+	  @QueryParam("outP") String outP,
+	  @QueryParam("outF") String outF,
+	  @QueryParam("lowercase") boolean lowercase,
+	  @QueryParam("resNumbers") boolean resNumbers,
+	  @QueryParam("sequential") boolean sequential,
+	  @QueryParam("match") boolean match,
+	  InputStream sequence){
+	  
+	  //The request body is the input MSA, read as it arrives
+	  return convert(inO, inP, inF, autodetect, collapse, gapsAsMissing, countMissing, limit, threads, outO, outP, outF, lowercase, resNumbers, sequential, match, null, sequence);
+	}
+	
+	private String convert(String inO, String inP, String inF, boolean autodetect, boolean collapse, boolean gapsAsMissing, boolean countMissing, int limit, int threads, String outO, String outP, String outF, boolean lowercase, boolean resNumbers, boolean sequential, boolean match, String sequence, InputStream body){
+	  
+	  StringBuffer result = new StringBuffer();
+	  try{
+	    //Never use more threads than processors in the server
+	    threads = Math.min(threads, Runtime.getRuntime().availableProcessors());
+
 	    String currentLogger = ""+System.currentTimeMillis();
 	    Logger logger = Logger.getLogger(currentLogger);
 	    
@@ -216,7 +261,7 @@ public class RestProvider {
 	    logger.setLevel(Level.ALL);
 	    logger.addHandler(new RestLogHandler(info, error, warn));
 	    
-	    Converter conv = new DefaultFactory().getConverter(inO, inP, inF, autodetect, collapse, gapsAsMissing, countMissing, limit, outO, outP, outF, lowercase, resNumbers, sequential,match, currentLogger);
+	    Converter conv = new DefaultFactory().getConverter(inO, inP, inF, autodetect, collapse, gapsAsMissing, countMissing, limit, threads, outO, outP, outF, lowercase, resNumbers, sequential,match, currentLogger);
 	    
 	    
 	    result.append("------ CONVERSION RESULT -----\n");
@@ -236,12 +281,13 @@ public class RestProvider {
 	    result.append("gapsAsMissing: "+gapsAsMissing+"\n");
 	    result.append("countMissing: "+countMissing+"\n");
 	    result.append("limit: "+limit+"\n");
+	    result.append("threads: "+threads+"\n");
 	    
 	    
 	    
 	    
 	    try{	      
-	      String converted = conv.convert(sequence);
+	      String converted = body != null ? conv.convert(body) : conv.convert(sequence);
 	      result.append("\n------ Info Log -----\n");
 	      result.append(info.toString());
 	      result.append("\n------ Warning Log -----\n");